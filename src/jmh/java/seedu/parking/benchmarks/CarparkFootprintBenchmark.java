@@ -0,0 +1,60 @@
+package seedu.parking.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Measures the heap taken by each car park once loaded, which interning of the repeated values keeps small.
+ * The result to read is the {@code bytesPerCarpark} counter; the time includes full collections and means little.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CarparkFootprintBenchmark {
+
+    @Param({"2000", "20000", "200000"})
+    private int size;
+
+    @Benchmark
+    public List<Carpark> load(Footprint footprint) {
+        long before = usedHeapAfterGc();
+        List<Carpark> carparks = new SyntheticCarparkGenerator().generate(size);
+        footprint.bytesPerCarpark = (usedHeapAfterGc() - before) / size;
+        return carparks;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The heap footprint reported alongside the time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerCarpark;
+    }
+}
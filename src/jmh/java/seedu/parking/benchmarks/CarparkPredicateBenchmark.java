@@ -0,0 +1,84 @@
+package seedu.parking.benchmarks;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.parking.logic.parser.CarparkTypeParameter;
+import seedu.parking.logic.parser.FreeParkingParameter;
+import seedu.parking.logic.parser.ParkingSystemTypeParameter;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
+import seedu.parking.model.carpark.CarparkFilteringPredicate;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Measures testing every car park against the predicates of {@code find} and {@code filter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CarparkPredicateBenchmark {
+
+    @Param({"2000", "20000", "200000"})
+    private int size;
+
+    private List<Carpark> carparks;
+    private CarparkContainsKeywordsPredicate findPredicate;
+    private CarparkFilteringPredicate filterPredicate;
+
+    @Setup
+    public void setUp() throws Exception {
+        carparks = new SyntheticCarparkGenerator().generate(size);
+        findPredicate = new CarparkContainsKeywordsPredicate(Arrays.asList("punggol", "tamp"));
+
+        SimpleDateFormat timeFormat = new SimpleDateFormat("hh.mmaa");
+        filterPredicate = new CarparkFilteringPredicate(new ArrayList<>(Arrays.asList("sengkang", "bedok")),
+                new ArrayList<>(Arrays.asList("a/", "n/", "f/", "ct/", "ps/")),
+                new FreeParkingParameter("SUN", timeFormat.parse("07.30AM"), timeFormat.parse("05.30PM")),
+                new CarparkTypeParameter("MULTISTOREY"), new ParkingSystemTypeParameter("ELECTRONIC"));
+    }
+
+    @Benchmark
+    public int findPredicate() {
+        return countMatches(findPredicate);
+    }
+
+    @Benchmark
+    public int filterPredicate() {
+        return countMatches(filterPredicate);
+    }
+
+    @Benchmark
+    public List<Carpark> findRankTopTen() {
+        return findPredicate.rank(carparks, 10, true);
+    }
+
+    private int countMatches(Predicate<Carpark> predicate) {
+        int matches = 0;
+        for (Carpark carpark : carparks) {
+            if (predicate.test(carpark)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.parking.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.parking.model.CarparkTokenIndex;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Measures building the BK-tree of car park words and looking up misspelt keywords in it, as {@code find fz/} does.
+ * Every car park number is a distinct word, so the tree grows with the number of car parks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CarparkTokenIndexBenchmark {
+
+    @Param({"2000", "20000", "200000"})
+    private int size;
+
+    private List<Carpark> carparks;
+    private CarparkTokenIndex index;
+
+    @Setup
+    public void setUp() {
+        carparks = new SyntheticCarparkGenerator().generate(size);
+        index = new CarparkTokenIndex(carparks);
+    }
+
+    @Benchmark
+    public CarparkTokenIndex build() {
+        return new CarparkTokenIndex(carparks);
+    }
+
+    @Benchmark
+    public List<String> findSimilarWord() {
+        return index.findSimilar("pungol");
+    }
+
+    @Benchmark
+    public List<String> findSimilarCarparkNumber() {
+        return index.findSimilar("TP1234");
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.parking.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.parking.model.carpark.Address;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.CarparkNumber;
+import seedu.parking.model.carpark.CarparkType;
+import seedu.parking.model.carpark.Coordinate;
+import seedu.parking.model.carpark.FreeParking;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.NightParking;
+import seedu.parking.model.carpark.PostalCode;
+import seedu.parking.model.carpark.ShortTerm;
+import seedu.parking.model.carpark.TotalLots;
+import seedu.parking.model.carpark.TypeOfParking;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Measures validating and constructing a car park from the strings of its fields, as {@code query} and loading the
+ * data file do for every car park. Each result is the time per car park over a load of 200,000 car parks.
+ * {@code validateWithRegex} and {@code constructWithRegex} call {@code String#matches} as the value classes used to,
+ * and are the baseline for {@code validate} and {@code construct}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CarparkValidationBenchmark {
+
+    private static final int SIZE = 200000;
+
+    private String[][] fields;
+
+    @Setup
+    public void setUp() {
+        List<Carpark> carparks = new SyntheticCarparkGenerator().generate(SIZE);
+        fields = new String[SIZE][];
+        for (int i = 0; i < SIZE; i++) {
+            Carpark carpark = carparks.get(i);
+            fields[i] = new String[] {carpark.getAddress().toString(), carpark.getCarparkNumber().toString(),
+                carpark.getCarparkType().toString(), carpark.getCoordinate().toString(),
+                carpark.getFreeParking().toString(), carpark.getLotsAvailable().toString(),
+                carpark.getNightParking().toString(), carpark.getShortTerm().toString(),
+                carpark.getTotalLots().toString(), carpark.getTypeOfParking().toString(),
+                carpark.getPostalCode().toString()};
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int validateWithRegex() {
+        int valid = 0;
+        for (String[] carpark : fields) {
+            if (isValidWithRegex(carpark)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int validate() {
+        int valid = 0;
+        for (String[] carpark : fields) {
+            if (isValid(carpark)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Carpark> constructWithRegex() {
+        List<Carpark> carparks = new ArrayList<>(SIZE);
+        for (String[] carpark : fields) {
+            if (isValidWithRegex(carpark)) {
+                carparks.add(toCarpark(carpark));
+            }
+        }
+        return carparks;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Carpark> construct() {
+        List<Carpark> carparks = new ArrayList<>(SIZE);
+        for (String[] carpark : fields) {
+            carparks.add(toCarpark(carpark));
+        }
+        return carparks;
+    }
+
+    private static boolean isValidWithRegex(String[] carpark) {
+        return carpark[0].matches(Address.ADDRESS_VALIDATION_REGEX)
+                && carpark[1].matches(CarparkNumber.CAR_NUM_VALIDATION_REGEX)
+                && carpark[2].matches(CarparkType.CAR_TYPE_VALIDATION_REGEX)
+                && carpark[3].matches(Coordinate.COORD_VALIDATION_REGEX)
+                && carpark[4].matches(FreeParking.FREE_PARK_VALIDATION_REGEX)
+                && carpark[5].matches(LotsAvailable.LOTS_AVAIL_VALIDATION_REGEX)
+                && carpark[6].matches(NightParking.NIGHT_PARK_VALIDATION_REGEX)
+                && carpark[7].matches(ShortTerm.SHORT_TERM_VALIDATION_REGEX)
+                && carpark[8].matches(TotalLots.TOTAL_LOTS_VALIDATION_REGEX)
+                && carpark[9].matches(TypeOfParking.TYPE_PARK_VALIDATION_REGEX)
+                && carpark[10].matches(PostalCode.POSTALCODE_VALIDATION_REGEX);
+    }
+
+    private static boolean isValid(String[] carpark) {
+        return Address.isValidAddress(carpark[0])
+                && CarparkNumber.isValidCarparkNumber(carpark[1])
+                && CarparkType.isValidCarType(carpark[2])
+                && Coordinate.isValidCoordinate(carpark[3])
+                && FreeParking.isValidFreePark(carpark[4])
+                && LotsAvailable.isValidLotsAvailable(carpark[5])
+                && NightParking.isValidNightPark(carpark[6])
+                && ShortTerm.isValidShortTerm(carpark[7])
+                && TotalLots.isValidTotalLots(carpark[8])
+                && TypeOfParking.isValidTypePark(carpark[9])
+                && PostalCode.isValidPostalCode(carpark[10]);
+    }
+
+    /**
+     * Constructs a car park the way {@code QueryCommand} does.
+     */
+    private static Carpark toCarpark(String[] carpark) {
+        return new Carpark(new Address(carpark[0]), new CarparkNumber(carpark[1]), CarparkType.of(carpark[2]),
+                new Coordinate(carpark[3]), FreeParking.of(carpark[4]), new LotsAvailable(carpark[5]),
+                NightParking.of(carpark[6]), ShortTerm.of(carpark[7]), new TotalLots(carpark[8]),
+                TypeOfParking.of(carpark[9]), new PostalCode(carpark[10]), null);
+    }
+}
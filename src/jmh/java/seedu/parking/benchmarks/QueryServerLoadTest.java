@@ -0,0 +1,183 @@
+package seedu.parking.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.collections.FXCollections;
+import seedu.parking.commons.core.LatencyHistogram;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.server.CarparkQueryServer;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Sends a mix of {@code /find}, {@code /filter}, {@code /carpark} and {@code /calculate} requests to a
+ * {@link CarparkQueryServer} from many clients at once, and reports the p50, p90 and p99 latency of each endpoint,
+ * the requests answered per second and how many were turned away as busy.
+ * Requests are made up from generated car parks. Unless a server is given, one is started on this machine to serve
+ * those car parks.
+ *
+ * <p>Options: {@code --url URL} of a running server, {@code --carparks N}, {@code --workers N} and
+ * {@code --queue N} of the server started otherwise, {@code --clients N}, {@code --warmup SECONDS} and
+ * {@code --duration SECONDS}.
+ */
+public class QueryServerLoadTest {
+
+    private static final String[] DAYS = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
+    private static final String[] FILTER_FLAGS = {"a/", "n/", "ct/ multistorey", "ps/ electronic", "a/ ct/ surface"};
+
+    private final List<String> keywords = new ArrayList<>();
+    private final List<String> carparkNumbers = new ArrayList<>();
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final AtomicLong busyCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private QueryServerLoadTest(List<Carpark> carparks) {
+        for (Carpark carpark : carparks) {
+            carparkNumbers.add(carpark.getCarparkNumber().value);
+            // the word after the block number, which is the first word of the town
+            keywords.add(carpark.getAddress().toString().split(" ")[2].toLowerCase());
+        }
+        for (String endpoint : new String[] {"find", "filter", "carpark", "calculate"}) {
+            latencies.put(endpoint, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Runs the load test and prints its report.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        int carparkCount = Integer.parseInt(options.getOrDefault("carparks", "20000"));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "32"));
+        long warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "5"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "20"));
+
+        List<Carpark> carparks = new SyntheticCarparkGenerator().generate(carparkCount);
+        CarparkQueryServer server = null;
+        String url = options.get("url");
+        if (url == null) {
+            server = new CarparkQueryServer(() -> FXCollections.observableList(carparks),
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                    Integer.parseInt(options.getOrDefault("workers", "" + CarparkQueryServer.DEFAULT_WORKER_COUNT)),
+                    Integer.parseInt(options.getOrDefault("queue", "" + CarparkQueryServer.DEFAULT_QUEUE_CAPACITY)));
+            server.start();
+            url = "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort();
+        }
+
+        System.out.println("Warming up for " + warmupSeconds + "s");
+        new QueryServerLoadTest(carparks).run(url, clients, warmupSeconds);
+        System.out.println("Sending requests from " + clients + " clients for " + durationSeconds + "s");
+        QueryServerLoadTest loadTest = new QueryServerLoadTest(carparks);
+        long requests = loadTest.run(url, clients, durationSeconds);
+        loadTest.report(requests, durationSeconds);
+
+        if (server != null) {
+            server.close();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Sends requests to {@code url} from {@code clients} threads for {@code seconds}, and returns how many were sent.
+     */
+    private long run(String url, int clients, long seconds) throws Exception {
+        long endNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<Long>> sent = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Random random = new Random(i);
+            sent.add(executor.submit(() -> {
+                long count = 0;
+                while (System.nanoTime() < endNanos) {
+                    sendRandomRequest(url, random);
+                    count++;
+                }
+                return count;
+            }));
+        }
+        long total = 0;
+        for (Future<Long> count : sent) {
+            total += count.get();
+        }
+        executor.shutdown();
+        return total;
+    }
+
+    private void sendRandomRequest(String url, Random random) {
+        String keyword = keywords.get(random.nextInt(keywords.size()));
+        String carparkNumber = carparkNumbers.get(random.nextInt(carparkNumbers.size()));
+        int kind = random.nextInt(10);
+        // mostly searches, as a client looking for somewhere to park would send
+        if (kind < 5) {
+            send("find", url + "/find?keywords=" + keyword + "&top=10"
+                    + (random.nextBoolean() ? "&available=true" : ""));
+        } else if (kind < 7) {
+            send("filter", url + "/filter?keywords=" + keyword + "&flags="
+                    + encode(FILTER_FLAGS[random.nextInt(FILTER_FLAGS.length)]));
+        } else if (kind < 9) {
+            send("carpark", url + "/carpark/" + carparkNumber);
+        } else {
+            send("calculate", url + "/calculate?carpark=" + carparkNumber + "&day=" + DAYS[random.nextInt(7)]
+                    + "&start=" + (7 + random.nextInt(4)) + ".00am&end=" + (1 + random.nextInt(8)) + ".30pm");
+        }
+    }
+
+    /**
+     * Sends a GET for {@code requestUrl} and records its latency under {@code endpoint}, or counts it as busy or
+     * failed instead.
+     */
+    private void send(String endpoint, String requestUrl) {
+        long startNanos = System.nanoTime();
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(requestUrl).openConnection();
+            int status = connection.getResponseCode();
+            try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                while (body != null && body.read() >= 0) {
+                    // reads the whole body so that the connection can be kept alive
+                }
+            }
+            if (status == 503) {
+                busyCount.incrementAndGet();
+                return;
+            }
+            // 400 and 404 are answers too, e.g. a car park with no short-term parking to calculate the cost of
+            latencies.get(endpoint).record(System.nanoTime() - startNanos);
+        } catch (IOException e) {
+            failureCount.incrementAndGet();
+        }
+    }
+
+    private static String encode(String text) {
+        try {
+            return URLEncoder.encode(text, StandardCharsets.UTF_8.name());
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private void report(long requests, long seconds) {
+        System.out.println(String.format("%d requests, %.1f per second, %d busy (503), %d failed", requests,
+                (double) requests / seconds, busyCount.get(), failureCount.get()));
+        latencies.forEach((endpoint, latency) -> System.out.println(String.format("%-10s %s", endpoint, latency)));
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.parking.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import seedu.parking.commons.core.EventsCenter;
+import seedu.parking.commons.core.EventsCenter.Affinity;
+import seedu.parking.commons.core.MetricsCenter;
+import seedu.parking.commons.events.model.DataFetchExceptionEvent;
+import seedu.parking.logic.CommandHistory;
+import seedu.parking.logic.commands.QueryCommand;
+import seedu.parking.model.CarparkFinder;
+import seedu.parking.model.Model;
+import seedu.parking.model.ModelManager;
+import seedu.parking.model.UserPrefs;
+import seedu.parking.storage.JsonUserPrefsStorage;
+import seedu.parking.storage.StorageManager;
+import seedu.parking.storage.XmlCarparkFinderStorage;
+import seedu.parking.testutil.LocalCarparkApi;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Runs the whole {@code query} refresh against car park API responses served from this machine: fetching, joining,
+ * reading, loading, committing and comparing the car parks, and saving them to a data file.
+ * Reports the median wall time and allocation of each stage and the garbage collections of each run, and writes
+ * them as JSON. Given the JSON of an earlier build, it fails when a stage has become slower, so it can gate a build.
+ *
+ * <p>Options: {@code --carparks N}, {@code --warmups N}, {@code --runs N}, {@code --recorded DIR} to serve
+ * responses recorded from data.gov.sg instead of generated ones, {@code --results FILE}, {@code --baseline FILE}
+ * and {@code --tolerance FRACTION}.
+ */
+public class RefreshPipelineBenchmark {
+
+    public static final String TOTAL_STAGE = "total";
+
+    /** Stages that are faster than this are too noisy to fail a build, however much slower they become. */
+    private static final double MIN_REGRESSION_MILLIS = 5;
+    private static final long STORAGE_TIMEOUT_SECONDS = 60;
+
+    private final Map<String, String> options;
+    private final Path workingDirectory;
+
+    private RefreshPipelineBenchmark(Map<String, String> options) throws IOException {
+        this.options = options;
+        this.workingDirectory = Files.createTempDirectory("refresh-benchmark");
+    }
+
+    /**
+     * Runs the benchmark, exiting with status 1 if a stage regressed against the baseline.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+
+        boolean hasRegressed = new RefreshPipelineBenchmark(options).run();
+        // the executors of query commands are not daemons, so the benchmark has to exit on its own
+        System.exit(hasRegressed ? 1 : 0);
+    }
+
+    private int getOption(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    /**
+     * Runs the benchmark and returns whether a stage regressed against the baseline, if one was given.
+     */
+    private boolean run() throws Exception {
+        int warmups = getOption("warmups", 2);
+        int runs = getOption("runs", 5);
+        int carparkCount = getOption("carparks", 2000);
+
+        List<Map<String, double[]>> results = new ArrayList<>();
+        try (LocalCarparkApi api = startApi(carparkCount).install()) {
+            for (int i = 0; i < warmups + runs; i++) {
+                Map<String, double[]> result = runOnce();
+                if (i >= warmups) {
+                    results.add(result);
+                }
+                System.out.println((i < warmups ? "Warmup " : "Run ") + (i + 1) + ": "
+                        + String.format("%.1fms", result.get(TOTAL_STAGE)[0]));
+            }
+        }
+
+        JsonObject summary = summarize(results);
+        summary.addProperty("carparks", options.containsKey("recorded") ? options.get("recorded") : "" + carparkCount);
+        summary.addProperty("runs", runs);
+        Path resultsFile = Paths.get(options.getOrDefault("results", "build/reports/refresh/results.json"));
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        Files.write(resultsFile, gson.toJson(summary).getBytes(StandardCharsets.UTF_8));
+        System.out.println(gson.toJson(summary));
+        System.out.println("Results written to " + resultsFile);
+
+        if (!options.containsKey("baseline")) {
+            return false;
+        }
+        JsonObject baseline = gson.fromJson(new String(Files.readAllBytes(Paths.get(options.get("baseline"))),
+                StandardCharsets.UTF_8), JsonObject.class);
+        double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.2"));
+        return compare(summary, baseline, tolerance);
+    }
+
+    private LocalCarparkApi startApi(int carparkCount) throws IOException {
+        if (options.containsKey("recorded")) {
+            return LocalCarparkApi.fromDirectory(Paths.get(options.get("recorded")));
+        }
+        return LocalCarparkApi.of(new SyntheticCarparkGenerator().generate(carparkCount));
+    }
+
+    /**
+     * Refreshes an empty car park finder once, and returns the wall time in milliseconds and megabytes allocated
+     * of each stage, along with the number and milliseconds of garbage collections.
+     */
+    private Map<String, double[]> runOnce() throws Exception {
+        EventsCenter.clearSubscribers();
+        MetricsCenter.getInstance().clear();
+        Path dataFile = workingDirectory.resolve("carparkfinder.xml");
+        Files.deleteIfExists(dataFile);
+        new StorageManager(new XmlCarparkFinderStorage(dataFile),
+                new JsonUserPrefsStorage(workingDirectory.resolve("preferences.json")));
+        Model model = new ModelManager(new CarparkFinder(), new UserPrefs());
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        EventsCenter.getInstance().subscribe(DataFetchExceptionEvent.class, Affinity.DIRECT, event ->
+                failure.set(event.exception));
+
+        System.gc();
+        long[] gcBefore = getGarbageCollections();
+        long startNanos = System.nanoTime();
+
+        QueryCommand command = new QueryCommand();
+        command.execute(model, new CommandHistory());
+        command.getFuture().get();
+        if (!EventsCenter.getInstance().awaitStorageHandlers(STORAGE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Timed out waiting for the car parks to be saved");
+        }
+
+        long totalNanos = System.nanoTime() - startNanos;
+        long[] gcAfter = getGarbageCollections();
+        if (failure.get() != null) {
+            throw new IllegalStateException("Refresh failed", failure.get());
+        }
+
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        Map<String, double[]> result = new TreeMap<>();
+        for (String stage : metrics.getStages()) {
+            result.put(stage, new double[] {metrics.getStageLatency(stage).getAverageMillis(),
+                metrics.getStageAllocatedBytes(stage) / 1e6});
+        }
+        result.put(TOTAL_STAGE, new double[] {totalNanos / 1e6, Double.NaN});
+        result.put("gc", new double[] {gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]});
+        return result;
+    }
+
+    /**
+     * Returns the number and total milliseconds of garbage collections so far.
+     */
+    private static long[] getGarbageCollections() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return new long[] {count, millis};
+    }
+
+    /**
+     * Returns the medians of every stage over {@code results}.
+     */
+    private static JsonObject summarize(List<Map<String, double[]>> results) {
+        JsonObject stages = new JsonObject();
+        for (String stage : results.get(0).keySet()) {
+            if (stage.equals("gc")) {
+                continue;
+            }
+            JsonObject summary = new JsonObject();
+            summary.addProperty("medianMillis", median(results, stage, 0));
+            double allocated = median(results, stage, 1);
+            if (!Double.isNaN(allocated)) {
+                summary.addProperty("medianAllocatedMegabytes", allocated);
+            }
+            stages.add(stage, summary);
+        }
+
+        JsonObject gc = new JsonObject();
+        gc.addProperty("medianCollections", median(results, "gc", 0));
+        gc.addProperty("medianPauseMillis", median(results, "gc", 1));
+
+        JsonObject summary = new JsonObject();
+        summary.add("stages", stages);
+        summary.add("gc", gc);
+        return summary;
+    }
+
+    private static double median(List<Map<String, double[]>> results, String stage, int index) {
+        List<Double> values = new ArrayList<>();
+        for (Map<String, double[]> result : results) {
+            values.add(result.containsKey(stage) ? result.get(stage)[index] : Double.NaN);
+        }
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+
+    /**
+     * Prints how each stage compares with {@code baseline}, and returns whether any stage became slower by more
+     * than {@code tolerance}.
+     */
+    private static boolean compare(JsonObject current, JsonObject baseline, double tolerance) {
+        boolean hasRegressed = false;
+        JsonObject baselineStages = baseline.getAsJsonObject("stages");
+        for (Map.Entry<String, JsonElement> entry : current.getAsJsonObject("stages").entrySet()) {
+            String stage = entry.getKey();
+            if (!baselineStages.has(stage)) {
+                continue;
+            }
+            double now = entry.getValue().getAsJsonObject().get("medianMillis").getAsDouble();
+            double before = baselineStages.getAsJsonObject(stage).get("medianMillis").getAsDouble();
+            boolean isRegression = now > before * (1 + tolerance) && now - before > MIN_REGRESSION_MILLIS;
+            hasRegressed |= isRegression;
+            System.out.println(String.format("%-28s %10.1fms -> %10.1fms %s", stage, before, now,
+                    isRegression ? "REGRESSED" : ""));
+        }
+        return hasRegressed;
+    }
+}
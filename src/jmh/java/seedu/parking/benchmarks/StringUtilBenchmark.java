@@ -0,0 +1,66 @@
+package seedu.parking.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.parking.commons.util.StringUtil;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Measures matching a keyword against the addresses of all car parks, the core of {@code find} and {@code filter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StringUtilBenchmark {
+
+    @Param({"2000", "20000", "200000"})
+    private int size;
+
+    private String[] addresses;
+
+    @Setup
+    public void setUp() {
+        addresses = new SyntheticCarparkGenerator().generate(size).stream()
+                .map(Carpark::getAddress)
+                .map(Object::toString)
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public int containsWordIgnoreCase() {
+        int matches = 0;
+        for (String address : addresses) {
+            if (StringUtil.containsWordIgnoreCase(address, "punggol")) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int containsPartialWordIgnoreCase() {
+        int matches = 0;
+        for (String address : addresses) {
+            if (StringUtil.containsPartialWordIgnoreCase(address, "pung")) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.parking.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.UniqueCarparkList;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Measures replacing all the car parks of a {@code UniqueCarparkList}, as every {@code query} does.
+ * Each replacement is timed once, as checking that the car parks are unique takes seconds for the largest sets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UniqueCarparkListBenchmark {
+
+    @Param({"2000", "20000", "200000"})
+    private int size;
+
+    private List<Carpark> carparks;
+    private UniqueCarparkList list;
+
+    @Setup
+    public void setUp() {
+        carparks = new SyntheticCarparkGenerator().generate(size);
+        list = new UniqueCarparkList();
+    }
+
+    @Benchmark
+    public UniqueCarparkList setCarparks() {
+        list.setCarparks(carparks);
+        return list;
+    }
+}
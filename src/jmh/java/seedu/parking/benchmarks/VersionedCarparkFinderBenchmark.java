@@ -0,0 +1,59 @@
+package seedu.parking.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.parking.model.CarparkFinder;
+import seedu.parking.model.VersionedCarparkFinder;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+/**
+ * Measures saving a state of the car park finder for undo, as every {@code query} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VersionedCarparkFinderBenchmark {
+
+    @Param({"2000", "20000", "200000"})
+    private int size;
+
+    private CarparkFinder carparkFinder;
+    private VersionedCarparkFinder versionedCarparkFinder;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        carparkFinder = new CarparkFinder();
+        carparkFinder.setCarparks(new SyntheticCarparkGenerator().generate(size));
+    }
+
+    /**
+     * Starts every commit from a history of one state, so that the history does not grow across invocations.
+     * A commit takes at least milliseconds, which is long enough for a setup per invocation not to skew it.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        versionedCarparkFinder = new VersionedCarparkFinder(carparkFinder);
+    }
+
+    @Benchmark
+    public VersionedCarparkFinder commit() {
+        versionedCarparkFinder.commit();
+        return versionedCarparkFinder;
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.parking;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.parking.commons.core.EventsCenter;
+import seedu.parking.commons.core.LogsCenter;
+import seedu.parking.commons.util.StringUtil;
+import seedu.parking.logic.BatchRunner;
+import seedu.parking.logic.BatchRunner.BatchSummary;
+import seedu.parking.logic.LogicManager;
+import seedu.parking.server.CarparkQueryServer;
+import seedu.parking.storage.CarparkFinderStorage;
+import seedu.parking.storage.JsonUserPrefsStorage;
+import seedu.parking.storage.StorageManager;
+import seedu.parking.storage.UserPrefsStorage;
+import seedu.parking.storage.XmlCarparkFinderStorage;
+
+/**
+ * Runs a script of commands on the saved car parks without starting the UI, writing the result of each command
+ * as a line of JSON, and reports how many commands it ran per second. It can instead serve lookups of the car
+ * parks over HTTP with a {@link CarparkQueryServer}.
+ * Only the model, logic and storage are started, with the same config, preferences and data file as the app.
+ */
+public class HeadlessApp extends MainApp {
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessApp [--config FILE] [--input SCRIPT] [--output FILE]"
+            + " [--no-carparks]\n"
+            + "       HeadlessApp [--config FILE] --serve PORT [--workers COUNT]\n"
+            + "Runs the commands in SCRIPT, or standard input, and writes their results as JSON lines to FILE,"
+            + " or standard output.\n"
+            + "--no-carparks leaves out the car parks shown after each command.\n"
+            + "--serve answers car park lookups over HTTP on PORT instead, with COUNT worker threads.";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Starts the model, logic and storage, using the config file at {@code configPath} or the default one if null.
+     */
+    public void init(Path configPath) {
+        logger.info("=============================[ Initializing Car Park Finder (headless) ]================");
+        config = initConfig(configPath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        userPrefs = initPrefs(userPrefsStorage);
+        CarparkFinderStorage carparkFinderStorage = new XmlCarparkFinderStorage(userPrefs.getCarparkFinderFilePath());
+        storage = new StorageManager(carparkFinderStorage, userPrefsStorage);
+
+        LogsCenter.init(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model);
+    }
+
+    /**
+     * Runs every command in {@code script}, writing their results to {@code output}.
+     */
+    public BatchSummary run(BufferedReader script, Writer output, boolean isShowingCarparks)
+            throws IOException, InterruptedException {
+        BatchSummary summary;
+        try (BatchRunner runner = new BatchRunner(logic, isShowingCarparks)) {
+            summary = runner.run(script, output);
+        }
+        logger.info(summary.toString());
+        return summary;
+    }
+
+    /**
+     * Starts answering car park lookups over HTTP on {@code port}, with {@code workerCount} worker threads.
+     */
+    public CarparkQueryServer serve(int port, int workerCount) throws IOException {
+        CarparkQueryServer server = new CarparkQueryServer(model.getSnapshot(), new InetSocketAddress(port),
+                workerCount, CarparkQueryServer.DEFAULT_QUEUE_CAPACITY);
+        server.start();
+        return server;
+    }
+
+    /**
+     * Finishes saving the car parks. Unlike the app, it leaves the preferences as they were.
+     */
+    @Override
+    public void stop() {
+        logger.info("============================ [ Stopping Car Park Finder (headless) ] ==================");
+        if (!EventsCenter.getInstance().awaitStorageHandlers(STORAGE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warning("Timed out waiting for pending saves to finish");
+        }
+        try {
+            storage.saveCarparkFinder(model.getSnapshot());
+        } catch (IOException e) {
+            logger.severe("Failed to save car parks " + StringUtil.getDetails(e));
+        }
+        LogsCenter.close();
+    }
+
+    public static void main(String[] args) {
+        Path configPath = null;
+        Path inputPath = null;
+        Path outputPath = null;
+        boolean isShowingCarparks = true;
+        Integer servePort = null;
+        int workerCount = CarparkQueryServer.DEFAULT_WORKER_COUNT;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case "--config":
+                configPath = getPathArgument(args, ++i);
+                break;
+            case "--input":
+                inputPath = getPathArgument(args, ++i);
+                break;
+            case "--output":
+                outputPath = getPathArgument(args, ++i);
+                break;
+            case "--serve":
+                servePort = getIntArgument(args, ++i);
+                break;
+            case "--workers":
+                workerCount = getIntArgument(args, ++i);
+                break;
+            case "--no-carparks":
+                isShowingCarparks = false;
+                break;
+            default:
+                exitWithUsage();
+            }
+        }
+
+        HeadlessApp app = new HeadlessApp();
+        app.init(configPath);
+        if (servePort != null) {
+            serveUntilStopped(app, servePort, workerCount);
+            return;
+        }
+
+        int status = 0;
+        try (BufferedReader script = inputPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(inputPath, StandardCharsets.UTF_8);
+             Writer output = outputPath == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+            // standard output carries the results, so the summary goes to standard error
+            System.err.println(app.run(script, output, isShowingCarparks));
+        } catch (IOException | InterruptedException e) {
+            System.err.println("Failed to run commands: " + e);
+            status = 1;
+        } finally {
+            app.stop();
+        }
+        // the background threads of some commands are not daemons, so the app has to exit on its own
+        System.exit(status);
+    }
+
+    /**
+     * Serves lookups until the process is stopped, then saves the car parks.
+     */
+    private static void serveUntilStopped(HeadlessApp app, int port, int workerCount) {
+        try {
+            CarparkQueryServer server = app.serve(port, workerCount);
+            System.err.println("Serving car park lookups on port " + server.getPort() + ", stop with Ctrl+C");
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                app.stop();
+            }, "server-shutdown"));
+        } catch (IOException e) {
+            System.err.println("Failed to start server: " + e);
+            app.stop();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the path at {@code index} of {@code args}, exiting with the usage if there is none.
+     */
+    private static Path getPathArgument(String[] args, int index) {
+        if (index >= args.length) {
+            exitWithUsage();
+        }
+        return Paths.get(args[index]);
+    }
+
+    /**
+     * Returns the positive number at {@code index} of {@code args}, exiting with the usage if there is none.
+     */
+    private static int getIntArgument(String[] args, int index) {
+        int value = 0;
+        try {
+            value = index < args.length ? Integer.parseInt(args[index]) : 0;
+        } catch (NumberFormatException e) {
+            // left as 0, which is not valid
+        }
+        if (value <= 0) {
+            exitWithUsage();
+        }
+        return value;
+    }
+
+    private static void exitWithUsage() {
+        System.err.println(MESSAGE_USAGE);
+        System.exit(2);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.parking;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,6 +14,7 @@ import javafx.stage.Stage;
 import seedu.parking.commons.core.Config;
 import seedu.parking.commons.core.EventsCenter;
 import seedu.parking.commons.core.LogsCenter;
+import seedu.parking.commons.core.MetricsCenter;
 import seedu.parking.commons.core.Version;
 import seedu.parking.commons.events.ui.ExitAppRequestEvent;
 import seedu.parking.commons.exceptions.DataConversionException;
@@ -41,6 +43,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 2, true);
 
+    protected static final long STORAGE_TIMEOUT_SECONDS = 10;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -65,6 +69,10 @@ public class MainApp extends Application {
         storage = new StorageManager(carparkFinderStorage, userPrefsStorage);
 
         initLogging(config);
+        if (config.isMetricsDumpEnabled()) {
+            MetricsCenter.getInstance().startPeriodicDump(config.getMetricsFilePath(),
+                    MetricsCenter.DUMP_PERIOD_SECONDS, TimeUnit.SECONDS);
+        }
 
         model = initModelManager(storage, userPrefs);
 
@@ -80,7 +88,7 @@ public class MainApp extends Application {
      * The data from the sample car park finder will be used instead if {@code storage}'s car park finder is not found,
      * or an empty car park finder will be used instead if errors occur when reading {@code storage}'s car park finder.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    protected Model initModelManager(Storage storage, UserPrefs userPrefs) {
         Optional<ReadOnlyCarparkFinder> carparkFinderOptional;
         ReadOnlyCarparkFinder initialData;
         try {
@@ -189,19 +197,27 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Car Park Finder ] =============================");
         ui.stop();
+        // lets saves already requested finish first, so that they cannot overwrite the final save
+        if (!EventsCenter.getInstance().awaitStorageHandlers(STORAGE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warning("Timed out waiting for pending saves to finish");
+        }
+        logger.fine(() -> "Event handler latencies: " + EventsCenter.getInstance().getHandlerStats());
+        logger.fine(() -> "Coalesced events: " + EventsCenter.getInstance().getCoalescingStats());
         try {
-            storage.saveCarparkFinder(model.getCarparkFinder());
+            storage.saveCarparkFinder(model.getSnapshot());
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        MetricsCenter.getInstance().stopPeriodicDump();
+        LogsCenter.close();
         Platform.exit();
         System.exit(0);
     }
 
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         stop();
     }
 
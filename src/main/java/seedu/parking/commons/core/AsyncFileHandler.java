@@ -0,0 +1,151 @@
+package seedu.parking.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to a background thread, which formats and writes them in batches
+ * through another handler, usually a {@code FileHandler}. Logging threads only pay for putting a record in a
+ * bounded queue. When the queue is full, records below {@code WARNING} are dropped at once, while warnings and
+ * errors wait up to {@link #BLOCKING_TIMEOUT_MILLIS} for space before they are dropped too.
+ */
+public class AsyncFileHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+    public static final long BLOCKING_TIMEOUT_MILLIS = 100;
+
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final Handler delegate;
+    private final BlockingQueue<LogRecord> queue;
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean isClosed = false;
+
+    public AsyncFileHandler(Handler delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a handler that writes through {@code delegate}, holding at most {@code capacity} records.
+     */
+    public AsyncFileHandler(Handler delegate, int capacity) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::writeRecords, "async-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The caller is found from the stack, so it must be found on the logging thread before the hand off.
+        record.getSourceClassName();
+
+        boolean isQueued;
+        if (record.getLevel().intValue() < Level.WARNING.intValue()) {
+            isQueued = queue.offer(record);
+        } else {
+            try {
+                isQueued = queue.offer(record, BLOCKING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                isQueued = false;
+            }
+        }
+        if (isQueued) {
+            queuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Writes queued records in batches, flushing the delegate once per batch, until closed and drained.
+     */
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!isClosed || !queue.isEmpty()) {
+            try {
+                LogRecord first = queue.poll(BLOCKING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                for (LogRecord record : batch) {
+                    delegate.publish(record);
+                }
+                delegate.flush();
+                writtenCount.addAndGet(batch.size());
+            } catch (InterruptedException ie) {
+                // closing interrupts a waiting writer, which then drains what is left
+            } catch (RuntimeException re) {
+                reportError("Failed to write log records", re, ErrorManager.WRITE_FAILURE);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void setLevel(Level level) {
+        super.setLevel(level);
+        delegate.setLevel(level);
+    }
+
+    /**
+     * Waits until the records queued so far are written, for at most ten times {@link #BLOCKING_TIMEOUT_MILLIS}.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BLOCKING_TIMEOUT_MILLIS * 10);
+        while (writtenCount.get() < target && writer.isAlive() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops accepting records, writes the records already queued and closes the delegate.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.parking.commons.core;
 
+import seedu.parking.commons.core.EventsCenter.Affinity;
 import seedu.parking.commons.events.BaseEvent;
 
 /**
@@ -17,9 +18,20 @@ public abstract class ComponentManager {
         this(EventsCenter.getInstance());
     }
 
+    /**
+     * Uses default {@link EventsCenter}, handling events on the thread named by {@code affinity}
+     */
+    public ComponentManager(Affinity affinity) {
+        this(EventsCenter.getInstance(), affinity);
+    }
+
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, Affinity.DIRECT);
+    }
+
+    public ComponentManager(EventsCenter eventsCenter, Affinity affinity) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, affinity);
     }
 
     protected void raise(BaseEvent event) {
@@ -16,6 +16,8 @@ public class Config {
     private String appTitle = "Car Park Finder";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean metricsDumpEnabled = false;
+    private Path metricsFilePath = Paths.get("carparkfinder-metrics.txt");
 
     public String getAppTitle() {
         return appTitle;
@@ -33,6 +35,25 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns true if the performance metrics are appended to the metrics file while the app runs.
+     */
+    public boolean isMetricsDumpEnabled() {
+        return metricsDumpEnabled;
+    }
+
+    public void setMetricsDumpEnabled(boolean metricsDumpEnabled) {
+        this.metricsDumpEnabled = metricsDumpEnabled;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -54,12 +75,14 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
+                && metricsDumpEnabled == o.metricsDumpEnabled
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, metricsDumpEnabled, metricsFilePath, userPrefsFilePath);
     }
 
     @Override
@@ -67,6 +90,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
+        sb.append("\nMetrics file Location : " + metricsFilePath + (metricsDumpEnabled ? "" : " (disabled)"));
         sb.append("\nPreference file Location : " + userPrefsFilePath);
         return sb.toString();
     }
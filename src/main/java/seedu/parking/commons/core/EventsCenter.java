@@ -1,45 +1,542 @@
 package seedu.parking.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import seedu.parking.commons.events.BaseEvent;
+import seedu.parking.commons.events.LatestWinsEvent;
 
 /**
  * Manages the event dispatching of the app.
+ * Each handler is delivered events on the thread its {@link Affinity} names, so posting never blocks on work
+ * that belongs to another thread, such as updating the UI or saving to disk.
+ * Handlers are methods annotated with {@code @Subscribe} that take one event, or consumers given to
+ * {@link #subscribe(Class, Affinity, Consumer)}. The handlers of each event type are looked up once and cached.
+ * Deliveries to the JavaFX and storage threads wait in a queue for that thread, in posting order. A delivery of a
+ * {@link LatestWinsEvent} replaces any waiting delivery of the same type to the same handler, so a burst of them
+ * posted while the thread is busy is handled once.
  */
 public class EventsCenter {
-    private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
-    private static EventsCenter instance;
-    private final EventBus eventBus;
 
-    private EventsCenter() {
-        eventBus = new EventBus();
+    /**
+     * The thread that a handler is delivered events on.
+     */
+    public enum Affinity {
+        /** The posting thread, for cheap handlers that are safe on any thread. */
+        DIRECT,
+        /** The JavaFX application thread, for handlers that touch the UI. */
+        FX_THREAD,
+        /** A single background thread, so that slow I/O runs in posting order without blocking the poster. */
+        STORAGE
     }
 
+    private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static volatile EventsCenter instance;
+
+    /** Events waiting to be delivered inline on this thread, so that nested posts are delivered in posting order. */
+    private static final ThreadLocal<Queue<Delivery>> queuedDeliveries = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
+
+    private final List<Handler> handlers = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, List<Handler>> handlersByEventType = new ConcurrentHashMap<>();
+    private final ExecutorService storageExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final DeliveryQueue fxThreadQueue = new DeliveryQueue(Platform::runLater);
+    private final DeliveryQueue storageQueue = new DeliveryQueue(task -> {
+        if (!storageExecutor.isShutdown()) {
+            storageExecutor.execute(task);
+        }
+    });
+    private final Map<String, CoalescingStats> coalescingStats = new ConcurrentHashMap<>();
+
+    private EventsCenter() {}
+
+    /**
+     * Returns the shared instance, creating it on first use. Safe to call from any thread.
+     */
     public static EventsCenter getInstance() {
-        if (instance == null) {
-            instance = new EventsCenter();
+        EventsCenter current = instance;
+        if (current == null) {
+            synchronized (EventsCenter.class) {
+                current = instance;
+                if (current == null) {
+                    current = new EventsCenter();
+                    instance = current;
+                }
+            }
         }
-        return instance;
+        return current;
     }
 
+    /**
+     * Discards the shared instance and all its handlers. Events already given to the storage thread are still run.
+     */
     public static void clearSubscribers() {
-        instance = null;
+        synchronized (EventsCenter.class) {
+            if (instance != null) {
+                instance.storageExecutor.shutdown();
+            }
+            instance = null;
+        }
     }
 
+    /**
+     * Registers every {@code @Subscribe} method of {@code handler}, to be delivered events on the posting thread.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        registerHandler(handler, Affinity.DIRECT);
     }
 
     /**
-     * Posts an event to the event bus.
+     * Registers every {@code @Subscribe} method of {@code handler}, including those declared by its superclasses,
+     * to be delivered events on the thread named by {@code affinity}.
+     * A method overridden by a subclass is registered once, and runs the subclass's implementation.
+     */
+    public void registerHandler(Object handler, Affinity affinity) {
+        requireNonNull(handler);
+        requireNonNull(affinity);
+        Set<List<Object>> registeredSignatures = new HashSet<>();
+        for (Class<?> type = handler.getClass(); type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class)) {
+                    continue;
+                }
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                if (parameterTypes.length != 1 || !BaseEvent.class.isAssignableFrom(parameterTypes[0])) {
+                    throw new IllegalArgumentException(method + " must take exactly one event");
+                }
+                // private methods are never overridden, so only the others can share a registered signature
+                List<Object> signature = Arrays.asList(method.getName(), parameterTypes[0]);
+                if (!registeredSignatures.add(signature) && !Modifier.isPrivate(method.getModifiers())) {
+                    continue;
+                }
+                method.setAccessible(true);
+                addHandler(new Handler(parameterTypes[0], affinity, type.getSimpleName() + "#" + method.getName(),
+                        event -> invoke(method, handler, event)));
+            }
+        }
+    }
+
+    /**
+     * Delivers every event of {@code eventType}, including its subtypes, to {@code consumer}
+     * on the thread named by {@code affinity}, until the returned subscription is given to {@link #unsubscribe}.
+     */
+    public <E extends BaseEvent> Subscription subscribe(Class<E> eventType, Affinity affinity,
+                                                        Consumer<? super E> consumer) {
+        requireNonNull(eventType);
+        requireNonNull(affinity);
+        requireNonNull(consumer);
+        Handler handler = new Handler(eventType, affinity, "Consumer#" + eventType.getSimpleName(),
+                event -> consumer.accept(eventType.cast(event)));
+        addHandler(handler);
+        return new Subscription(handler);
+    }
+
+    /**
+     * Stops delivering events to the consumer of {@code subscription}, including events posted before this call
+     * that are still waiting for its thread. Unsubscribing more than once has no further effect.
+     */
+    public void unsubscribe(Subscription subscription) {
+        requireNonNull(subscription);
+        removeHandler(subscription.handler);
+    }
+
+    private synchronized void addHandler(Handler handler) {
+        handlers.add(handler);
+        handlersByEventType.clear();
+    }
+
+    private synchronized void removeHandler(Handler handler) {
+        handler.isRemoved = true;
+        if (handlers.remove(handler)) {
+            handlersByEventType.clear();
+        }
+    }
+
+    private static void invoke(Method method, Object target, BaseEvent event) throws Exception {
+        try {
+            method.invoke(target, event);
+        } catch (InvocationTargetException ite) {
+            if (ite.getCause() instanceof Exception) {
+                throw (Exception) ite.getCause();
+            }
+            throw ite;
+        }
+    }
+
+    /**
+     * Posts an event to every handler of its type. Handlers with {@code DIRECT} affinity, and {@code FX_THREAD}
+     * handlers when posting from the JavaFX thread, run before this returns; all others are queued for their thread.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        requireNonNull(event);
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        }
+
+        Queue<Delivery> queue = queuedDeliveries.get();
+        boolean isFxApplicationThread = isFxApplicationThread();
+        if (isFxApplicationThread) {
+            // deliveries queued for this thread by other threads were posted earlier, so they go first
+            queue.addAll(fxThreadQueue.takeAll());
+        }
+        for (Handler handler : getHandlers(event.getClass())) {
+            Delivery delivery = new Delivery(handler, event);
+            if (event instanceof LatestWinsEvent) {
+                delivery.stats = getCoalescingStats(event);
+                delivery.stats.posted.incrementAndGet();
+            }
+            switch (handler.affinity) {
+            case FX_THREAD:
+                if (isFxApplicationThread) {
+                    queue.add(delivery);
+                } else {
+                    fxThreadQueue.add(delivery);
+                }
+                break;
+            case STORAGE:
+                storageQueue.add(delivery);
+                break;
+            default:
+                queue.add(delivery);
+                break;
+            }
+        }
+        dispatchQueuedDeliveries();
         return this;
     }
 
+    private CoalescingStats getCoalescingStats(BaseEvent event) {
+        return coalescingStats.computeIfAbsent(event.getClass().getSimpleName(), unused -> new CoalescingStats());
+    }
+
+    /**
+     * Delivers the events queued on this thread, unless an outer {@code post} on this thread is already doing so.
+     * Like Guava's {@code EventBus}, an event posted by a handler is delivered after the event being handled.
+     */
+    private static void dispatchQueuedDeliveries() {
+        if (isDispatching.get()) {
+            return;
+        }
+        isDispatching.set(true);
+        try {
+            Queue<Delivery> queue = queuedDeliveries.get();
+            Delivery delivery;
+            while ((delivery = queue.poll()) != null) {
+                delivery.deliver();
+            }
+        } finally {
+            isDispatching.set(false);
+        }
+    }
+
+    private static boolean isFxApplicationThread() {
+        try {
+            return Platform.isFxApplicationThread();
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the handlers of {@code eventType} and its supertypes, in registration order.
+     */
+    private List<Handler> getHandlers(Class<?> eventType) {
+        List<Handler> cached = handlersByEventType.get(eventType);
+        if (cached != null) {
+            return cached;
+        }
+        // Built under the same lock as addHandler, so that a list missing a new handler is never cached.
+        synchronized (this) {
+            return handlersByEventType.computeIfAbsent(eventType, type -> {
+                List<Handler> matching = new ArrayList<>();
+                for (Handler handler : handlers) {
+                    if (handler.eventType.isAssignableFrom(type)) {
+                        matching.add(handler);
+                    }
+                }
+                return Collections.unmodifiableList(matching);
+            });
+        }
+    }
+
+    /**
+     * Waits until every event handed to the storage thread before this call has been handled.
+     *
+     * @return false if they were not all handled within the timeout.
+     */
+    public boolean awaitStorageHandlers(long timeout, TimeUnit unit) {
+        try {
+            storageExecutor.submit(() -> { }).get(timeout, unit);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RuntimeException re) { // rejected because the executor has been shut down
+            return storageExecutor.isTerminated();
+        }
+    }
+
+    /**
+     * Returns the latency statistics of every handler, keyed by handler name.
+     */
+    public Map<String, HandlerStats> getHandlerStats() {
+        Map<String, HandlerStats> stats = new TreeMap<>();
+        for (Handler handler : handlers) {
+            stats.merge(handler.name, handler.stats.copy(), HandlerStats::combine);
+        }
+        return stats;
+    }
+
+    /**
+     * Returns how many deliveries of each {@link LatestWinsEvent} type to a handler were posted and how many were
+     * made, keyed by event type. The difference is the deliveries replaced by later events while they waited.
+     */
+    public Map<String, CoalescingStats> getCoalescingStats() {
+        return new TreeMap<>(coalescingStats);
+    }
+
+    /**
+     * An event waiting to be delivered to a handler.
+     */
+    private static class Delivery {
+        private final Handler handler;
+        private final BaseEvent event;
+        /** The statistics to count this delivery in, if its event is a {@link LatestWinsEvent}. */
+        private CoalescingStats stats;
+
+        Delivery(Handler handler, BaseEvent event) {
+            this.handler = handler;
+            this.event = event;
+        }
+
+        void deliver() {
+            if (stats != null) {
+                stats.delivered.incrementAndGet();
+            }
+            handler.deliver(event);
+        }
+    }
+
+    /**
+     * Deliveries waiting for the thread of one affinity, delivered in posting order by tasks run on that thread.
+     * A delivery of a {@link LatestWinsEvent} removes any waiting delivery of the same event type to the same
+     * handler, so the latest event takes the place in the order that it was posted in.
+     */
+    private static class DeliveryQueue {
+        private final Consumer<Runnable> executor;
+        private final Map<List<Object>, Delivery> waiting = new LinkedHashMap<>();
+        private long nextKey;
+        private boolean isDrainScheduled;
+
+        DeliveryQueue(Consumer<Runnable> executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * Queues {@code delivery}, and schedules a task to deliver the queue if none is waiting to run.
+         */
+        void add(Delivery delivery) {
+            synchronized (this) {
+                List<Object> key = delivery.event instanceof LatestWinsEvent
+                        ? Arrays.asList(delivery.handler, delivery.event.getClass())
+                        : Collections.singletonList(nextKey++);
+                // removed first, so that a replacing delivery moves to the end
+                waiting.remove(key);
+                waiting.put(key, delivery);
+                if (isDrainScheduled) {
+                    return;
+                }
+                isDrainScheduled = true;
+            }
+            try {
+                executor.accept(this::drain);
+            } catch (RuntimeException e) { // the thread cannot take tasks, e.g. JavaFX is not running
+                synchronized (this) {
+                    isDrainScheduled = false;
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Removes and returns the waiting deliveries, in posting order.
+         */
+        synchronized List<Delivery> takeAll() {
+            List<Delivery> deliveries = new ArrayList<>(waiting.values());
+            waiting.clear();
+            return deliveries;
+        }
+
+        /**
+         * Delivers the waiting deliveries through the queue of the current thread, so that events posted by their
+         * handlers are delivered after them.
+         */
+        private void drain() {
+            synchronized (this) {
+                isDrainScheduled = false;
+                queuedDeliveries.get().addAll(takeAll());
+            }
+            dispatchQueuedDeliveries();
+        }
+    }
+
+    /**
+     * Something that handles events of one type.
+     */
+    private interface EventConsumer {
+        void accept(BaseEvent event) throws Exception;
+    }
+
+    /**
+     * A registered handler, with the event type it handles and the thread it runs on.
+     */
+    private static class Handler {
+        private final Class<?> eventType;
+        private final Affinity affinity;
+        private final String name;
+        private final EventConsumer consumer;
+        private final HandlerStats stats = new HandlerStats();
+        private volatile boolean isRemoved;
+
+        Handler(Class<?> eventType, Affinity affinity, String name, EventConsumer consumer) {
+            this.eventType = eventType;
+            this.affinity = affinity;
+            this.name = name;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Runs the handler on the current thread, timing it. Exceptions are logged so that other handlers still run.
+         */
+        void deliver(BaseEvent event) {
+            if (isRemoved) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                consumer.accept(event);
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, "Handler " + name + " failed on " + event, e);
+            } finally {
+                stats.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * A consumer given to {@link #subscribe(Class, Affinity, Consumer)}, to be passed to {@link #unsubscribe}.
+     */
+    public static class Subscription {
+        private final Handler handler;
+
+        private Subscription(Handler handler) {
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * The number of events of one {@link LatestWinsEvent} type that were posted and that were delivered.
+     */
+    public static class CoalescingStats {
+        private final AtomicLong posted = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+
+        public long getPosted() {
+            return posted.get();
+        }
+
+        public long getDelivered() {
+            return delivered.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d posted, %d delivered", getPosted(), getDelivered());
+        }
+    }
+
+    /**
+     * The number of events a handler has been delivered and how long it took to handle them.
+     */
+    public static class HandlerStats {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        synchronized HandlerStats copy() {
+            HandlerStats copy = new HandlerStats();
+            copy.count = count;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            return copy;
+        }
+
+        /**
+         * Adds the statistics of {@code first} and {@code second}, for handlers that share a name.
+         */
+        static HandlerStats combine(HandlerStats first, HandlerStats second) {
+            HandlerStats combined = new HandlerStats();
+            combined.count = first.count + second.count;
+            combined.totalNanos = first.totalNanos + second.totalNanos;
+            combined.maxNanos = Math.max(first.maxNanos, second.maxNanos);
+            return combined;
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        public synchronized double getAverageMillis() {
+            return count == 0 ? 0 : totalNanos / 1e6 / count;
+        }
+
+        public synchronized double getMaxMillis() {
+            return maxNanos / 1e6;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("%d events, average %.3fms, max %.3fms", count, getAverageMillis(), getMaxMillis());
+        }
+    }
 }
@@ -0,0 +1,93 @@
+package seedu.parking.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in log-linear buckets, in the style of an HDR histogram. Every power of two is split into
+ * {@code 2^SUB_BUCKET_BITS} equal buckets, so any recorded value is reported within about 3% of its real value,
+ * while the histogram takes a fixed amount of memory however many values are recorded.
+ * Values can be recorded from any thread without locking.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Adds a latency of {@code nanos} to the histogram. Negative latencies are counted as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(indexOf(value));
+        count.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the bucket of {@code value}. Values below {@code 2 * SUB_BUCKET_COUNT} have a bucket each, and
+     * larger values share a bucket with the values that have the same top {@code SUB_BUCKET_BITS + 1} bits.
+     */
+    static int indexOf(long value) {
+        int shift = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (int) (shift * SUB_BUCKET_COUNT + (value >>> shift));
+    }
+
+    /**
+     * Returns the largest value that falls in the bucket at {@code index}.
+     */
+    static long highestValueAt(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long top = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((top + 1) << shift) - 1;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getAverageMillis() {
+        long recorded = count.get();
+        return recorded == 0 ? 0 : totalNanos.get() / 1e6 / recorded;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1e6;
+    }
+
+    /**
+     * Returns the latency in milliseconds that {@code percentile} percent of the recorded latencies did not exceed.
+     */
+    public double getPercentileMillis(double percentile) {
+        long recorded = count.get();
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), maxNanos.get()) / 1e6;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d runs, average %.2fms, p50 %.2fms, p90 %.2fms, p99 %.2fms, max %.2fms",
+                getCount(), getAverageMillis(), getPercentileMillis(50), getPercentileMillis(90),
+                getPercentileMillis(99), getMaxMillis());
+    }
+}
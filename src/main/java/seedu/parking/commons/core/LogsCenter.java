@@ -2,6 +2,8 @@ package seedu.parking.commons.core;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -16,39 +18,56 @@ import seedu.parking.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Each logger is configured once and has its level set, so messages below the level are discarded before a
+ *   record is made. The log file is written by an {@link AsyncFileHandler}, off the logging thread.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "carparkfinder.log";
+    private static final Set<String> configuredLoggerNames = ConcurrentHashMap.newKeySet();
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
+    private static AsyncFileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The level of every logger obtained from the LogsCenter, and of its handlers, is changed.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        for (String name : configuredLoggerNames) {
+            Logger.getLogger(name).setLevel(currentLogLevel);
+        }
+        if (consoleHandler != null) {
+            consoleHandler.setLevel(currentLogLevel);
+        }
+        if (fileHandler != null) {
+            fileHandler.setLevel(currentLogLevel);
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Creates a logger with the given name, configuring its handlers the first time it is requested.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        if (configuredLoggerNames.contains(name)) {
+            return logger;
+        }
 
-        return Logger.getLogger(name);
+        synchronized (LogsCenter.class) {
+            if (configuredLoggerNames.add(name)) {
+                logger.setUseParentHandlers(false);
+                logger.setLevel(currentLogLevel);
+                removeHandlers(logger);
+                addConsoleHandler(logger);
+                addFileHandler(logger);
+            }
+        }
+        return logger;
     }
 
     /**
@@ -96,14 +115,28 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a {@code FileHandler} for the log file.
+     * Creates an {@code AsyncFileHandler} that writes to the log file.
      * @throws IOException if there are problems opening the file.
      */
-    private static FileHandler createFileHandler() throws IOException {
+    private static AsyncFileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
-        return fileHandler;
+        AsyncFileHandler asyncFileHandler = new AsyncFileHandler(fileHandler);
+        asyncFileHandler.setLevel(currentLogLevel);
+        return asyncFileHandler;
+    }
+
+    /**
+     * Writes the log records still queued for the log file and closes it.
+     */
+    public static synchronized void close() {
+        if (fileHandler == null) {
+            return;
+        }
+        if (fileHandler.getDroppedCount() > 0) {
+            logger.warning(fileHandler.getDroppedCount() + " log records were dropped because logging fell behind");
+        }
+        fileHandler.close();
     }
 
     private static ConsoleHandler createConsoleHandler() {
@@ -12,8 +12,8 @@ public class Messages {
         "Ambiguous command detected. You can type 'fin' (find [KEYWORD]) or 'fil' (filter [FLAG/ PARAMETER])";
     public static final String MESSAGE_UNCERTAIN_HELP_OR_HISTORY_COMMAND =
         "Ambiguous command detected. You can type 'he' (help) or 'hi'(history)";
-    public static final String MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND =
-        "Ambiguous command. You can try 'cl' (clear) or 'ca' (calculate)";
+    public static final String MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND =
+        "Ambiguous command detected. You can type 'cl' (clear), 'ca' (calculate) or 'ch' (cheapest)";
 
     public static final String MESSAGE_INVALID_CARPARK_DISPLAYED_INDEX = "The car park index provided is invalid";
     public static final String MESSAGE_CARPARKS_LISTED_OVERVIEW = "%1$d car park(s) found!";
@@ -30,6 +30,14 @@ public class Messages {
             + ", MULTISTOREY, MECHANISED, COVERED\n     Example: filter ct/ surface";
     public static final String MESSAGE_PARKINGSYSTEM_TYPE_IS_INVALID = "Please input a valid parking system type: "
             + "COUPON, ELECTRONIC\n     Example: filter ps/ coupon";
+    public static final String MESSAGE_MIN_LOTS_IS_INVALID = "Please input a positive number of lots available."
+            + "\n     Example: filter lots/ 50";
+    public static final String MESSAGE_OCCUPANCY_IS_INVALID = "Please input an occupancy percentage from 1 to 100."
+            + "\n     Example: filter occ/ 80";
+
+    // find command
+    public static final String MESSAGE_TOP_RESULTS_IS_INVALID = "Please input a positive number of results to show."
+            + "\n     Example: find punggol top/ 10";
 
     // calculate command
     public static final String MESSAGE_INVALID_CARPARK_NAME = "The car park number input is invalid.";
@@ -39,12 +47,18 @@ public class Messages {
             + "stipulated car park operation time.";
     public static final String MESSAGE_COST_OF_PARKING = "Cost of parking is $%1$.2f.";
 
+    // cheapest command
+    public static final String MESSAGE_END_TIME_NOT_AFTER_START_TIME = "The end time must be after the start time."
+            + "\n     Example: cheapest sun 7.30am 3.30pm";
+
     // auto-complete
     public static final String MESSAGE_INVALID_COMMAND_FOR_AUTOCOMPLETE =
         "Auto completion failed. Invalid command for auto-complete feature.";
     public static final String MESSAGE_ALREADY_FULL_COMMAND_FORMAT =
         "Your command is already in full command format.";
     public static final String MESSAGE_AUTO_COMPLETE_SUCCESS = "Your command is auto-completed.";
+    public static final String MESSAGE_WORD_AUTO_COMPLETE_SUCCESS =
+        "Your word is auto-completed. Matching words: %1$s";
     public static final String MESSAGE_SELECT_NEXT_HOLDER_SUCCESS =
         "Next parameter holder is selected for you to replace.";
 }
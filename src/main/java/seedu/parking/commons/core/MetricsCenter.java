@@ -0,0 +1,267 @@
+package seedu.parking.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.parking.commons.util.FileUtil;
+import seedu.parking.commons.util.StringUtil;
+
+/**
+ * Collects the performance metrics of the app: the latency, result size and errors of each command, and the
+ * latency and allocation of each stage of the work done in the background, such as fetching and saving car parks.
+ * Metrics can be recorded from any thread, and are reported by the {@code metrics} command. If the config enables it,
+ * they are also appended to the metrics file every {@link #DUMP_PERIOD_SECONDS} while the app runs.
+ */
+public class MetricsCenter {
+
+    public static final long DUMP_PERIOD_SECONDS = 60;
+
+    public static final String MESSAGE_NO_METRICS = "No commands have been run yet.";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final MetricsCenter instance = new MetricsCenter();
+    private static final com.sun.management.ThreadMXBean allocationCounter = getAllocationCounter();
+
+    private final Map<String, CommandMetrics> commandMetrics = new ConcurrentSkipListMap<>();
+    private final Map<String, StageMetrics> stageMetrics = new ConcurrentSkipListMap<>();
+    private ScheduledExecutorService dumpExecutor;
+    private Path dumpFile;
+
+    private MetricsCenter() {}
+
+    public static MetricsCenter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the bean that counts the bytes allocated by each thread, or null if this JVM does not count them.
+     */
+    private static com.sun.management.ThreadMXBean getAllocationCounter() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threadBean;
+        if (!counter.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        counter.setThreadAllocatedMemoryEnabled(true);
+        return counter;
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread so far, or 0 if they are not counted.
+     */
+    private static long getAllocatedBytes() {
+        return allocationCounter == null ? 0 : allocationCounter.getThreadAllocatedBytes(
+                Thread.currentThread().getId());
+    }
+
+    /**
+     * Records a run of the command {@code commandWord} that took {@code nanos} and left {@code resultSize} car parks
+     * shown. Runs that failed are counted as errors instead, and their result sizes are not recorded.
+     */
+    public void recordCommand(String commandWord, long nanos, int resultSize, boolean isError) {
+        requireNonNull(commandWord);
+        CommandMetrics metrics = commandMetrics.computeIfAbsent(commandWord, unused -> new CommandMetrics());
+        metrics.latency.record(nanos);
+        if (isError) {
+            metrics.errorCount.incrementAndGet();
+        } else {
+            metrics.resultCount.incrementAndGet();
+            metrics.totalResultSize.addAndGet(resultSize);
+            metrics.maxResultSize.accumulateAndGet(resultSize, Math::max);
+        }
+    }
+
+    /**
+     * Records that the stage {@code stage} took {@code nanos} and allocated {@code allocatedBytes}.
+     */
+    public void recordStage(String stage, long nanos, long allocatedBytes) {
+        requireNonNull(stage);
+        StageMetrics metrics = stageMetrics.computeIfAbsent(stage, unused -> new StageMetrics());
+        metrics.latency.record(nanos);
+        metrics.allocatedBytes.addAndGet(Math.max(allocatedBytes, 0));
+    }
+
+    /**
+     * Starts timing the stage {@code stage}. The time, and the bytes allocated by the current thread where the JVM
+     * counts them, are recorded when the returned timer is closed. A stage can thus be timed with a
+     * try-with-resources statement whether or not it completes normally, but only on a single thread.
+     */
+    public StageTimer startStage(String stage) {
+        requireNonNull(stage);
+        return new StageTimer(stage, System.nanoTime(), getAllocatedBytes());
+    }
+
+    /**
+     * Returns the latency histogram of the command {@code commandWord}, or null if it has not been run.
+     */
+    public LatencyHistogram getCommandLatency(String commandWord) {
+        CommandMetrics metrics = commandMetrics.get(commandWord);
+        return metrics == null ? null : metrics.latency;
+    }
+
+    /**
+     * Returns the number of runs of the command {@code commandWord} that failed.
+     */
+    public long getErrorCount(String commandWord) {
+        CommandMetrics metrics = commandMetrics.get(commandWord);
+        return metrics == null ? 0 : metrics.errorCount.get();
+    }
+
+    /**
+     * Returns the latency histogram of the stage {@code stage}, or null if it has not been timed.
+     */
+    public LatencyHistogram getStageLatency(String stage) {
+        StageMetrics metrics = stageMetrics.get(stage);
+        return metrics == null ? null : metrics.latency;
+    }
+
+    /**
+     * Returns the bytes allocated by all runs of the stage {@code stage}.
+     */
+    public long getStageAllocatedBytes(String stage) {
+        StageMetrics metrics = stageMetrics.get(stage);
+        return metrics == null ? 0 : metrics.allocatedBytes.get();
+    }
+
+    /**
+     * Returns the names of the stages timed so far, in alphabetical order.
+     */
+    public Set<String> getStages() {
+        return Collections.unmodifiableSet(stageMetrics.keySet());
+    }
+
+    /**
+     * Returns a report of all metrics recorded so far, one command or stage per line.
+     */
+    public String getReport() {
+        if (commandMetrics.isEmpty() && stageMetrics.isEmpty()) {
+            return MESSAGE_NO_METRICS;
+        }
+        StringBuilder builder = new StringBuilder("Commands:");
+        commandMetrics.forEach((commandWord, metrics) -> builder.append("\n  ").append(commandWord).append(": ")
+                .append(metrics));
+        builder.append("\nStages:");
+        stageMetrics.forEach((stage, metrics) -> builder.append("\n  ").append(stage).append(": ").append(metrics));
+        return builder.toString();
+    }
+
+    /**
+     * Discards all metrics recorded so far.
+     */
+    public void clear() {
+        commandMetrics.clear();
+        stageMetrics.clear();
+    }
+
+    /**
+     * Appends the report to {@code file} every {@code period}, on a background thread, until
+     * {@link #stopPeriodicDump()} is called. Replaces any periodic dump already started.
+     */
+    public synchronized void startPeriodicDump(Path file, long period, TimeUnit unit) {
+        requireNonNull(file);
+        stopPeriodicDump();
+        dumpFile = file;
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(() -> dump(file), period, period, unit);
+    }
+
+    /**
+     * Stops the periodic dump, if one was started, and appends a final report to its file.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpExecutor == null) {
+            return;
+        }
+        dumpExecutor.shutdownNow();
+        dumpExecutor = null;
+        dump(dumpFile);
+    }
+
+    /**
+     * Appends the report to {@code file}, with the time it was taken.
+     */
+    public void dump(Path file) {
+        try {
+            FileUtil.createIfMissing(file);
+            String report = "==== " + LocalDateTime.now() + "\n" + getReport() + "\n";
+            Files.write(file, report.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics to " + file + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Times a stage until it is closed.
+     */
+    public class StageTimer implements AutoCloseable {
+        private final String stage;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private StageTimer(String stage, long startNanos, long startAllocatedBytes) {
+            this.stage = stage;
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        @Override
+        public void close() {
+            recordStage(stage, System.nanoTime() - startNanos, getAllocatedBytes() - startAllocatedBytes);
+        }
+    }
+
+    /**
+     * The metrics of one stage.
+     */
+    private static class StageMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+
+        @Override
+        public String toString() {
+            return String.format("%s, %.1fMB allocated", latency, allocatedBytes.get() / 1e6);
+        }
+    }
+
+    /**
+     * The metrics of one command.
+     */
+    private static class CommandMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong errorCount = new AtomicLong();
+        private final AtomicLong resultCount = new AtomicLong();
+        private final AtomicLong totalResultSize = new AtomicLong();
+        private final AtomicLong maxResultSize = new AtomicLong();
+
+        @Override
+        public String toString() {
+            long results = resultCount.get();
+            return String.format("%s, %d failed, average %.1f results, max %d results", latency, errorCount.get(),
+                    results == 0 ? 0 : (double) totalResultSize.get() / results, maxResultSize.get());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package seedu.parking.commons.events;
+
+/**
+ * Marks an event whose handlers only need the latest one of a burst.
+ * While such an event waits for the thread of a handler, {@code EventsCenter} replaces it with any later one of the
+ * same type, so a burst of them posted while that thread is busy costs one round of handling.
+ */
+public interface LatestWinsEvent {
+}
@@ -1,12 +1,13 @@
 package seedu.parking.commons.events.model;
 
 import seedu.parking.commons.events.BaseEvent;
+import seedu.parking.commons.events.LatestWinsEvent;
 import seedu.parking.model.ReadOnlyCarparkFinder;
 
 /**
  * Indicates the CarparkFinder in the model has changed
  */
-public class CarparkFinderChangedEvent extends BaseEvent {
+public class CarparkFinderChangedEvent extends BaseEvent implements LatestWinsEvent {
 
     public final ReadOnlyCarparkFinder data;
 
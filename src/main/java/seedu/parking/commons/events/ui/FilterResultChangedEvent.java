@@ -1,12 +1,13 @@
 package seedu.parking.commons.events.ui;
 
 import seedu.parking.commons.events.BaseEvent;
+import seedu.parking.commons.events.LatestWinsEvent;
 import seedu.parking.model.carpark.Carpark;
 
 /**
  * Represents a selection change in the Car park List Panel after a Filter command is ran.
  */
-public class FilterResultChangedEvent extends BaseEvent {
+public class FilterResultChangedEvent extends BaseEvent implements LatestWinsEvent {
 
     private final Carpark[] returnList;
 
@@ -1,15 +1,25 @@
 package seedu.parking.commons.events.ui;
 
 import seedu.parking.commons.events.BaseEvent;
+import seedu.parking.model.carpark.Carpark;
 
 /**
  * Indicates a request to jump to the list of car parks
  */
 public class ListCarparkRequestEvent extends BaseEvent {
 
+    private final Carpark[] carparks;
+
+    public ListCarparkRequestEvent(Carpark[] carparks) {
+        this.carparks = carparks;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
     }
 
+    public Carpark[] getCarparks() {
+        return carparks;
+    }
 }
@@ -1,11 +1,12 @@
 package seedu.parking.commons.events.ui;
 
 import seedu.parking.commons.events.BaseEvent;
+import seedu.parking.commons.events.LatestWinsEvent;
 
 /**
  * Indicates a request to notify to the list of car parks
  */
-public class NotifyCarparkRequestEvent extends BaseEvent {
+public class NotifyCarparkRequestEvent extends BaseEvent implements LatestWinsEvent {
 
     @Override
     public String toString() {
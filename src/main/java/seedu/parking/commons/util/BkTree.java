@@ -0,0 +1,133 @@
+package seedu.parking.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A BK-tree of words for finding every word within a given edit distance of a query.
+ * By the triangle inequality, a search only visits children whose distance to their parent is within
+ * {@code maxDistance} of the query's distance to that parent, so most of the tree is never compared.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree. Adding a word that is already present does nothing.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(node.word, word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns every word in the tree whose edit distance to {@code query} is at most {@code maxDistance}.
+     */
+    public List<String> search(String query, int maxDistance) {
+        requireNonNull(query);
+        List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = distance(node.word, query);
+            if (distance <= maxDistance) {
+                matches.add(node.word);
+            }
+            int last = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= last; childDistance++) {
+                if (node.children[childDistance] != null) {
+                    toVisit.push(node.children[childDistance]);
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second},
+     * keeping only two rows of the dynamic programming table.
+     */
+    public static int distance(String first, String second) {
+        if (first.length() < second.length()) {
+            return distance(second, first);
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            char firstChar = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (firstChar == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * A word in the tree, with its children indexed by their distance to it.
+     * Distances are bounded by word length, so a small array beats a map of boxed keys.
+     */
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String word;
+        private Node[] children = NO_CHILDREN;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -20,17 +20,44 @@ import com.google.gson.JsonParser;
 
 import seedu.parking.MainApp;
 import seedu.parking.commons.core.LogsCenter;
+import seedu.parking.commons.core.MetricsCenter;
+import seedu.parking.commons.core.MetricsCenter.StageTimer;
 
 /**
  * Converts JSON from API call to a Java Object
  */
 public class GsonUtil {
+    public static final String DEFAULT_CARPARK_INFORMATION_URL = "https://data.gov.sg/api/action/datastore_search?"
+            + "resource_id=139a3035-e624-4f56-b63f-89ae28d4ae4c&limit=2000&offset=";
+    public static final String DEFAULT_CARPARK_AVAILABILITY_URL =
+            "https://api.data.gov.sg/v1/transport/carpark-availability";
+
+    private static volatile String carparkInformationUrl = DEFAULT_CARPARK_INFORMATION_URL;
+    private static volatile String carparkAvailabilityUrl = DEFAULT_CARPARK_AVAILABILITY_URL;
+
     private static HashSet<CarparkJson> carparkList = new HashSet<>();
     private static HashMap<Long, String> postalCodeMap = new HashMap<>();
     private static HashSet<String[]> parkingData = new HashSet<>();
 
     private static final Logger logger = LogsCenter.getLogger(GsonUtil.class);
 
+    /**
+     * Fetches car parks from other URLs, such as a local server with recorded responses, instead of data.gov.sg.
+     * @param informationUrl The car park information URL, ending with the query parameter of the offset of a page.
+     * @param availabilityUrl The car park availability URL.
+     */
+    public static void setApiUrls(String informationUrl, String availabilityUrl) {
+        carparkInformationUrl = informationUrl;
+        carparkAvailabilityUrl = availabilityUrl;
+    }
+
+    /**
+     * Fetches car parks from data.gov.sg again.
+     */
+    public static void resetApiUrls() {
+        setApiUrls(DEFAULT_CARPARK_INFORMATION_URL, DEFAULT_CARPARK_AVAILABILITY_URL);
+    }
+
     /**
      * Fetches car park information and returns a list of it.
      * @return A list of list of strings containing the car park information.
@@ -39,7 +66,8 @@ public class GsonUtil {
     public static List<List<String>> fetchAllCarparkInfo() throws Exception {
         final boolean[] hasError = {false, false, false};
 
-        try {
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        try (StageTimer timer = metrics.startStage("query.fetch.postalCodes")) {
             loadCarparkPostalCode();
         } catch (IOException e) {
             hasError[0] = true;
@@ -47,7 +75,7 @@ public class GsonUtil {
         }
 
         Thread first = new Thread(() -> {
-            try {
+            try (StageTimer timer = metrics.startStage("query.fetch.carparkData")) {
                 getCarparkData();
             } catch (IOException e) {
                 hasError[1] = true;
@@ -57,7 +85,7 @@ public class GsonUtil {
         first.start();
 
         Thread second = new Thread(() -> {
-            try {
+            try (StageTimer timer = metrics.startStage("query.fetch.availability")) {
                 getCarparkAvailability();
             } catch (IOException e) {
                 hasError[2] = true;
@@ -73,7 +101,9 @@ public class GsonUtil {
             throw new IOException();
         }
 
-        return saveAsList();
+        try (StageTimer timer = metrics.startStage("query.join")) {
+            return saveAsList();
+        }
     }
 
     /**
@@ -105,7 +135,7 @@ public class GsonUtil {
      * @throws IOException if unable to connect to URL.
      */
     public static List<String> getSelectedCarparkInfo(String carparkNum) throws IOException {
-        String url = "https://api.data.gov.sg/v1/transport/carpark-availability";
+        String url = carparkAvailabilityUrl;
         URL link = new URL(url);
         URLConnection communicate = link.openConnection();
         communicate.setConnectTimeout(20000);
@@ -159,7 +189,7 @@ public class GsonUtil {
      * @throws IOException if unable to connect to URL.
      */
     private static void getCarparkAvailability() throws IOException {
-        String url = "https://api.data.gov.sg/v1/transport/carpark-availability";
+        String url = carparkAvailabilityUrl;
         URL link = new URL(url);
         URLConnection communicate = link.openConnection();
         communicate.setConnectTimeout(20000);
@@ -207,8 +237,7 @@ public class GsonUtil {
      * @throws IOException if unable to connect to URL.
      */
     private static void getCarparkData() throws IOException {
-        String urlHalf = "https://data.gov.sg/api/action/datastore_search?"
-                + "resource_id=139a3035-e624-4f56-b63f-89ae28d4ae4c&limit=2000&offset=";
+        String urlHalf = carparkInformationUrl;
 
         int offset = 0;
         StringBuilder urlFull = new StringBuilder();
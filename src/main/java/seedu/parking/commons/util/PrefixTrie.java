@@ -0,0 +1,171 @@
+package seedu.parking.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A trie of words, each counted as often as it was added, for completing a prefix into the most common words that
+ * start with it. Words are ranked by count, then by length, then alphabetically.
+ * Each node remembers its best {@code maxCompletions} words once asked for them, built from the remembered words
+ * of its children, so a repeated prefix only walks the prefix. Adding or removing a word forgets the remembered
+ * words of the nodes on its path alone.
+ */
+public class PrefixTrie {
+
+    private static final Comparator<Node> RANKING = Comparator.<Node>comparingInt(node -> -node.count)
+            .thenComparingInt(node -> node.word.length())
+            .thenComparing(node -> node.word);
+
+    private final int maxCompletions;
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Creates an empty trie that completes a prefix into at most {@code maxCompletions} words.
+     */
+    public PrefixTrie(int maxCompletions) {
+        this.maxCompletions = maxCompletions;
+    }
+
+    /**
+     * Counts {@code word} once more.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        Node node = root;
+        node.completions = null;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(word.charAt(i));
+            node.completions = null;
+        }
+        if (node.count++ == 0) {
+            node.word = word;
+            size++;
+        }
+    }
+
+    /**
+     * Counts {@code word} once less. Removing a word that is not in the trie does nothing.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Node node = find(word);
+        if (node == null || node.count == 0) {
+            return;
+        }
+        root.completions = null;
+        Node onPath = root;
+        for (int i = 0; i < word.length(); i++) {
+            onPath = onPath.getChild(word.charAt(i));
+            onPath.completions = null;
+        }
+        if (--node.count == 0) {
+            node.word = null;
+            size--;
+        }
+    }
+
+    /**
+     * Returns how many times {@code word} is counted.
+     */
+    public int getCount(String word) {
+        Node node = find(requireNonNull(word));
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Returns the best words that start with {@code prefix}, at most {@code limit} of them and never more than the
+     * maximum number of completions of this trie.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        Node node = find(prefix);
+        if (node == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<Node> best = node.getCompletions(maxCompletions);
+        List<String> words = new ArrayList<>(Math.min(limit, best.size()));
+        for (int i = 0; i < best.size() && i < limit; i++) {
+            words.add(best.get(i).word);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the number of distinct words in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.getChild(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A prefix in the trie, with its children kept in character order.
+     * Car park words share few letters at each position, so small sorted arrays beat a map of boxed keys.
+     */
+    private static class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int count;
+        private String word;
+        private List<Node> completions;
+
+        Node getChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = new Node();
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        /**
+         * Returns the best {@code max} words under this node, merging the remembered words of the children.
+         */
+        List<Node> getCompletions(int max) {
+            if (completions != null) {
+                return completions;
+            }
+            List<Node> candidates = new ArrayList<>();
+            if (count > 0) {
+                candidates.add(this);
+            }
+            for (Node child : children) {
+                candidates.addAll(child.getCompletions(max));
+            }
+            candidates.sort(RANKING);
+            completions = candidates.size() > max ? new ArrayList<>(candidates.subList(0, max)) : candidates;
+            return completions;
+        }
+    }
+}
@@ -92,6 +92,23 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Returns the value of {@code digits}, a string of the digits 0 to 9 only, saturating at
+     * {@code Integer.MAX_VALUE} instead of overflowing.
+     * @throws NullPointerException if {@code digits} is null.
+     */
+    public static int parseSaturatedUnsignedInteger(String digits) {
+        requireNonNull(digits);
+        long value = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            value = value * 10 + (digits.charAt(i) - '0');
+            if (value >= Integer.MAX_VALUE) {
+                return Integer.MAX_VALUE;
+            }
+        }
+        return (int) value;
+    }
+
     /**
      * Returns true if {@code s} represents a non-negative unsigned integer above 9
      * e.g. 0, 10, ..., {@code Integer.MAX_VALUE} <br>
@@ -0,0 +1,113 @@
+package seedu.parking.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written checks for the simple validation regexes of the car park value objects and the command line.
+ * Every car park field is validated on each load, and {@code String#matches} compiles its regex on every call, so
+ * these checks scan the string once instead. Each accepts exactly the strings its regex matches.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} matches {@code [^\s].*}: it is a single line that does not start with whitespace.
+     */
+    public static boolean isNonBlankLine(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \d+}: it is one or more of the digits 0 to 9.
+     */
+    public static boolean isDigits(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [0-9]{length}}: it is exactly {@code length} digits.
+     */
+    public static boolean isDigits(String test, int length) {
+        requireNonNull(test);
+        return test.length() == length && (length == 0 || isDigits(test));
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \p{Alnum}+}: it is one or more ASCII letters or digits.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isDigit(c) && !(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first character of {@code test} that is matched by {@code \s}, or -1 if there is none.
+     */
+    public static int indexOfWhitespace(String test) {
+        requireNonNull(test);
+        for (int i = 0; i < test.length(); i++) {
+            if (isRegexWhitespace(test.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code .*}: it has no line terminators.
+     */
+    public static boolean isSingleLine(String test) {
+        requireNonNull(test);
+        for (int i = 0; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}, which unlike {@link Character#isWhitespace} only means
+     * ASCII whitespace.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is not matched by {@code .}.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.parking.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A canonicalizing pool that hands out one shared instance per distinct string value.
+ * Meant for immutable, low-cardinality value objects which would otherwise be duplicated for every car park.
+ * Once the pool holds {@code maxSize} values, further values are created but no longer cached.
+ */
+public class ValuePool<T> {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final ConcurrentMap<String, T> pool = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+    private final int maxSize;
+
+    public ValuePool(Function<String, T> factory) {
+        this(factory, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs a pool that creates missing instances with {@code factory}.
+     *
+     * @param factory Creates a new instance from its string value, and may throw if the value is invalid.
+     * @param maxSize The maximum number of distinct values kept in the pool.
+     */
+    public ValuePool(Function<String, T> factory, int maxSize) {
+        requireNonNull(factory);
+        this.factory = factory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the shared instance for {@code value}, creating it on first use.
+     * Invalid values are never cached, so the factory's exception reaches the caller every time.
+     */
+    public T get(String value) {
+        requireNonNull(value);
+        T instance = pool.get(value);
+        if (instance != null) {
+            return instance;
+        }
+        if (pool.size() >= maxSize) {
+            return factory.apply(value);
+        }
+        return pool.computeIfAbsent(value, factory);
+    }
+
+    public int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,293 @@
+package seedu.parking.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import seedu.parking.commons.core.EventsCenter;
+import seedu.parking.commons.core.EventsCenter.Affinity;
+import seedu.parking.commons.core.EventsCenter.Subscription;
+import seedu.parking.commons.core.LogsCenter;
+import seedu.parking.commons.events.model.DataFetchExceptionEvent;
+import seedu.parking.commons.events.ui.ExitAppRequestEvent;
+import seedu.parking.commons.events.ui.NewResultAvailableEvent;
+import seedu.parking.commons.util.StringUtil;
+import seedu.parking.logic.commands.CommandResult;
+import seedu.parking.logic.commands.exceptions.CommandException;
+import seedu.parking.logic.parser.exceptions.ParseException;
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * Runs a script of commands without the UI, and writes the result of each command as a line of JSON.
+ * Reading the script, running its commands and writing their results are pipelined on three threads, so that
+ * commands run one after another without waiting on input or output. Commands still run strictly in order, and
+ * each waits for the background work of the one before, so a script gives the same results as typing it in.
+ *
+ * <p>Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. The script ends early at {@code exit}.
+ * A runner listens for the messages of its commands until it is closed.
+ */
+public class BatchRunner implements AutoCloseable {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    /** The number of lines read ahead, and of results not yet written, before the other threads wait. */
+    private static final int QUEUE_CAPACITY = 256;
+    private static final BatchResult END_OF_RESULTS = new BatchResult(0, "");
+
+    private final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final boolean isShowingCarparks;
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private volatile boolean hasBackgroundWorkFailed;
+    private volatile boolean isExitRequested;
+
+    /**
+     * Creates a runner of commands on {@code logic}. The car parks shown after each command are written with its
+     * result if {@code isShowingCarparks}.
+     */
+    public BatchRunner(Logic logic, boolean isShowingCarparks) {
+        this.logic = requireNonNull(logic);
+        this.isShowingCarparks = isShowingCarparks;
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        subscriptions.add(eventsCenter.subscribe(NewResultAvailableEvent.class, Affinity.DIRECT, event ->
+                messages.add(event.message)));
+        subscriptions.add(eventsCenter.subscribe(DataFetchExceptionEvent.class, Affinity.DIRECT, event -> {
+            hasBackgroundWorkFailed = true;
+            messages.add(event.exception.getMessage());
+        }));
+        subscriptions.add(eventsCenter.subscribe(ExitAppRequestEvent.class, Affinity.DIRECT, event ->
+                isExitRequested = true));
+    }
+
+    /**
+     * Stops listening for the messages of commands.
+     */
+    @Override
+    public void close() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        subscriptions.forEach(eventsCenter::unsubscribe);
+        subscriptions.clear();
+    }
+
+    /**
+     * Runs every command in {@code script} and writes their results to {@code output}, one line of JSON each.
+     * Commands that fail are written as failed results, and do not stop the script.
+     * @throws IOException If the script cannot be read or the results cannot be written.
+     */
+    public BatchSummary run(BufferedReader script, Writer output) throws IOException, InterruptedException {
+        requireNonNull(script);
+        requireNonNull(output);
+        BlockingQueue<Optional<String>> lines = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<BatchResult> results = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "batch-io");
+            // a reader blocked on standard input must not keep the app alive after exit
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Future<?> reading = executor.submit(() -> read(script, lines));
+            Future<?> writing = executor.submit(() -> write(results, output));
+            BatchSummary summary = runCommands(lines, results);
+            results.put(END_OF_RESULTS);
+            getIoResult(writing);
+            if (!isExitRequested) {
+                getIoResult(reading);
+            }
+            return summary;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the commands in {@code lines} in order until the end of the script or {@code exit}, and passes their
+     * results on to {@code results}.
+     */
+    private BatchSummary runCommands(BlockingQueue<Optional<String>> lines, BlockingQueue<BatchResult> results)
+            throws InterruptedException {
+        long startNanos = System.nanoTime();
+        int commandCount = 0;
+        int failureCount = 0;
+        int lineNumber = 0;
+        while (!isExitRequested) {
+            Optional<String> line = lines.take();
+            if (!line.isPresent()) {
+                break;
+            }
+            lineNumber++;
+            String commandText = line.get().trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            BatchResult result = runCommand(lineNumber, commandText);
+            commandCount++;
+            failureCount += result.success ? 0 : 1;
+            results.put(result);
+        }
+        return new BatchSummary(commandCount, failureCount, System.nanoTime() - startNanos);
+    }
+
+    private BatchResult runCommand(int lineNumber, String commandText) throws InterruptedException {
+        BatchResult result = new BatchResult(lineNumber, commandText);
+        messages.clear();
+        hasBackgroundWorkFailed = false;
+        long startNanos = System.nanoTime();
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            logic.awaitBackgroundWork();
+            result.success = !hasBackgroundWorkFailed;
+            result.result = commandResult.feedbackToUser;
+        } catch (CommandException | ParseException e) {
+            result.result = e.getMessage();
+        } catch (ExecutionException e) {
+            result.result = e.getCause().getMessage();
+        } catch (RuntimeException e) {
+            // commands that act on the UI, such as select, cannot run without it
+            logger.warning("Command on line " + lineNumber + " failed: " + StringUtil.getDetails(e));
+            result.result = e.toString();
+        }
+        result.millis = (System.nanoTime() - startNanos) / 1e6;
+
+        synchronized (messages) {
+            result.messages = messages.isEmpty() ? null : new ArrayList<>(messages);
+        }
+        result.shownCount = logic.getFilteredCarparkList().size();
+        if (isShowingCarparks) {
+            // car parks are immutable, so they can be written out on the writer thread while the next command runs
+            result.shown = new ArrayList<>(logic.getFilteredCarparkList());
+        }
+        return result;
+    }
+
+    /**
+     * Reads every line of {@code script} into {@code lines}, followed by an empty line to mark its end.
+     */
+    private static Void read(BufferedReader script, BlockingQueue<Optional<String>> lines)
+            throws IOException, InterruptedException {
+        try {
+            for (String line = script.readLine(); line != null; line = script.readLine()) {
+                lines.put(Optional.of(line));
+            }
+        } finally {
+            lines.put(Optional.empty());
+        }
+        return null;
+    }
+
+    /**
+     * Writes every result in {@code results} to {@code output} until the end of the results, flushing whenever no
+     * result is waiting so that each is seen as soon as it is ready.
+     * If writing fails, the remaining results are discarded so that commands do not wait on a full queue.
+     */
+    private Void write(BlockingQueue<BatchResult> results, Writer output) throws IOException, InterruptedException {
+        IOException failure = null;
+        for (BatchResult result = results.take(); result != END_OF_RESULTS; result = results.take()) {
+            if (failure != null) {
+                continue;
+            }
+            try {
+                result.carparks = result.shown == null ? null : CarparkRecord.of(result.shown);
+                gson.toJson(result, output);
+                output.write(System.lineSeparator());
+                if (results.isEmpty()) {
+                    output.flush();
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        output.flush();
+        return null;
+    }
+
+    /**
+     * Waits for {@code task} to finish, rethrowing the {@code IOException} it failed with, if any.
+     */
+    private static void getIoResult(Future<?> task) throws IOException, InterruptedException {
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * The number of commands run and how long they took.
+     */
+    public static class BatchSummary {
+        private final int commandCount;
+        private final int failureCount;
+        private final long nanos;
+
+        public BatchSummary(int commandCount, int failureCount, long nanos) {
+            this.commandCount = commandCount;
+            this.failureCount = failureCount;
+            this.nanos = nanos;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public double getCommandsPerSecond() {
+            return nanos == 0 ? 0 : commandCount / (nanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Ran %d commands (%d failed) in %.2fs, %.1f commands per second", commandCount,
+                    failureCount, nanos / 1e9, getCommandsPerSecond());
+        }
+    }
+
+    /**
+     * The result of one command, as it is written out.
+     */
+    private static class BatchResult {
+        private final int line;
+        private final String command;
+        private boolean success;
+        private String result;
+        private List<String> messages;
+        private double millis;
+        private int shownCount;
+        private List<CarparkRecord> carparks;
+        private transient List<Carpark> shown;
+
+        private BatchResult(int line, String command) {
+            this.line = line;
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.parking.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * A car park as it is written out in JSON, with each detail as plain text.
+ */
+public class CarparkRecord {
+    private final String carparkNumber;
+    private final String address;
+    private final String lotsAvailable;
+    private final String totalLots;
+    private final String carparkType;
+    private final String typeOfParking;
+    private final String shortTerm;
+    private final String freeParking;
+    private final String nightParking;
+    private final String coordinate;
+    private final String postalCode;
+
+    public CarparkRecord(Carpark carpark) {
+        carparkNumber = carpark.getCarparkNumber().toString();
+        address = carpark.getAddress().toString();
+        lotsAvailable = carpark.getLotsAvailable().toString();
+        totalLots = carpark.getTotalLots().toString();
+        carparkType = carpark.getCarparkType().toString();
+        typeOfParking = carpark.getTypeOfParking().toString();
+        shortTerm = carpark.getShortTerm().toString();
+        freeParking = carpark.getFreeParking().toString();
+        nightParking = carpark.getNightParking().toString();
+        coordinate = carpark.getCoordinate().toString();
+        postalCode = carpark.getPostalCode().toString();
+    }
+
+    /**
+     * Returns the records of {@code carparks}, in the same order.
+     */
+    public static List<CarparkRecord> of(List<Carpark> carparks) {
+        List<CarparkRecord> records = new ArrayList<>(carparks.size());
+        for (Carpark carpark : carparks) {
+            records.add(new CarparkRecord(carpark));
+        }
+        return records;
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.parking.logic;
 
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
 import javafx.collections.ObservableList;
 import seedu.parking.logic.commands.CommandResult;
 import seedu.parking.logic.commands.exceptions.CommandException;
@@ -19,9 +22,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Waits until the work that the last command left running in the background, such as fetching car parks for
+     * {@code query}, has finished.
+     * @throws ExecutionException If the background work failed.
+     */
+    void awaitBackgroundWork() throws InterruptedException, ExecutionException;
+
     /** Returns an unmodifiable view of the filtered list of car parks */
     ObservableList<Carpark> getFilteredCarparkList();
 
+    /**
+     * Returns the car park numbers and address words that start with {@code prefix}, ignoring case,
+     * those found in the most car parks first.
+     */
+    List<String> getCompletions(String prefix);
+
+    /**
+     * Returns the car park numbers that start with {@code prefix}, ignoring case.
+     */
+    List<String> getCarparkNumberCompletions(String prefix);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 }
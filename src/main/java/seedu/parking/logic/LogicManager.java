@@ -1,15 +1,22 @@
 package seedu.parking.logic;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.parking.commons.core.ComponentManager;
 import seedu.parking.commons.core.LogsCenter;
+import seedu.parking.commons.core.MetricsCenter;
 import seedu.parking.logic.commands.Command;
 import seedu.parking.logic.commands.CommandResult;
 import seedu.parking.logic.commands.exceptions.CommandException;
 import seedu.parking.logic.parser.CarparkFinderParser;
 import seedu.parking.logic.parser.exceptions.ParseException;
+import seedu.parking.model.CarparkCompletionIndex;
 import seedu.parking.model.Model;
 import seedu.parking.model.carpark.Carpark;
 
@@ -17,11 +24,17 @@ import seedu.parking.model.carpark.Carpark;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    /** The name that commands which could not be parsed are recorded under, as their command is unknown. */
+    public static final String UNPARSED_COMMAND = "(unparsed)";
+
+    private static final Future<?> NO_BACKGROUND_WORK = CompletableFuture.completedFuture(null);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final CarparkFinderParser carparkFinderParser;
+    private Future<?> backgroundWork = NO_BACKGROUND_WORK;
 
     public LogicManager(Model model) {
         this.model = model;
@@ -31,12 +44,45 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (logger.isLoggable(Level.INFO)) {
+            logger.info("----------------[USER COMMAND][" + commandText + "]");
+        }
+        long startNanos = System.nanoTime();
+        String commandWord = UNPARSED_COMMAND;
+        boolean isError = true;
         try {
             Command command = carparkFinderParser.parseCommand(commandText);
-            return command.execute(model, history);
+            commandWord = getCommandWord(command);
+            CommandResult result = command.execute(model, history);
+            backgroundWork = command.getBackgroundWork();
+            isError = false;
+            return result;
         } finally {
+            if (isError) {
+                // a command that fails leaves no work behind, so the work of an earlier command is not awaited again
+                backgroundWork = NO_BACKGROUND_WORK;
+            }
             history.add(commandText);
+            MetricsCenter.getInstance().recordCommand(commandWord, System.nanoTime() - startNanos,
+                    model.getFilteredCarparkList().size(), isError);
+        }
+    }
+
+    /**
+     * Returns the command word of {@code command}, which every command class is named after.
+     */
+    private static String getCommandWord(Command command) {
+        return command.getClass().getSimpleName().replaceFirst("Command$", "").toLowerCase();
+    }
+
+    @Override
+    public void awaitBackgroundWork() throws InterruptedException, ExecutionException {
+        try {
+            backgroundWork.get();
+        } catch (ExecutionException e) {
+            // reported once, so that the next command does not fail with it too
+            backgroundWork = NO_BACKGROUND_WORK;
+            throw e;
         }
     }
 
@@ -45,6 +91,16 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredCarparkList();
     }
 
+    @Override
+    public List<String> getCompletions(String prefix) {
+        return model.getCarparkCompletionIndex().complete(prefix, CarparkCompletionIndex.MAX_COMPLETIONS);
+    }
+
+    @Override
+    public List<String> getCarparkNumberCompletions(String prefix) {
+        return model.getCarparkCompletionIndex().completeCarparkNumber(prefix, CarparkCompletionIndex.MAX_COMPLETIONS);
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
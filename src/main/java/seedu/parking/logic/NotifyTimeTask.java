@@ -63,14 +63,16 @@ public class NotifyTimeTask extends TimerTask {
             }
 
             CarparkNumber selectedNumber = CarparkListPanel.getSelectedCarpark().getCarparkNumber();
-            int oldValue = Integer.parseInt(CarparkListPanel.getSelectedCarpark().getLotsAvailable().value);
+            int oldValue = CarparkListPanel.getSelectedCarpark().getLotsAvailable().getCount();
             List<String> updateData = new ArrayList<>(GsonUtil.getSelectedCarparkInfo(
                     selectedNumber.toString()));
 
-            model.getCarparkFinder().getCarparkList().parallelStream()
-                    .filter(carpark -> carpark.getCarparkNumber().equals(selectedNumber))
-                    .findFirst().ifPresent(carpark -> carpark.setLots(new LotsAvailable(updateData.get(1)),
-                            new TotalLots(updateData.get(2))));
+            // this runs on the timer thread, so the car park is looked up in a snapshot of the model
+            Carpark selectedCarpark = model.getSnapshot().getCarpark(selectedNumber.value);
+            LotsAvailable newLots = new LotsAvailable(updateData.get(1));
+            if (selectedCarpark != null) {
+                model.updateCarparkLots(selectedCarpark, newLots, new TotalLots(updateData.get(2)));
+            }
             EventsCenter.getInstance().post(new NotifyCarparkRequestEvent());
             model.commitCarparkFinder();
             logger.info("Lots Available: " + updateData.get(1) + " Total Lots: " + updateData.get(2));
@@ -78,7 +80,7 @@ public class NotifyTimeTask extends TimerTask {
             if (CarparkListPanel.getTimeInterval() > 0) {
                 EventsCenter.getInstance().post(new JumpToListRequestEvent(notifyIndex));
 
-                int newValue = Integer.parseInt(updateData.get(1));
+                int newValue = newLots.getCount();
                 int diffValue = newValue - oldValue;
 
                 if (diffValue == 0) {
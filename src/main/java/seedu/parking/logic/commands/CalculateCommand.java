@@ -61,6 +61,20 @@ public class CalculateCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_CARPARK_NAME);
         }
 
+        double cost = calculateCost(targetCarpark);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_COST_OF_PARKING, cost));
+    }
+
+    public String getCarparkNumber() {
+        return carparkNumber;
+    }
+
+    /**
+     * Returns the cost of parking at {@code targetCarpark} for the day and times of this command.
+     * @throws CommandException If the car park has no short-term parking at those times.
+     */
+    public double calculateCost(Carpark targetCarpark) throws CommandException {
         double cost = 0;
         try {
             SimpleDateFormat dateFormat1 = new SimpleDateFormat("hh.mmaa");
@@ -118,15 +132,16 @@ public class CalculateCommand extends Command {
                 double cost1 = 0;
                 double cost2 = 0;
 
+                // only the parts of the stay before and after free parking are charged
                 if (inputStart.before(freeParkingOpening)) {
-                    long diff1 = freeParkingOpening.getTime() - inputStart.getTime();
+                    long diff1 = Math.min(inputEnd.getTime(), freeParkingOpening.getTime()) - inputStart.getTime();
                     long minute1 = TimeUnit.MINUTES.convert(diff1, TimeUnit.MILLISECONDS);
                     double halfHour1 = Math.ceil(minute1 / 30.00);
                     cost1 = halfHour1 * 0.60;
                 }
 
                 if (inputEnd.after(freeParkingClosing)) {
-                    long diff2 = inputEnd.getTime() - freeParkingClosing.getTime();
+                    long diff2 = inputEnd.getTime() - Math.max(inputStart.getTime(), freeParkingClosing.getTime());
                     long minute2 = TimeUnit.MINUTES.convert(diff2, TimeUnit.MILLISECONDS);
                     double halfHour2 = Math.ceil(minute2 / 30.00);
                     cost2 = halfHour2 * 0.60;
@@ -137,8 +152,7 @@ public class CalculateCommand extends Command {
             throw new CommandException(Messages.MESSAGE_ERROR_PARSING_CARPARK_INFO);
         }
 
-        return new CommandResult(
-                String.format(Messages.MESSAGE_COST_OF_PARKING, cost));
+        return cost;
     }
 
     // Please fix the last line, it will give NULLPOINTEREXCEPTION because predicate is initialized as null value.
@@ -0,0 +1,92 @@
+package seedu.parking.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.parking.commons.core.EventsCenter;
+import seedu.parking.commons.events.ui.FilterResultChangedEvent;
+import seedu.parking.logic.CommandHistory;
+import seedu.parking.model.CarparkTariffTable;
+import seedu.parking.model.CarparkTariffTable.Quote;
+import seedu.parking.model.Model;
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * Lists the car parks in the current list with lots available that cost the least to park at for a time period,
+ * cheapest first.
+ */
+public class CheapestCommand extends Command {
+
+    public static final String COMMAND_WORD = "cheapest";
+    public static final String FORMAT = "cheapest DAY S_TIME E_TIME";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the listed car parks with lots available that cost the least to park at "
+            + "for a specified time period, cheapest first.\n"
+            + "Parameters: DAY START_TIME END_TIME [top/ COUNT]\n"
+            + "Example: " + COMMAND_WORD + " sun 7.30am 3.30pm top/ 3";
+
+    public static final String MESSAGE_CHEAPEST_LISTED = "%1$d cheapest car park(s) found!";
+    public static final String MESSAGE_QUOTE_LINE = "\n  %1$d. %2$s: $%3$.2f";
+    public static final String MESSAGE_NO_CHEAPEST = "None of the listed car parks has lots available and "
+            + "short-term parking for all of that time.";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    private final String day;
+    private final int startMinute;
+    private final int endMinute;
+    private final int count;
+
+    /**
+     * Creates a CheapestCommand for parking from minute {@code startMinute} to minute {@code endMinute} of
+     * {@code day}, which shows at most {@code count} car parks.
+     */
+    public CheapestCommand(String day, int startMinute, int endMinute, int count) {
+        requireNonNull(day);
+        this.day = day;
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        CarparkTariffTable tariffTable = model.getCarparkTariffTable();
+        List<Quote> quotes = tariffTable.findCheapest(model.getFilteredCarparkList(), day.equals("SUN"),
+                startMinute, endMinute, count);
+        if (quotes.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CHEAPEST);
+        }
+
+        // keyed by car park number, since updating the lots of a car park replaces it with a copy
+        Map<String, Integer> rankOf = new HashMap<>();
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_CHEAPEST_LISTED, quotes.size()));
+        for (int i = 0; i < quotes.size(); i++) {
+            Quote quote = quotes.get(i);
+            rankOf.put(quote.getCarpark().getCarparkNumber().value, i);
+            builder.append(String.format(MESSAGE_QUOTE_LINE, i + 1, quote.getCarpark().getCarparkNumber(),
+                    quote.getCost()));
+        }
+        model.updateFilteredCarparkList(carpark -> rankOf.containsKey(carpark.getCarparkNumber().value),
+                Comparator.comparingInt(carpark -> rankOf.get(carpark.getCarparkNumber().value)));
+
+        EventsCenter.getInstance().post(new FilterResultChangedEvent(
+                model.getFilteredCarparkList().toArray(new Carpark[]{})));
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CheapestCommand // instanceof handles nulls
+                && day.equals(((CheapestCommand) other).day)
+                && startMinute == ((CheapestCommand) other).startMinute
+                && endMinute == ((CheapestCommand) other).endMinute
+                && count == ((CheapestCommand) other).count); // state check
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.parking.logic.commands;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
 import seedu.parking.logic.CommandHistory;
 import seedu.parking.logic.commands.exceptions.CommandException;
 import seedu.parking.model.Model;
@@ -19,4 +22,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Returns the work that the last execution of this command left running in the background.
+     * Most commands finish all their work before returning, so this is already done unless overridden.
+     */
+    public Future<?> getBackgroundWork() {
+        return CompletableFuture.completedFuture(null);
+    }
+
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import com.sun.istack.Nullable;
@@ -11,10 +12,12 @@ import com.sun.istack.Nullable;
 import seedu.parking.commons.core.EventsCenter;
 import seedu.parking.commons.core.Messages;
 import seedu.parking.commons.events.ui.FilterResultChangedEvent;
+import seedu.parking.commons.events.ui.NewResultAvailableEvent;
 import seedu.parking.logic.CommandHistory;
 import seedu.parking.logic.commands.exceptions.CommandException;
 import seedu.parking.logic.parser.CarparkTypeParameter;
 import seedu.parking.logic.parser.FreeParkingParameter;
+import seedu.parking.logic.parser.LotsParameter;
 import seedu.parking.logic.parser.ParkingSystemTypeParameter;
 import seedu.parking.model.Model;
 import seedu.parking.model.carpark.Carpark;
@@ -42,13 +45,16 @@ public class FilterCommand extends Command {
             + "> Short-term Parking: st/ \n"
             + "> Free Parking: f/ [day] [start time] [end time]     Example: filter f/ sun 7.30am 8.30pm\n"
             + "> Car Park Type: ct/ [car park type]     Example: filter ct/ basement\n"
-            + "> Parking System Type: ps/ [parking system type]     Example: filter ps/ coupon\n";
+            + "> Parking System Type: ps/ [parking system type]     Example: filter ps/ coupon\n"
+            + "> Minimum Lots Available: lots/ [number of lots]     Example: filter lots/ 50\n"
+            + "> Maximum Occupancy: occ/ [percentage of lots taken]     Example: filter occ/ 80\n";
 
     private Predicate predicate;
     private final List<String> flagList;
     private final FreeParkingParameter freeParkingParameter;
     private final CarparkTypeParameter carparkTypeParameter;
     private final ParkingSystemTypeParameter parkingSystemTypeParameter;
+    private final LotsParameter lotsParameter;
 
     /**
      * Creates a FilterCommand with the relevant flags
@@ -56,11 +62,21 @@ public class FilterCommand extends Command {
     public FilterCommand(List<String> flagList, @Nullable FreeParkingParameter freeParkingParameter,
         @Nullable CarparkTypeParameter carparkTypeParameter,
         @Nullable ParkingSystemTypeParameter parkingSystemTypeParameter) {
+        this(flagList, freeParkingParameter, carparkTypeParameter, parkingSystemTypeParameter, null);
+    }
+
+    /**
+     * Creates a FilterCommand with the relevant flags, including the flags on the number of lots
+     */
+    public FilterCommand(List<String> flagList, @Nullable FreeParkingParameter freeParkingParameter,
+        @Nullable CarparkTypeParameter carparkTypeParameter,
+        @Nullable ParkingSystemTypeParameter parkingSystemTypeParameter, @Nullable LotsParameter lotsParameter) {
         this.predicate = null;
         this.flagList = flagList;
         this.freeParkingParameter = freeParkingParameter;
         this.carparkTypeParameter = carparkTypeParameter;
         this.parkingSystemTypeParameter = parkingSystemTypeParameter;
+        this.lotsParameter = lotsParameter;
     }
 
     @Override
@@ -72,11 +88,13 @@ public class FilterCommand extends Command {
             throw new CommandException(Messages.MESSAGE_FINDCOMMAND_NEEDS_TO_BE_EXECUTED_FIRST);
         }
 
-        List<String> locationKeywords = locationPredicate.getKeywords();
-        predicate = new CarparkFilteringPredicate(locationKeywords, flagList, freeParkingParameter,
-                carparkTypeParameter, parkingSystemTypeParameter);
+        CarparkFilteringPredicate filteringPredicate = createPredicate(locationPredicate.getKeywords());
+        predicate = filteringPredicate;
 
-        model.updateFilteredCarparkList(predicate);
+        model.updateFilteredCarparkList(filteringPredicate);
+        if (filteringPredicate.hasParseFailure()) {
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(Messages.MESSAGE_ERROR_PARSING_CARPARK_INFO));
+        }
 
         EventsCenter.getInstance().post(new FilterResultChangedEvent(
                 model.getFilteredCarparkList().toArray(new Carpark[]{})));
@@ -84,6 +102,14 @@ public class FilterCommand extends Command {
                 String.format(Messages.MESSAGE_CARPARKS_LISTED_OVERVIEW, model.getFilteredCarparkList().size()));
     }
 
+    /**
+     * Returns a predicate that matches the car parks found by {@code locationKeywords} that meet every flag.
+     */
+    public CarparkFilteringPredicate createPredicate(List<String> locationKeywords) {
+        return new CarparkFilteringPredicate(locationKeywords, flagList, freeParkingParameter,
+                carparkTypeParameter, parkingSystemTypeParameter, lotsParameter);
+    }
+
     // Please fix the last line, it will give NULLPOINTEREXCEPTION because predicate is initialized as null value.
     @Override
     public boolean equals(Object other) {
@@ -121,7 +147,9 @@ public class FilterCommand extends Command {
                 || parkingSystemTypeParameter.getParkingSystemType()
                 .equals(otherFilterCommand.parkingSystemTypeParameter.getParkingSystemType());
 
+        boolean checkLotsParameter = Objects.equals(lotsParameter, otherFilterCommand.lotsParameter);
+
         return checkFlagList && checkPredicate && checkFreeParkingParameter && checkCarparkTypeParameter
-                && checkParkingSystemTypeParameter;
+                && checkParkingSystemTypeParameter && checkLotsParameter;
     }
 }
@@ -2,39 +2,81 @@ package seedu.parking.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
 import seedu.parking.commons.core.EventsCenter;
 import seedu.parking.commons.core.Messages;
 import seedu.parking.commons.events.ui.FindResultChangedEvent;
 import seedu.parking.logic.CommandHistory;
+import seedu.parking.model.CarparkFilterEngine;
+import seedu.parking.model.CarparkTokenIndex;
 import seedu.parking.model.Model;
 import seedu.parking.model.carpark.Carpark;
 import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
 
 /**
  * Finds and lists all car parks in car park finder whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. The car parks found are ranked by how well they match.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
     public static final String FORMAT = "find KEYWORD";
+    public static final String FIRST_ARG = "KEYWORD";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all car parks whose names contain any of "
-            + "the specified keywords (case-insensitive)\nand displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " punggol";
+            + "the specified keywords (case-insensitive)\nand displays them as a list with index numbers, "
+            + "best matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [top/ COUNT] [a/] [fz/]\n"
+            + "Example: " + COMMAND_WORD + " punggol top/ 10 a/";
 
     private final CarparkContainsKeywordsPredicate predicate;
+    private final int limit;
+    private final boolean weightByLots;
+    private final boolean isFuzzy;
 
     public FindCommand(CarparkContainsKeywordsPredicate predicate) {
+        this(predicate, CarparkContainsKeywordsPredicate.NO_LIMIT, false);
+    }
+
+    public FindCommand(CarparkContainsKeywordsPredicate predicate, int limit, boolean weightByLots) {
+        this(predicate, limit, weightByLots, false);
+    }
+
+    /**
+     * Creates a FindCommand that shows at most {@code limit} car parks, optionally preferring those
+     * with more lots available among equally good matches.
+     * If {@code isFuzzy} is true, keywords also match words that are a few typos away from them.
+     */
+    public FindCommand(CarparkContainsKeywordsPredicate predicate, int limit, boolean weightByLots,
+                       boolean isFuzzy) {
         this.predicate = predicate;
+        this.limit = limit;
+        this.weightByLots = weightByLots;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredCarparkList(predicate);
-        model.updateLastPredicateUsedByFindCommand(predicate);
+        CarparkContainsKeywordsPredicate searchPredicate = getSearchPredicate(model::getCarparkTokenIndex);
+        List<Carpark> ranked = searchPredicate.rank(model.getMatchingCarparks(searchPredicate), limit, weightByLots);
+
+        // keyed by car park number, since updating the lots of a car park replaces it with a copy
+        Map<String, Integer> rankOf = new HashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            rankOf.put(ranked.get(i).getCarparkNumber().value, i);
+        }
+        model.updateFilteredCarparkList(carpark -> rankOf.containsKey(carpark.getCarparkNumber().value),
+                Comparator.comparingInt(carpark -> rankOf.get(carpark.getCarparkNumber().value)));
+        model.updateLastPredicateUsedByFindCommand(searchPredicate);
 
         EventsCenter.getInstance().post(new FindResultChangedEvent(
                 model.getFilteredCarparkList().toArray(new Carpark[]{})));
@@ -42,10 +84,41 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_CARPARKS_LISTED_OVERVIEW, model.getFilteredCarparkList().size()));
     }
 
+    /**
+     * Returns the predicate to search with: the keywords, and for a fuzzy search also the words of
+     * {@code tokenIndex} that are a few typos away from them. The index is only built for a fuzzy search.
+     */
+    public CarparkContainsKeywordsPredicate getSearchPredicate(Supplier<CarparkTokenIndex> tokenIndex) {
+        return isFuzzy ? addSimilarKeywords(tokenIndex.get()) : predicate;
+    }
+
+    /**
+     * Returns the car parks in {@code carparks} that match {@code searchPredicate}, best matches first, up to the
+     * limit of this command. The matches are found in parallel on large lists, so only they are ranked.
+     */
+    public List<Carpark> search(List<Carpark> carparks, CarparkContainsKeywordsPredicate searchPredicate) {
+        return searchPredicate.rank(CarparkFilterEngine.filter(carparks, searchPredicate), limit, weightByLots);
+    }
+
+    /**
+     * Returns a predicate that also matches the indexed words which are a few typos away from the keywords.
+     */
+    private CarparkContainsKeywordsPredicate addSimilarKeywords(CarparkTokenIndex tokenIndex) {
+        Set<String> keywords = new LinkedHashSet<>();
+        for (String keyword : predicate.getKeywords()) {
+            keywords.add(keyword);
+            keywords.addAll(tokenIndex.findSimilar(keyword));
+        }
+        return new CarparkContainsKeywordsPredicate(new ArrayList<>(keywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && limit == ((FindCommand) other).limit
+                && weightByLots == ((FindCommand) other).weightByLots
+                && isFuzzy == ((FindCommand) other).isFuzzy); // state check
     }
 }
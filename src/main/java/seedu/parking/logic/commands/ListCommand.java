@@ -7,6 +7,7 @@ import seedu.parking.commons.core.EventsCenter;
 import seedu.parking.commons.events.ui.ListCarparkRequestEvent;
 import seedu.parking.logic.CommandHistory;
 import seedu.parking.model.Model;
+import seedu.parking.model.carpark.Carpark;
 
 /**
  * Lists all car parks in the car park finder to the user.
@@ -23,7 +24,8 @@ public class ListCommand extends Command {
         model.updateFilteredCarparkList(PREDICATE_SHOW_ALL_CARPARK);
         int size = model.getCarparkFinder().getCarparkList().size();
 
-        EventsCenter.getInstance().post(new ListCarparkRequestEvent());
+        EventsCenter.getInstance().post(new ListCarparkRequestEvent(
+                model.getFilteredCarparkList().toArray(new Carpark[]{})));
         return new CommandResult(String.format(MESSAGE_SUCCESS, size));
     }
 }
@@ -0,0 +1,28 @@
+package seedu.parking.logic.commands;
+
+import seedu.parking.commons.core.MetricsCenter;
+import seedu.parking.logic.CommandHistory;
+import seedu.parking.model.Model;
+
+/**
+ * Shows the latency, result size and errors of each command run so far, and the latency of each background stage.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each command and each stage of loading and saving car parks has taken.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Metrics since the app started (times in milliseconds)\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        String report = MetricsCenter.getInstance().getReport();
+        if (report.equals(MetricsCenter.MESSAGE_NO_METRICS)) {
+            return new CommandResult(report);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, report));
+    }
+}
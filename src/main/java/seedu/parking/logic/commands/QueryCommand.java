@@ -13,6 +13,8 @@ import java.util.logging.Logger;
 
 import seedu.parking.commons.core.EventsCenter;
 import seedu.parking.commons.core.LogsCenter;
+import seedu.parking.commons.core.MetricsCenter;
+import seedu.parking.commons.core.MetricsCenter.StageTimer;
 import seedu.parking.commons.events.model.DataFetchExceptionEvent;
 import seedu.parking.commons.events.ui.ListCarparkRequestEvent;
 import seedu.parking.commons.events.ui.NewResultAvailableEvent;
@@ -45,6 +47,9 @@ public class QueryCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "%1$d car parks updated";
     public static final String MESSAGE_LOADING = "Loading... please wait...";
+    /** The name that the work done in the background is recorded under in the metrics. */
+    public static final String BACKGROUND_METRICS_NAME = COMMAND_WORD + " (background)";
+
     public static final String MESSAGE_ERROR_CARPARK = "Unable to retrieve car park information from data.gov.sg\n"
             + "Please check your internet connection and try again";
 
@@ -61,6 +66,11 @@ public class QueryCommand extends Command {
         return future;
     }
 
+    @Override
+    public Future<?> getBackgroundWork() {
+        return future;
+    }
+
     /**
      * Calls the API and load all the car parks information
      * @return An array of car parks
@@ -69,10 +79,10 @@ public class QueryCommand extends Command {
         List<Carpark> carparkList = new ArrayList<>();
         for (List<String> carpark : carparkData) {
             Carpark c = new Carpark(new Address(carpark.get(0)), new CarparkNumber(carpark.get(1)),
-                    new CarparkType(carpark.get(2)), new Coordinate(carpark.get(3)),
-                    new FreeParking(carpark.get(4)), new LotsAvailable(carpark.get(5)),
-                    new NightParking(carpark.get(6)), new ShortTerm(carpark.get(7)),
-                    new TotalLots(carpark.get(8)), new TypeOfParking(carpark.get(9)), new PostalCode(carpark.get(10)),
+                    CarparkType.of(carpark.get(2)), new Coordinate(carpark.get(3)),
+                    FreeParking.of(carpark.get(4)), new LotsAvailable(carpark.get(5)),
+                    NightParking.of(carpark.get(6)), ShortTerm.of(carpark.get(7)),
+                    new TotalLots(carpark.get(8)), TypeOfParking.of(carpark.get(9)), new PostalCode(carpark.get(10)),
                     null);
             carparkList.add(c);
         }
@@ -85,30 +95,51 @@ public class QueryCommand extends Command {
         requireNonNull(model);
 
         Callable<Boolean> task = () -> {
+            MetricsCenter metrics = MetricsCenter.getInstance();
+            long startNanos = System.nanoTime();
+            int resultSize = 0;
+            boolean isError = true;
             try {
                 EventsCenter.getInstance().post(new TimeIntervalChangeEvent(0));
                 EventsCenter.getInstance().post(new NoSelectionRequestEvent());
                 EventsCenter.getInstance().post(new ToggleTextFieldRequestEvent());
                 model.updateFilteredCarparkList(unused -> false);
-                List<List<String>> carparkData = new ArrayList<>(GsonUtil.fetchAllCarparkInfo());
+                List<List<String>> carparkData;
+                try (StageTimer timer = metrics.startStage("query.fetch")) {
+                    carparkData = new ArrayList<>(GsonUtil.fetchAllCarparkInfo());
+                }
                 logger.info("Success in fetching all car parks");
-                List<Carpark> allCarparks = new ArrayList<>(readCarpark(carparkData));
-                model.loadCarpark(allCarparks);
-                model.commitCarparkFinder();
-                int updated = model.compareCarparkFinder();
+                List<Carpark> allCarparks;
+                try (StageTimer timer = metrics.startStage("query.parse")) {
+                    allCarparks = new ArrayList<>(readCarpark(carparkData));
+                }
+                try (StageTimer timer = metrics.startStage("query.load")) {
+                    model.loadCarpark(allCarparks);
+                }
+                try (StageTimer timer = metrics.startStage("query.commit")) {
+                    model.commitCarparkFinder();
+                }
+                int updated;
+                try (StageTimer timer = metrics.startStage("query.compare")) {
+                    updated = model.compareCarparkFinder();
+                }
+                EventsCenter.getInstance().post(new ListCarparkRequestEvent(allCarparks.toArray(new Carpark[]{})));
                 EventsCenter.getInstance().post(new NewResultAvailableEvent(String.format(MESSAGE_SUCCESS, updated)));
                 EventsCenter.getInstance().post(new ToggleTextFieldRequestEvent());
+                resultSize = allCarparks.size();
+                isError = false;
             } catch (Exception e) {
                 model.updateFilteredCarparkList(unused -> true);
                 EventsCenter.getInstance().post(new DataFetchExceptionEvent(
                         new CommandException(MESSAGE_ERROR_CARPARK)));
+            } finally {
+                metrics.recordCommand(BACKGROUND_METRICS_NAME, System.nanoTime() - startNanos, resultSize, isError);
             }
             return true;
         };
 
         future = threadExecutor.submit(task);
 
-        EventsCenter.getInstance().post(new ListCarparkRequestEvent());
         return new CommandResult(MESSAGE_LOADING);
     }
 }
@@ -0,0 +1,53 @@
+package seedu.parking.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import seedu.parking.logic.CommandHistory;
+import seedu.parking.model.CarparkColumnStore;
+import seedu.parking.model.CarparkColumnStore.Occupancy;
+import seedu.parking.model.Model;
+
+/**
+ * Shows occupancy statistics over all car parks in the car park finder.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the total lots available, the occupancy of each car park type and the busiest car parks.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_CARPARKS = "There are no car parks to show statistics for. "
+            + "Use the query command to load them first.";
+    public static final String MESSAGE_SUMMARY = "Statistics of %1$d car parks: %2$s";
+    public static final String MESSAGE_TYPE_LINE = "\n  %1$s: %2$s";
+    public static final String MESSAGE_BUSIEST = "\nBusiest car parks: %1$s";
+    public static final String MESSAGE_EMPTIEST = "\nEmptiest car parks: %1$s";
+
+    public static final int NUMBER_OF_CARPARKS_SHOWN = 5;
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        CarparkColumnStore columnStore = model.getCarparkColumnStore();
+
+        if (columnStore.size() == 0) {
+            return new CommandResult(MESSAGE_NO_CARPARKS);
+        }
+
+        StringBuilder builder = new StringBuilder(
+                String.format(MESSAGE_SUMMARY, columnStore.size(), columnStore.getTotalOccupancy()));
+        for (Map.Entry<String, Occupancy> entry : columnStore.getOccupancyByType().entrySet()) {
+            builder.append(String.format(MESSAGE_TYPE_LINE, entry.getKey(), entry.getValue()));
+        }
+        builder.append(String.format(MESSAGE_BUSIEST,
+                String.join(", ", columnStore.getBusiestCarparks(NUMBER_OF_CARPARKS_SHOWN))));
+        builder.append(String.format(MESSAGE_EMPTIEST,
+                String.join(", ", columnStore.getEmptiestCarparks(NUMBER_OF_CARPARKS_SHOWN))));
+
+        return new CommandResult(builder.toString());
+    }
+}
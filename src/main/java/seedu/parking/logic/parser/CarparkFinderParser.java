@@ -1,15 +1,13 @@
 package seedu.parking.logic.parser;
 
 import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND;
+import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND;
 import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_FIND_OR_FILTER_COMMAND;
 import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_HELP_OR_HISTORY_COMMAND;
-import static seedu.parking.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import seedu.parking.commons.util.ValidationUtil;
 import seedu.parking.logic.commands.CalculateCommand;
+import seedu.parking.logic.commands.CheapestCommand;
 import seedu.parking.logic.commands.ClearCommand;
 import seedu.parking.logic.commands.Command;
 import seedu.parking.logic.commands.ExitCommand;
@@ -18,10 +16,12 @@ import seedu.parking.logic.commands.FindCommand;
 import seedu.parking.logic.commands.HelpCommand;
 import seedu.parking.logic.commands.HistoryCommand;
 import seedu.parking.logic.commands.ListCommand;
+import seedu.parking.logic.commands.MetricsCommand;
 import seedu.parking.logic.commands.NotifyCommand;
 import seedu.parking.logic.commands.QueryCommand;
 import seedu.parking.logic.commands.RedoCommand;
 import seedu.parking.logic.commands.SelectCommand;
+import seedu.parking.logic.commands.StatsCommand;
 import seedu.parking.logic.commands.UndoCommand;
 import seedu.parking.logic.parser.exceptions.ParseException;
 
@@ -31,63 +31,51 @@ import seedu.parking.logic.parser.exceptions.ParseException;
 public class CarparkFinderParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * The commands by word, in the order that their shared prefixes go to. Single letters shared by commands of
+     * similar use are ambiguous instead.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final CommandRegistry COMMANDS = new CommandRegistry()
+            .registerAmbiguous("f", MESSAGE_UNCERTAIN_FIND_OR_FILTER_COMMAND)
+            .registerAmbiguous("fi", MESSAGE_UNCERTAIN_FIND_OR_FILTER_COMMAND)
+            .registerAmbiguous("h", MESSAGE_UNCERTAIN_HELP_OR_HISTORY_COMMAND)
+            .registerAmbiguous("c", MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND)
+            .register(SelectCommand.COMMAND_WORD, new SelectCommandParser())
+            .register(ClearCommand.COMMAND_WORD, unused -> new ClearCommand())
+            .register(FindCommand.COMMAND_WORD, new FindCommandParser())
+            .register(ListCommand.COMMAND_WORD, unused -> new ListCommand())
+            .register(HistoryCommand.COMMAND_WORD, unused -> new HistoryCommand())
+            .register(ExitCommand.COMMAND_WORD, unused -> new ExitCommand())
+            .register(HelpCommand.COMMAND_WORD, unused -> new HelpCommand())
+            .register(UndoCommand.COMMAND_WORD, unused -> new UndoCommand())
+            .register(RedoCommand.COMMAND_WORD, unused -> new RedoCommand())
+            .register(FilterCommand.COMMAND_WORD, new FilterCommandParser())
+            .register(CalculateCommand.COMMAND_WORD, new CalculateCommandParser())
+            .register(CheapestCommand.COMMAND_WORD, new CheapestCommandParser())
+            .register(QueryCommand.COMMAND_WORD, unused -> new QueryCommand())
+            .register(NotifyCommand.COMMAND_WORD, new NotifyCommandParser())
+            .register(StatsCommand.COMMAND_WORD, unused -> new StatsCommand())
+            .register(MetricsCommand.COMMAND_WORD, unused -> new MetricsCommand());
 
     /**
-     * Parses user input into command for execution. It first checks
+     * Parses user input into command for execution. The command word, or a prefix of it, picks the command.
+     * The command word ends at the first whitespace; the arguments are the rest of the input from there.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String input = userInput.trim();
+        final int wordEnd = ValidationUtil.indexOfWhitespace(input);
+        final String commandWord = wordEnd < 0 ? input : input.substring(0, wordEnd);
+        final String arguments = wordEnd < 0 ? "" : input.substring(wordEnd);
+        if (commandWord.isEmpty() || !ValidationUtil.isSingleLine(arguments)) {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-
-        if (commandWord.equals("f") || commandWord.equals("fi")) {
-            throw new ParseException(MESSAGE_UNCERTAIN_FIND_OR_FILTER_COMMAND);
-        } else if (commandWord.equals("h")) {
-            throw new ParseException(MESSAGE_UNCERTAIN_HELP_OR_HISTORY_COMMAND);
-        } else if (commandWord.equals("c")) {
-            throw new ParseException(MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND);
-        } else if (containsFromFirstLetter(SelectCommand.COMMAND_WORD, commandWord)) {
-            return new SelectCommandParser().parse(arguments);
-        } else if (containsFromFirstLetter(ClearCommand.COMMAND_WORD, commandWord)) {
-            return new ClearCommand();
-        } else if (containsFromFirstLetter(FindCommand.COMMAND_WORD, commandWord)) {
-            return new FindCommandParser().parse(arguments);
-        } else if (containsFromFirstLetter(ListCommand.COMMAND_WORD, commandWord)) {
-            return new ListCommand();
-        } else if (containsFromFirstLetter(HistoryCommand.COMMAND_WORD, commandWord)) {
-            return new HistoryCommand();
-        } else if (containsFromFirstLetter(ExitCommand.COMMAND_WORD, commandWord)) {
-            return new ExitCommand();
-        } else if (containsFromFirstLetter(HelpCommand.COMMAND_WORD, commandWord)) {
-            return new HelpCommand();
-        } else if (containsFromFirstLetter(UndoCommand.COMMAND_WORD, commandWord)) {
-            return new UndoCommand();
-        } else if (containsFromFirstLetter(RedoCommand.COMMAND_WORD, commandWord)) {
-            return new RedoCommand();
-        } else if (containsFromFirstLetter(FilterCommand.COMMAND_WORD, commandWord)) {
-            return new FilterCommandParser().parse(arguments);
-        } else if (containsFromFirstLetter(CalculateCommand.COMMAND_WORD, commandWord)) {
-            return new CalculateCommandParser().parse(arguments);
-        } else if (containsFromFirstLetter(QueryCommand.COMMAND_WORD, commandWord)) {
-            return new QueryCommand();
-        } else if (containsFromFirstLetter(NotifyCommand.COMMAND_WORD, commandWord)) {
-            return new NotifyCommandParser().parse(arguments);
-        } else {
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+        return COMMANDS.parse(commandWord, arguments);
     }
 
     /**
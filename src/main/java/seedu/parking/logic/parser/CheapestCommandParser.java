@@ -0,0 +1,70 @@
+package seedu.parking.logic.parser;
+
+import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.parking.logic.parser.CliSyntax.PREFIX_TOP_RESULTS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.parking.commons.core.Messages;
+import seedu.parking.commons.util.StringUtil;
+import seedu.parking.logic.commands.CheapestCommand;
+import seedu.parking.logic.parser.exceptions.ParseException;
+import seedu.parking.model.CarparkTariffTable;
+
+/**
+ * Parses input arguments and creates a new CheapestCommand object
+ */
+public class CheapestCommandParser implements Parser<CheapestCommand> {
+
+    private static final List<String> VALID_DAYS = Arrays.asList("SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CheapestCommand
+     * and returns a CheapestCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CheapestCommand parse(String args) throws ParseException {
+        List<String> words = new ArrayList<>(Arrays.asList(args.trim().split("\\s+")));
+        int count = parseCount(words);
+        if (words.size() != 3) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheapestCommand.MESSAGE_USAGE));
+        }
+
+        String day = words.get(0).toUpperCase();
+        if (!VALID_DAYS.contains(day)) {
+            throw new ParseException(Messages.MESSAGE_DAY_IS_INVALID);
+        }
+
+        int startMinute = CarparkTariffTable.parseMinuteOfDay(words.get(1));
+        int endMinute = CarparkTariffTable.parseMinuteOfDay(words.get(2));
+        if (startMinute == CarparkTariffTable.NONE || endMinute == CarparkTariffTable.NONE) {
+            throw new ParseException(Messages.MESSAGE_START_OR_END_TIME_HAS_INCORRECT_FORMAT);
+        }
+        if (endMinute <= startMinute) {
+            throw new ParseException(Messages.MESSAGE_END_TIME_NOT_AFTER_START_TIME);
+        }
+
+        return new CheapestCommand(day, startMinute, endMinute, count);
+    }
+
+    /**
+     * Removes the {@code top/ COUNT} flag from {@code words} and returns its count,
+     * or {@code DEFAULT_COUNT} if there is no such flag.
+     * @throws ParseException if the count is missing or not a positive integer
+     */
+    private int parseCount(List<String> words) throws ParseException {
+        int index = words.indexOf(PREFIX_TOP_RESULTS.getPrefix());
+        if (index == -1) {
+            return CheapestCommand.DEFAULT_COUNT;
+        }
+        if (index + 1 >= words.size() || !StringUtil.isNonZeroUnsignedInteger(words.get(index + 1))) {
+            throw new ParseException(Messages.MESSAGE_TOP_RESULTS_IS_INVALID);
+        }
+        int count = Integer.parseInt(words.get(index + 1));
+        words.subList(index, index + 2).clear();
+        return count;
+    }
+}
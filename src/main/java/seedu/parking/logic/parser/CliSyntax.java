@@ -22,6 +22,12 @@ public class CliSyntax {
     public static final Prefix PREFIX_NIGHT_PARKING = new Prefix("n/");
     public static final Prefix PREFIX_AVAILABLE_PARKING = new Prefix("a/");
     public static final Prefix PREFIX_SYSTEM_TYPE = new Prefix("ps/");
+    // used by filter to keep car parks with enough lots available, or taken below a percentage of their lots
+    public static final Prefix PREFIX_MIN_LOTS = new Prefix("lots/");
+    public static final Prefix PREFIX_MAX_OCCUPANCY = new Prefix("occ/");
+    // used by find to limit and rank its results, and to allow typos in its keywords
+    public static final Prefix PREFIX_TOP_RESULTS = new Prefix("top/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fz/");
 
     public static final Prefix PREFIX_TAG = new Prefix("t/");
 }
@@ -0,0 +1,82 @@
+package seedu.parking.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.parking.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.parking.logic.commands.Command;
+import seedu.parking.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words, and every prefix of them, to the parsers of their commands, so that a command word is
+ * dispatched in a single walk down a trie of its letters.
+ * A prefix shared by several command words belongs to the one registered first, unless it is registered as
+ * ambiguous. Parsers are shared by every dispatch, so they must not keep state between calls.
+ */
+public class CommandRegistry {
+
+    private final Node root = new Node();
+
+    /**
+     * Registers {@code parser} for {@code commandWord} and for each of its prefixes that no earlier command word
+     * has. {@code commandWord} itself always dispatches to {@code parser}, so it can also be used for aliases.
+     */
+    public CommandRegistry register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(parser);
+        Node node = root;
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.children.computeIfAbsent(commandWord.charAt(i), unused -> new Node());
+            if (node.parser == null) {
+                node.parser = parser;
+            }
+        }
+        node.parser = parser;
+        return this;
+    }
+
+    /**
+     * Registers {@code prefix} as short for more than one command, so that it fails with {@code message}.
+     */
+    public CommandRegistry registerAmbiguous(String prefix, String message) {
+        requireNonNull(message);
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), unused -> new Node());
+        }
+        node.ambiguityMessage = message;
+        return this;
+    }
+
+    /**
+     * Parses {@code arguments} with the parser of the command that {@code commandWord} is the word or a prefix of.
+     * @throws ParseException if {@code commandWord} is ambiguous or not a prefix of any command word, or if the
+     *     arguments do not conform the expected format
+     */
+    public Command parse(String commandWord, String arguments) throws ParseException {
+        Node node = root;
+        for (int i = 0; i < commandWord.length() && node != null; i++) {
+            node = node.children.get(commandWord.charAt(i));
+        }
+        if (node == null || node == root) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (node.ambiguityMessage != null) {
+            throw new ParseException(node.ambiguityMessage);
+        }
+        if (node.parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return node.parser.parse(arguments);
+    }
+
+    /**
+     * A prefix of one or more command words.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Parser<? extends Command> parser;
+        private String ambiguityMessage;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.parking.logic.parser;
 
 import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.parking.logic.parser.CliSyntax.PREFIX_MAX_OCCUPANCY;
+import static seedu.parking.logic.parser.CliSyntax.PREFIX_MIN_LOTS;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -9,6 +11,7 @@ import java.util.Date;
 import java.util.List;
 
 import seedu.parking.commons.core.Messages;
+import seedu.parking.commons.util.StringUtil;
 import seedu.parking.logic.commands.FilterCommand;
 import seedu.parking.logic.parser.exceptions.ParseException;
 
@@ -37,6 +40,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         FreeParkingParameter freeParkingParameter = null; // variable null if not initialised?
         CarparkTypeParameter carparkTypeParameter = null;
         ParkingSystemTypeParameter parkingSystemTypeParameter = null;
+        LotsParameter lotsParameter = null;
 
         if (argumentsList.contains("n/")) {
             flagList.add("n/");
@@ -121,6 +125,26 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
             parkingSystemTypeParameter = new ParkingSystemTypeParameter(selectedParkingSystemType);
         }
+        if (argumentsList.contains(PREFIX_MIN_LOTS.getPrefix())
+                || argumentsList.contains(PREFIX_MAX_OCCUPANCY.getPrefix())) {
+            int minLotsAvailable = LotsParameter.NONE;
+            int maxOccupancyPercent = LotsParameter.NONE;
+            if (argumentsList.contains(PREFIX_MIN_LOTS.getPrefix())) {
+                flagList.add(PREFIX_MIN_LOTS.getPrefix());
+                minLotsAvailable = parsePositiveArgument(argumentsList, PREFIX_MIN_LOTS.getPrefix(),
+                        Messages.MESSAGE_MIN_LOTS_IS_INVALID);
+            }
+            if (argumentsList.contains(PREFIX_MAX_OCCUPANCY.getPrefix())) {
+                flagList.add(PREFIX_MAX_OCCUPANCY.getPrefix());
+                maxOccupancyPercent = parsePositiveArgument(argumentsList, PREFIX_MAX_OCCUPANCY.getPrefix(),
+                        Messages.MESSAGE_OCCUPANCY_IS_INVALID);
+                if (maxOccupancyPercent > 100) {
+                    throw new ParseException(Messages.MESSAGE_OCCUPANCY_IS_INVALID);
+                }
+            }
+
+            lotsParameter = new LotsParameter(minLotsAvailable, maxOccupancyPercent);
+        }
 
         // check if there's at least one flag
         if (flagList.isEmpty()) {
@@ -128,6 +152,20 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
 
-        return new FilterCommand(flagList, freeParkingParameter, carparkTypeParameter, parkingSystemTypeParameter);
+        return new FilterCommand(flagList, freeParkingParameter, carparkTypeParameter, parkingSystemTypeParameter,
+                lotsParameter);
+    }
+
+    /**
+     * Returns the positive integer that follows {@code flag} in {@code argumentsList}.
+     * @throws ParseException with {@code message} if there is no such integer
+     */
+    private static int parsePositiveArgument(List<String> argumentsList, String flag, String message)
+            throws ParseException {
+        int index = argumentsList.indexOf(flag);
+        if (index + 1 >= argumentsList.size() || !StringUtil.isNonZeroUnsignedInteger(argumentsList.get(index + 1))) {
+            throw new ParseException(message);
+        }
+        return Integer.parseInt(argumentsList.get(index + 1));
     }
 }
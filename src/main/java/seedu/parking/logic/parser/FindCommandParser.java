@@ -1,12 +1,17 @@
 package seedu.parking.logic.parser;
 
 import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.parking.logic.parser.CliSyntax.PREFIX_AVAILABLE_PARKING;
+import static seedu.parking.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.parking.logic.parser.CliSyntax.PREFIX_TOP_RESULTS;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import seedu.parking.commons.core.Messages;
+import seedu.parking.commons.util.StringUtil;
 import seedu.parking.logic.commands.FindCommand;
 import seedu.parking.logic.parser.exceptions.ParseException;
 import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
@@ -39,7 +44,33 @@ public class FindCommandParser implements Parser<FindCommand> {
             nameKeywords.removeAll(Collections.singleton(ignore.toUpperCase()));
         }
 
-        return new FindCommand(new CarparkContainsKeywordsPredicate(nameKeywords));
+        boolean weightByLots = nameKeywords.remove(PREFIX_AVAILABLE_PARKING.getPrefix());
+        boolean isFuzzy = nameKeywords.remove(PREFIX_FUZZY.getPrefix());
+        int limit = parseLimit(nameKeywords);
+        if (nameKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        return new FindCommand(new CarparkContainsKeywordsPredicate(nameKeywords), limit, weightByLots, isFuzzy);
+    }
+
+    /**
+     * Removes the {@code top/ COUNT} flag from {@code keywords} and returns its count,
+     * or {@code NO_LIMIT} if there is no such flag.
+     * @throws ParseException if the count is missing or not a positive integer
+     */
+    private int parseLimit(List<String> keywords) throws ParseException {
+        int index = keywords.indexOf(PREFIX_TOP_RESULTS.getPrefix());
+        if (index == -1) {
+            return CarparkContainsKeywordsPredicate.NO_LIMIT;
+        }
+        if (index + 1 >= keywords.size() || !StringUtil.isNonZeroUnsignedInteger(keywords.get(index + 1))) {
+            throw new ParseException(Messages.MESSAGE_TOP_RESULTS_IS_INVALID);
+        }
+        int limit = Integer.parseInt(keywords.get(index + 1));
+        keywords.subList(index, index + 2).clear();
+        return limit;
     }
 
 }
@@ -0,0 +1,39 @@
+package seedu.parking.logic.parser;
+
+/**
+ * Packages the arguments of the Minimum Lots and Maximum Occupancy flags into an object.
+ * The argument of a flag that is not used is {@code NONE}.
+ */
+public class LotsParameter {
+
+    public static final int NONE = -1;
+
+    private final int minLotsAvailable;
+    private final int maxOccupancyPercent;
+
+    public LotsParameter(int minLotsAvailable, int maxOccupancyPercent) {
+        this.minLotsAvailable = minLotsAvailable;
+        this.maxOccupancyPercent = maxOccupancyPercent;
+    }
+
+    public int getMinLotsAvailable() {
+        return minLotsAvailable;
+    }
+
+    public int getMaxOccupancyPercent() {
+        return maxOccupancyPercent;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LotsParameter // instanceof handles nulls
+                && minLotsAvailable == ((LotsParameter) other).minLotsAvailable
+                && maxOccupancyPercent == ((LotsParameter) other).maxOccupancyPercent); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * minLotsAvailable + maxOccupancyPercent;
+    }
+}
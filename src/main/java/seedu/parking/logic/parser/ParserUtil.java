@@ -97,7 +97,7 @@ public class ParserUtil {
         if (!CarparkType.isValidCarType(trimmedCarparkType)) {
             throw new ParseException(CarparkType.MESSAGE_CAR_TYPE_CONSTRAINTS);
         }
-        return new CarparkType(trimmedCarparkType);
+        return CarparkType.of(trimmedCarparkType);
     }
 
     /**
@@ -127,7 +127,7 @@ public class ParserUtil {
         if (!FreeParking.isValidFreePark(trimmedFreeParking)) {
             throw new ParseException(FreeParking.MESSAGE_FREE_PARK_CONSTRAINTS);
         }
-        return new FreeParking(trimmedFreeParking);
+        return FreeParking.of(trimmedFreeParking);
     }
 
     /**
@@ -156,7 +156,7 @@ public class ParserUtil {
         if (!NightParking.isValidNightPark(trimmedNightParking)) {
             throw new ParseException(NightParking.MESSAGE_NIGHT_PARK_CONSTRAINTS);
         }
-        return new NightParking(trimmedNightParking);
+        return NightParking.of(trimmedNightParking);
     }
 
     /**
@@ -171,7 +171,7 @@ public class ParserUtil {
         if (!ShortTerm.isValidShortTerm(trimmedShortTerm)) {
             throw new ParseException(ShortTerm.MESSAGE_SHORT_TERM_CONSTRAINTS);
         }
-        return new ShortTerm(trimmedShortTerm);
+        return ShortTerm.of(trimmedShortTerm);
     }
 
     /**
@@ -201,7 +201,7 @@ public class ParserUtil {
         if (!TypeOfParking.isValidTypePark(trimmedTypeOfParking)) {
             throw new ParseException(TypeOfParking.MESSAGE_TYPE_PARK_CONSTRAINTS);
         }
-        return new TypeOfParking(trimmedTypeOfParking);
+        return TypeOfParking.of(trimmedTypeOfParking);
     }
 
     /**
@@ -216,7 +216,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -0,0 +1,352 @@
+package seedu.parking.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * A column oriented copy of a list of car parks for analytical queries.
+ * Numeric fields are parsed once into primitive arrays and low-cardinality text fields are dictionary encoded,
+ * so aggregates run as plain loops over arrays instead of walking {@code Carpark} objects.
+ * Lot sums are kept up to date on every {@link #updateLots(int, int, int)}, so totals and grouped occupancy
+ * are read without scanning the car parks again.
+ */
+public class CarparkColumnStore {
+
+    private final int size;
+    private final String[] carparkNumbers;
+    private final int[] lotsAvailable;
+    private final int[] totalLots;
+    private final double[] xCoords;
+    private final double[] yCoords;
+    private final int[] typeIds;
+    private final int[] parkingSystemIds;
+    private final int[] areaIds;
+    private final int[] occupancy;
+
+    private final List<String> typeDictionary = new ArrayList<>();
+    private final List<String> parkingSystemDictionary = new ArrayList<>();
+    private final List<String> areaDictionary = new ArrayList<>();
+    private final Map<String, Integer> indexByNumber = new HashMap<>();
+
+    private long totalAvailableSum;
+    private long totalLotsSum;
+    private final long[] typeAvailableSums;
+    private final long[] typeTotalSums;
+    private final long[] parkingSystemAvailableSums;
+    private final long[] parkingSystemTotalSums;
+    private final long[] areaAvailableSums;
+    private final long[] areaTotalSums;
+
+    private List<String> busiestCache;
+    private List<String> emptiestCache;
+
+    /**
+     * Builds the columns from {@code carparks}, in list order.
+     */
+    public CarparkColumnStore(List<Carpark> carparks) {
+        requireNonNull(carparks);
+        size = carparks.size();
+        carparkNumbers = new String[size];
+        lotsAvailable = new int[size];
+        totalLots = new int[size];
+        xCoords = new double[size];
+        yCoords = new double[size];
+        typeIds = new int[size];
+        parkingSystemIds = new int[size];
+        areaIds = new int[size];
+        occupancy = new int[size];
+
+        Map<String, Integer> typeIndex = new HashMap<>();
+        Map<String, Integer> parkingSystemIndex = new HashMap<>();
+        Map<String, Integer> areaIndex = new HashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            Carpark carpark = carparks.get(i);
+            String number = carpark.getCarparkNumber().toString();
+            carparkNumbers[i] = number;
+            indexByNumber.put(number, i);
+            lotsAvailable[i] = carpark.getLotsAvailable().getCount();
+            totalLots[i] = carpark.getTotalLots().getCount();
+            xCoords[i] = parseCoordinate(carpark.getCoordinate().getXCoord());
+            yCoords[i] = parseCoordinate(carpark.getCoordinate().getYCoord());
+            typeIds[i] = encode(carpark.getCarparkType().toString(), typeIndex, typeDictionary);
+            parkingSystemIds[i] = encode(carpark.getTypeOfParking().toString(), parkingSystemIndex,
+                    parkingSystemDictionary);
+            areaIds[i] = encode(getArea(number), areaIndex, areaDictionary);
+            occupancy[i] = toBasisPoints(lotsAvailable[i], totalLots[i]);
+        }
+
+        typeAvailableSums = new long[typeDictionary.size()];
+        typeTotalSums = new long[typeDictionary.size()];
+        parkingSystemAvailableSums = new long[parkingSystemDictionary.size()];
+        parkingSystemTotalSums = new long[parkingSystemDictionary.size()];
+        areaAvailableSums = new long[areaDictionary.size()];
+        areaTotalSums = new long[areaDictionary.size()];
+        for (int i = 0; i < size; i++) {
+            addToSums(i, 1);
+        }
+    }
+
+    /**
+     * Returns the area code of a car park number, which is its leading run of letters.
+     * Car park numbers without leading letters fall into the "-" area.
+     */
+    public static String getArea(String carparkNumber) {
+        int end = 0;
+        while (end < carparkNumber.length() && Character.isLetter(carparkNumber.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "-" : carparkNumber.substring(0, end).toUpperCase();
+    }
+
+    private static double parseCoordinate(String coordinate) {
+        try {
+            return Double.parseDouble(coordinate.trim());
+        } catch (NumberFormatException nfe) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Returns the share of lots taken in hundredths of a percent, so that it can be ranked as an int.
+     */
+    private static int toBasisPoints(int available, int total) {
+        if (total <= 0) {
+            return 0;
+        }
+        long taken = Math.max(0, (long) total - available);
+        return (int) (taken * 10000 / total);
+    }
+
+    /**
+     * Adds ({@code sign} 1) or removes ({@code sign} -1) the lots of the car park at {@code index} from every sum.
+     */
+    private void addToSums(int index, int sign) {
+        long available = (long) sign * lotsAvailable[index];
+        long total = (long) sign * totalLots[index];
+        totalAvailableSum += available;
+        totalLotsSum += total;
+        typeAvailableSums[typeIds[index]] += available;
+        typeTotalSums[typeIds[index]] += total;
+        parkingSystemAvailableSums[parkingSystemIds[index]] += available;
+        parkingSystemTotalSums[parkingSystemIds[index]] += total;
+        areaAvailableSums[areaIds[index]] += available;
+        areaTotalSums[areaIds[index]] += total;
+    }
+
+    /**
+     * Replaces the lots of the car park at {@code index} and adjusts every sum in constant time.
+     */
+    public synchronized void updateLots(int index, int available, int total) {
+        addToSums(index, -1);
+        lotsAvailable[index] = available;
+        totalLots[index] = total;
+        occupancy[index] = toBasisPoints(available, total);
+        addToSums(index, 1);
+        busiestCache = null;
+        emptiestCache = null;
+    }
+
+    /**
+     * Returns the dictionary id of {@code value}, adding it to {@code dictionary} if it is new.
+     */
+    private static int encode(String value, Map<String, Integer> index, List<String> dictionary) {
+        Integer id = index.get(value);
+        if (id == null) {
+            id = dictionary.size();
+            index.put(value, id);
+            dictionary.add(value);
+        }
+        return id;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the car park with {@code carparkNumber}, or -1 if there is none.
+     */
+    public int indexOf(String carparkNumber) {
+        Integer index = indexByNumber.get(carparkNumber);
+        return index == null ? -1 : index;
+    }
+
+    public String getCarparkNumber(int index) {
+        return carparkNumbers[index];
+    }
+
+    public synchronized int getLotsAvailable(int index) {
+        return lotsAvailable[index];
+    }
+
+    public synchronized int getTotalLots(int index) {
+        return totalLots[index];
+    }
+
+    public double getXCoord(int index) {
+        return xCoords[index];
+    }
+
+    public double getYCoord(int index) {
+        return yCoords[index];
+    }
+
+    public String getCarparkType(int index) {
+        return typeDictionary.get(typeIds[index]);
+    }
+
+    public String getTypeOfParking(int index) {
+        return parkingSystemDictionary.get(parkingSystemIds[index]);
+    }
+
+    /**
+     * Returns the available and total lots summed over all car parks.
+     */
+    public synchronized Occupancy getTotalOccupancy() {
+        return new Occupancy(totalAvailableSum, totalLotsSum);
+    }
+
+    /**
+     * Returns the occupancy of each car park type, keyed by type in order of first appearance.
+     */
+    public synchronized Map<String, Occupancy> getOccupancyByType() {
+        return toOccupancyMap(typeAvailableSums, typeTotalSums, typeDictionary);
+    }
+
+    /**
+     * Returns the occupancy of each type of parking system, keyed in order of first appearance.
+     */
+    public synchronized Map<String, Occupancy> getOccupancyByParkingSystem() {
+        return toOccupancyMap(parkingSystemAvailableSums, parkingSystemTotalSums, parkingSystemDictionary);
+    }
+
+    /**
+     * Returns the occupancy of each area, keyed by area code in order of first appearance.
+     *
+     * @see #getArea(String)
+     */
+    public synchronized Map<String, Occupancy> getOccupancyByArea() {
+        return toOccupancyMap(areaAvailableSums, areaTotalSums, areaDictionary);
+    }
+
+    private static Map<String, Occupancy> toOccupancyMap(long[] available, long[] total, List<String> dictionary) {
+        Map<String, Occupancy> result = new LinkedHashMap<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            result.put(dictionary.get(id), new Occupancy(available[id], total[id]));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the car park numbers of the {@code k} car parks with the most lots available, emptiest first.
+     * Ties keep list order. The answer is cached until the next lots update.
+     */
+    public synchronized List<String> getEmptiestCarparks(int k) {
+        if (emptiestCache == null || emptiestCache.size() < Math.min(k, size)) {
+            emptiestCache = toCarparkNumbers(selectTop(k, lotsAvailable));
+        }
+        return emptiestCache.subList(0, Math.max(0, Math.min(k, emptiestCache.size())));
+    }
+
+    /**
+     * Returns the car park numbers of the {@code k} car parks with the largest share of lots taken, busiest first.
+     * Ties keep list order. The answer is cached until the next lots update.
+     */
+    public synchronized List<String> getBusiestCarparks(int k) {
+        if (busiestCache == null || busiestCache.size() < Math.min(k, size)) {
+            busiestCache = toCarparkNumbers(selectTop(k, occupancy));
+        }
+        return busiestCache.subList(0, Math.max(0, Math.min(k, busiestCache.size())));
+    }
+
+    private List<String> toCarparkNumbers(int[] indices) {
+        List<String> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(carparkNumbers[index]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the indices of the {@code k} largest values in {@code column}, largest first.
+     * Keeps a small sorted buffer of size {@code k}, which beats a full sort when {@code k} is much less than size.
+     */
+    int[] selectTop(int k, int[] column) {
+        int limit = Math.max(0, Math.min(k, size));
+        int[] top = new int[limit];
+        int count = 0;
+        for (int i = 0; i < size && limit > 0; i++) {
+            int value = column[i];
+            if (count == limit && value <= column[top[count - 1]]) {
+                continue;
+            }
+            int position = count == limit ? count - 1 : count++;
+            while (position > 0 && column[top[position - 1]] < value) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = i;
+        }
+        return top;
+    }
+
+    /**
+     * Available and total lots of a group of car parks.
+     */
+    public static class Occupancy {
+        private final long lotsAvailable;
+        private final long totalLots;
+
+        public Occupancy(long lotsAvailable, long totalLots) {
+            this.lotsAvailable = lotsAvailable;
+            this.totalLots = totalLots;
+        }
+
+        public long getLotsAvailable() {
+            return lotsAvailable;
+        }
+
+        public long getTotalLots() {
+            return totalLots;
+        }
+
+        /**
+         * Returns the percentage of lots taken, or 0 if there are no lots at all.
+         */
+        public double getPercentage() {
+            if (totalLots <= 0) {
+                return 0;
+            }
+            long taken = Math.max(0, totalLots - lotsAvailable);
+            return 100.0 * taken / totalLots;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Occupancy // instanceof handles nulls
+                    && lotsAvailable == ((Occupancy) other).lotsAvailable
+                    && totalLots == ((Occupancy) other).totalLots); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(lotsAvailable) * 31 + Long.hashCode(totalLots);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d/%d lots available (%.1f%% occupied)", lotsAvailable, totalLots,
+                    getPercentage());
+        }
+    }
+}
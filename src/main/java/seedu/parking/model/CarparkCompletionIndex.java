@@ -0,0 +1,84 @@
+package seedu.parking.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.parking.commons.util.PrefixTrie;
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * The car park numbers and address words of a list of car parks, in lower case, for completing what the user is
+ * typing. Words found in more car parks are suggested first. The car park numbers are also kept on their own, for
+ * arguments that can only be a car park number.
+ * Loading car parks only adds and removes the words of the car parks whose number or address changed, since most
+ * car parks are loaded again unchanged apart from their lots.
+ */
+public class CarparkCompletionIndex {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private final PrefixTrie trie = new PrefixTrie(MAX_COMPLETIONS);
+    private final PrefixTrie numberTrie = new PrefixTrie(MAX_COMPLETIONS);
+    private Map<String, Carpark> indexedCarparks = new HashMap<>();
+
+    public CarparkCompletionIndex() {}
+
+    public CarparkCompletionIndex(List<Carpark> carparks) {
+        update(carparks);
+    }
+
+    /**
+     * Changes the index to hold the words of {@code carparks}, adding and removing only the words of the car parks
+     * that are new, gone, or moved to another address.
+     */
+    public synchronized void update(List<Carpark> carparks) {
+        requireNonNull(carparks);
+        Map<String, Carpark> updatedCarparks = new HashMap<>();
+        for (Carpark carpark : carparks) {
+            String number = carpark.getCarparkNumber().toString();
+            if (updatedCarparks.putIfAbsent(number, carpark) != null) {
+                continue;
+            }
+            Carpark indexed = indexedCarparks.remove(number);
+            if (indexed == null) {
+                numberTrie.add(number.toLowerCase());
+                CarparkTokenIndex.getTokens(carpark).forEach(trie::add);
+            } else if (!indexed.getAddress().equals(carpark.getAddress())) {
+                CarparkTokenIndex.getTokens(indexed).forEach(trie::remove);
+                CarparkTokenIndex.getTokens(carpark).forEach(trie::add);
+            }
+        }
+        // the car parks left over are no longer in the list
+        for (Carpark removed : indexedCarparks.values()) {
+            numberTrie.remove(removed.getCarparkNumber().toString().toLowerCase());
+            CarparkTokenIndex.getTokens(removed).forEach(trie::remove);
+        }
+        indexedCarparks = updatedCarparks;
+    }
+
+    /**
+     * Returns up to {@code limit} indexed words that start with {@code prefix}, ignoring case, most common first.
+     */
+    public synchronized List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        return trie.complete(prefix.trim().toLowerCase(), limit);
+    }
+
+    /**
+     * Returns up to {@code limit} car park numbers that start with {@code prefix}, ignoring case.
+     */
+    public synchronized List<String> completeCarparkNumber(String prefix, int limit) {
+        requireNonNull(prefix);
+        return numberTrie.complete(prefix.trim().toLowerCase(), limit);
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    public synchronized int size() {
+        return trie.size();
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.parking.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * Evaluates a predicate over a list of car parks, splitting large lists into chunks that are tested in parallel
+ * on the common fork/join pool. Fewer than {@link #PARALLEL_THRESHOLD} car parks are tested on the calling thread,
+ * where handing the work out would cost more than it saves.
+ * The predicate must be safe to call from several threads at once. The predicates of the model only read the
+ * car park they test, which is immutable, and anything else they note down is kept in thread-safe fields.
+ */
+public class CarparkFilterEngine {
+
+    /** The smallest list that is tested in parallel. */
+    public static final int PARALLEL_THRESHOLD = 4096;
+
+    /** The number of car parks each parallel task tests on its own. */
+    private static final int CHUNK_SIZE = 1024;
+
+    private CarparkFilterEngine() {}
+
+    /**
+     * Returns the positions in {@code carparks} of the car parks that pass {@code predicate}.
+     */
+    public static BitSet match(List<Carpark> carparks, Predicate<? super Carpark> predicate) {
+        requireNonNull(carparks);
+        return match(carparks, predicate, null, carparks.size());
+    }
+
+    /**
+     * Returns the positions in {@code carparks} of the car parks that pass {@code predicate}, testing only the
+     * car parks at the positions in {@code candidates}. The time taken grows with the number of candidates rather
+     * than the length of the list.
+     */
+    public static BitSet match(List<Carpark> carparks, Predicate<? super Carpark> predicate, BitSet candidates) {
+        requireNonNull(carparks);
+        requireNonNull(candidates);
+        return match(carparks, predicate, candidates, candidates.cardinality());
+    }
+
+    /**
+     * Tests the car parks at the positions in {@code candidates}, or every car park if it is null, in parallel if
+     * there are {@code testCount} of them to test.
+     */
+    private static BitSet match(List<Carpark> carparks, Predicate<? super Carpark> predicate, BitSet candidates,
+                                int testCount) {
+        requireNonNull(predicate);
+        long[] words = new long[(carparks.size() + Long.SIZE - 1) / Long.SIZE];
+        if (testCount < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            matchRange(carparks, predicate, candidates, 0, carparks.size(), words);
+        } else {
+            long rangeSize = Math.max(CHUNK_SIZE, (long) carparks.size() * CHUNK_SIZE / testCount);
+            ForkJoinPool.commonPool().invoke(new MatchTask(carparks, predicate, candidates, 0, carparks.size(),
+                    (int) Math.min(Integer.MAX_VALUE, rangeSize), words));
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Returns the car parks in {@code carparks} at the positions in {@code matches}, in list order.
+     */
+    public static List<Carpark> select(List<Carpark> carparks, BitSet matches) {
+        List<Carpark> selected = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            selected.add(carparks.get(i));
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the car parks in {@code carparks} that pass {@code predicate}, in list order.
+     */
+    public static List<Carpark> filter(List<Carpark> carparks, Predicate<? super Carpark> predicate) {
+        return select(carparks, match(carparks, predicate));
+    }
+
+    /**
+     * Sets the bits in {@code words} of the car parks from {@code from} to {@code to} that pass {@code predicate},
+     * as {@link BitSet#valueOf(long[])} reads them.
+     */
+    private static void matchRange(List<Carpark> carparks, Predicate<? super Carpark> predicate,
+                                   BitSet candidates, int from, int to, long[] words) {
+        if (candidates == null) {
+            for (int i = from; i < to; i++) {
+                if (predicate.test(carparks.get(i))) {
+                    words[i / Long.SIZE] |= 1L << i;
+                }
+            }
+            return;
+        }
+        for (int i = candidates.nextSetBit(from); i >= 0 && i < to; i = candidates.nextSetBit(i + 1)) {
+            if (predicate.test(carparks.get(i))) {
+                words[i / Long.SIZE] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Tests the car parks from {@code from} to {@code to}, halving the range until it is at most
+     * {@code rangeSize} long. The range is widened when only some positions are candidates, so that each task
+     * still tests about one chunk of car parks.
+     * Ranges are only split at multiples of 64, so each task writes the words of its own range of the shared
+     * result and no word is ever written by two threads.
+     */
+    private static class MatchTask extends RecursiveAction {
+        private final List<Carpark> carparks;
+        private final Predicate<? super Carpark> predicate;
+        private final BitSet candidates;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+        private final long[] words;
+
+        MatchTask(List<Carpark> carparks, Predicate<? super Carpark> predicate, BitSet candidates, int from, int to,
+                  int rangeSize, long[] words) {
+            this.carparks = carparks;
+            this.predicate = predicate;
+            this.candidates = candidates;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+            this.words = words;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= rangeSize) {
+                matchRange(carparks, predicate, candidates, from, to, words);
+                return;
+            }
+            int middle = ((from + to) >>> 1) / Long.SIZE * Long.SIZE;
+            invokeAll(new MatchTask(carparks, predicate, candidates, from, middle, rangeSize, words),
+                    new MatchTask(carparks, predicate, candidates, middle, to, rangeSize, words));
+        }
+    }
+}
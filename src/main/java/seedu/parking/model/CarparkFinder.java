@@ -1,11 +1,14 @@
 package seedu.parking.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.parking.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
 import seedu.parking.model.carpark.UniqueCarparkList;
 
 /**
@@ -15,6 +18,9 @@ import seedu.parking.model.carpark.UniqueCarparkList;
 public class CarparkFinder implements ReadOnlyCarparkFinder {
 
     private final UniqueCarparkList carparks;
+    private CarparkColumnStore columnStore;
+    private CarparkTokenIndex tokenIndex;
+    private CarparkTariffTable tariffTable;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +51,7 @@ public class CarparkFinder implements ReadOnlyCarparkFinder {
      */
     public void setCarparks(List<Carpark> listCarparks) {
         carparks.setCarparks(listCarparks);
+        clearDerivedData();
     }
 
     /**
@@ -72,6 +79,7 @@ public class CarparkFinder implements ReadOnlyCarparkFinder {
      */
     public void addCarpark(Carpark c) {
         carparks.add(c);
+        clearDerivedData();
     }
 
     /**
@@ -80,6 +88,70 @@ public class CarparkFinder implements ReadOnlyCarparkFinder {
      */
     public void removeCarpark(Carpark key) {
         carparks.remove(key);
+        clearDerivedData();
+    }
+
+    /**
+     * Replaces the car park with the number of {@code target} with a copy that has the given lots, and updates the
+     * column store in place. The car park is found through the car park number index of the column store, which
+     * is built if needed. The replaced car park itself is left unchanged, since older states and snapshots still
+     * hold it.
+     *
+     * @return the position of the replaced car park, or -1 if no car park has the number of {@code target}.
+     */
+    public int updateCarparkLots(Carpark target, LotsAvailable lotsAvailable, TotalLots totalLots) {
+        requireAllNonNull(target, lotsAvailable, totalLots);
+        CarparkColumnStore store = getColumnStore();
+        int index = store.indexOf(target.getCarparkNumber().toString());
+        if (index == -1) {
+            return -1;
+        }
+        Carpark current = carparks.asUnmodifiableObservableList().get(index);
+        carparks.setCarpark(index, current.withLots(lotsAvailable, totalLots));
+        store.updateLots(index, lotsAvailable.getCount(), totalLots.getCount());
+        return index;
+    }
+
+    /**
+     * Returns a columnar copy of the car parks for aggregate queries.
+     * The copy is built on first use and rebuilt after the car park list changes.
+     */
+    public CarparkColumnStore getColumnStore() {
+        if (columnStore == null) {
+            columnStore = new CarparkColumnStore(carparks.asUnmodifiableObservableList());
+        }
+        return columnStore;
+    }
+
+    /**
+     * Returns a typo-tolerant index of car park numbers and address words.
+     * The index is built on first use and rebuilt after the car park list changes.
+     */
+    public CarparkTokenIndex getTokenIndex() {
+        if (tokenIndex == null) {
+            tokenIndex = new CarparkTokenIndex(carparks.asUnmodifiableObservableList());
+        }
+        return tokenIndex;
+    }
+
+    /**
+     * Returns the parsed parking hours of the car parks for working out parking costs.
+     * The table is built on first use and rebuilt after the car park list changes, but not when lots change.
+     */
+    public CarparkTariffTable getTariffTable() {
+        if (tariffTable == null) {
+            tariffTable = new CarparkTariffTable(carparks.asUnmodifiableObservableList());
+        }
+        return tariffTable;
+    }
+
+    /**
+     * Drops the column store, token index and tariff table, which no longer match the car park list.
+     */
+    private void clearDerivedData() {
+        columnStore = null;
+        tokenIndex = null;
+        tariffTable = null;
     }
 
     //// util methods
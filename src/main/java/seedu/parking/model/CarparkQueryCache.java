@@ -0,0 +1,190 @@
+package seedu.parking.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.parking.model.carpark.CacheablePredicate;
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * Remembers which car parks of a snapshot passed the predicates of recent {@code find} and {@code filter} commands,
+ * so that repeating one does not test every car park again.
+ * Matches are kept as bit sets of positions in the snapshot, under the normalized key of the predicate, with whether
+ * the details of a car park could not be read while finding them, which is passed on to the predicates reusing them.
+ *
+ * <p>Each entry is only valid for the snapshot version it was stored for. A change to the car park list empties
+ * the cache, while a change to the lots of one car park brings every entry forward to the new version:
+ * entries that do not depend on lots are kept as they are, and the others only test the changed car park again.
+ * The least recently used entries are dropped once there are more than the maximum number of entries, or their
+ * bit sets take more than the maximum number of bytes.
+ */
+public class CarparkQueryCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 128;
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    /** A rough size of an entry apart from its bit set, so that many tiny entries still count against the bound. */
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long hitCount;
+    private long missCount;
+
+    public CarparkQueryCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    public CarparkQueryCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the positions of the car parks that pass {@code predicate} in the snapshot numbered {@code version},
+     * or null if they are not cached. The returned set must not be changed.
+     * If the details of a car park could not be read while finding the cached matches, {@code predicate} notes it.
+     */
+    public synchronized BitSet get(CacheablePredicate predicate, long version) {
+        requireNonNull(predicate);
+        Entry entry = entries.get(predicate.getCacheKey());
+        if (entry == null || entry.version != version) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        if (entry.hasParseFailure) {
+            predicate.recordParseFailure();
+        }
+        return entry.matches;
+    }
+
+    /**
+     * Returns the smallest cached set of positions in the snapshot numbered {@code version} that holds every match
+     * of {@code predicate}, because it holds the matches of a predicate that {@code predicate} refines.
+     * Returns null if there is none. The returned set must not be changed.
+     * If the details of a car park could not be read while finding that set, {@code predicate} notes it.
+     */
+    public synchronized BitSet getNarrowestRefined(CacheablePredicate predicate, long version) {
+        requireNonNull(predicate);
+        Entry narrowest = null;
+        int narrowestCount = Integer.MAX_VALUE;
+        for (Entry entry : entries.values()) {
+            if (entry.version != version || !predicate.refines(entry.predicate)) {
+                continue;
+            }
+            int count = entry.matches.cardinality();
+            if (count < narrowestCount) {
+                narrowest = entry;
+                narrowestCount = count;
+            }
+        }
+        if (narrowest == null) {
+            return null;
+        }
+        if (narrowest.hasParseFailure) {
+            predicate.recordParseFailure();
+        }
+        return narrowest.matches;
+    }
+
+    /**
+     * Stores {@code matches} as the positions of the car parks that pass {@code predicate} in the snapshot numbered
+     * {@code version}, along with whether {@code predicate} could not read the details of a car park.
+     * {@code matches} must not be changed afterwards.
+     */
+    public synchronized void put(CacheablePredicate predicate, long version, BitSet matches) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        Entry entry = new Entry(predicate, version, matches, predicate.hasParseFailure());
+        if (entry.bytes > maxBytes) {
+            return;
+        }
+        replace(predicate.getCacheKey(), entry);
+        Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+        while (entries.size() > maxEntries || totalBytes > maxBytes) {
+            totalBytes -= leastRecentlyUsed.next().bytes;
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Brings the entries of the snapshot numbered {@code version} forward to the snapshot numbered
+     * {@code newVersion}, in which the car park at {@code position} was replaced by {@code updated} with new lots.
+     * Entries of other snapshots are dropped.
+     */
+    public synchronized void updateLots(long version, long newVersion, int position, Carpark updated) {
+        requireNonNull(updated);
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> mapping = iterator.next();
+            Entry entry = mapping.getValue();
+            if (entry.version != version) {
+                totalBytes -= entry.bytes;
+                iterator.remove();
+                continue;
+            }
+            BitSet matches = entry.matches;
+            if (entry.predicate.dependsOnLots() && entry.predicate.test(updated) != matches.get(position)) {
+                // readers may still hold the old set, so the changed one is a copy
+                matches = (BitSet) matches.clone();
+                matches.flip(position);
+            }
+            mapping.setValue(new Entry(entry.predicate, newVersion, matches,
+                    entry.hasParseFailure || entry.predicate.hasParseFailure()));
+        }
+    }
+
+    /**
+     * Drops every entry, because the car park list has changed.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private void replace(String key, Entry entry) {
+        Entry old = entries.put(key, entry);
+        if (old != null) {
+            totalBytes -= old.bytes;
+        }
+        totalBytes += entry.bytes;
+    }
+
+    /**
+     * The matches of a predicate in one snapshot.
+     */
+    private static class Entry {
+        private final CacheablePredicate predicate;
+        private final long version;
+        private final BitSet matches;
+        private final boolean hasParseFailure;
+        private final long bytes;
+
+        Entry(CacheablePredicate predicate, long version, BitSet matches, boolean hasParseFailure) {
+            this.predicate = predicate;
+            this.version = version;
+            this.matches = matches;
+            this.hasParseFailure = hasParseFailure;
+            this.bytes = matches.size() / Byte.SIZE + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.parking.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * An unchanging copy of the car parks in the model at one point in time, which any number of threads can read
+ * without locking. Car parks are immutable, so only the list holding them is copied.
+ * Each change to the model publishes a snapshot with a higher version.
+ */
+public class CarparkSnapshot implements ReadOnlyCarparkFinder {
+
+    private final long version;
+    private final ObservableList<Carpark> carparks;
+    private final Map<String, Carpark> carparksByNumber;
+    private CarparkTokenIndex tokenIndex;
+
+    public CarparkSnapshot(long version, List<Carpark> carparks) {
+        requireNonNull(carparks);
+        this.version = version;
+        this.carparks = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(carparks));
+        Map<String, Carpark> byNumber = new HashMap<>();
+        for (Carpark carpark : this.carparks) {
+            byNumber.put(carpark.getCarparkNumber().value, carpark);
+        }
+        carparksByNumber = byNumber;
+    }
+
+    /**
+     * Returns {@code data} if it is already a snapshot, or an unversioned snapshot of its car parks otherwise.
+     */
+    public static CarparkSnapshot of(ReadOnlyCarparkFinder data) {
+        requireNonNull(data);
+        if (data instanceof CarparkSnapshot) {
+            return (CarparkSnapshot) data;
+        }
+        return new CarparkSnapshot(0, data.getCarparkList());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Carpark> getCarparkList() {
+        return carparks;
+    }
+
+    /**
+     * Returns the car park numbered {@code carparkNumber}, or null if there is none.
+     */
+    public Carpark getCarpark(String carparkNumber) {
+        return carparksByNumber.get(carparkNumber);
+    }
+
+    /**
+     * Returns the index of the words of the car parks, building it on first use since only fuzzy searches need it.
+     */
+    public synchronized CarparkTokenIndex getTokenIndex() {
+        if (tokenIndex == null) {
+            tokenIndex = new CarparkTokenIndex(carparks);
+        }
+        return tokenIndex;
+    }
+
+    @Override
+    public String toString() {
+        return carparks.size() + " car parks at version " + version;
+    }
+}
@@ -0,0 +1,257 @@
+package seedu.parking.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * The short-term and free parking hours of a list of car parks, parsed once into minutes of the day.
+ * The cost of parking is then worked out for many car parks in one pass over primitive arrays, instead of
+ * parsing the hours of each car park again with a date format.
+ * Parking costs {@link #CENTS_PER_HALF_HOUR} for each half hour or part of it, except during free parking on
+ * Sundays. Costs are worked out as the {@code calculate} command does, so that both commands always quote the same
+ * cost.
+ */
+public class CarparkTariffTable {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int CENTS_PER_HALF_HOUR = 60;
+
+    /** Marks a car park without short-term or free parking, and a cost that cannot be worked out. */
+    public static final int NONE = -1;
+
+    private static final int MINUTES_PER_HALF_HOUR = 30;
+
+    private final int size;
+    private final Map<String, Integer> indexByNumber = new HashMap<>();
+    private final int[] shortTermStarts;
+    private final int[] shortTermEnds;
+    private final int[] freeStarts;
+    private final int[] freeEnds;
+
+    /**
+     * Parses the parking hours of {@code carparks}, in list order.
+     * Hours that cannot be parsed are treated as no parking of that kind.
+     */
+    public CarparkTariffTable(List<Carpark> carparks) {
+        requireNonNull(carparks);
+        size = carparks.size();
+        shortTermStarts = new int[size];
+        shortTermEnds = new int[size];
+        freeStarts = new int[size];
+        freeEnds = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            Carpark carpark = carparks.get(i);
+            indexByNumber.put(carpark.getCarparkNumber().toString(), i);
+
+            String shortTerm = carpark.getShortTerm().value;
+            if (shortTerm.equals("WHOLE DAY")) {
+                shortTermStarts[i] = 0;
+                shortTermEnds[i] = MINUTES_PER_DAY;
+            } else {
+                parseWindow(shortTerm, i, shortTermStarts, shortTermEnds);
+            }
+
+            // free parking reads like "SUN & PH FR 7AM-10.30PM", with the hours as its last word
+            String[] freeParking = carpark.getFreeParking().value.trim().split("\\s+");
+            parseWindow(freeParking[freeParking.length - 1], i, freeStarts, freeEnds);
+        }
+    }
+
+    /**
+     * Stores the start and end of {@code window}, such as "7AM-10.30PM", at {@code index} of {@code starts} and
+     * {@code ends}, or {@link #NONE} if it is not a window of hours.
+     */
+    private static void parseWindow(String window, int index, int[] starts, int[] ends) {
+        int dash = window.indexOf('-');
+        int start = dash < 0 ? NONE : parseMinuteOfDay(window.substring(0, dash));
+        int end = dash < 0 ? NONE : parseMinuteOfDay(window.substring(dash + 1));
+        boolean isValid = start != NONE && end != NONE;
+        starts[index] = isValid ? start : NONE;
+        ends[index] = isValid ? end : NONE;
+    }
+
+    /**
+     * Returns the minute of the day of a time such as "7AM" or "10.30pm", or {@link #NONE} if it is not one.
+     */
+    public static int parseMinuteOfDay(String time) {
+        int length = time.length();
+        if (length < 3 || Character.toUpperCase(time.charAt(length - 1)) != 'M') {
+            return NONE;
+        }
+        char halfOfDay = Character.toUpperCase(time.charAt(length - 2));
+        if (halfOfDay != 'A' && halfOfDay != 'P') {
+            return NONE;
+        }
+        int dot = time.indexOf('.');
+        int hour = parseNumber(time, 0, dot < 0 ? length - 2 : dot);
+        int minute = dot < 0 ? 0 : parseNumber(time, dot + 1, length - 2);
+        if (hour < 1 || hour > 12 || minute < 0 || minute > 59) {
+            return NONE;
+        }
+        return ((hour % 12) + (halfOfDay == 'P' ? 12 : 0)) * 60 + minute;
+    }
+
+    /**
+     * Returns the number of one or two digits from {@code from} to {@code to} in {@code text}, or -1 if there is none.
+     */
+    private static int parseNumber(String text, int from, int to) {
+        if (to - from < 1 || to - from > 2) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the car park with {@code carparkNumber}, or -1 if there is none.
+     */
+    public int indexOf(String carparkNumber) {
+        Integer index = indexByNumber.get(carparkNumber);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the cost in cents of parking at the car park at {@code index} from minute {@code start} to minute
+     * {@code end} of the day, or {@link #NONE} if it has no short-term parking for all of that time.
+     * On Sundays with free parking, as in {@code calculate}, the parts of the stay before free parking starts and
+     * after it ends are charged, each rounded up to half hours.
+     */
+    public int getCostInCents(int index, boolean isSunday, int start, int end) {
+        int shortTermStart = shortTermStarts[index];
+        if (shortTermStart == NONE || start < shortTermStart || end > shortTermEnds[index]) {
+            return NONE;
+        }
+        int freeStart = freeStarts[index];
+        if (!isSunday || freeStart == NONE) {
+            return countHalfHours(end - start) * CENTS_PER_HALF_HOUR;
+        }
+        int beforeFree = Math.min(end, freeStart) - start;
+        int afterFree = end - Math.max(start, freeEnds[index]);
+        return (countHalfHours(beforeFree) + countHalfHours(afterFree)) * CENTS_PER_HALF_HOUR;
+    }
+
+    private static int countHalfHours(int minutes) {
+        return minutes <= 0 ? 0 : (minutes + MINUTES_PER_HALF_HOUR - 1) / MINUTES_PER_HALF_HOUR;
+    }
+
+    /**
+     * Returns the {@code k} car parks of {@code carparks} with lots available that cost the least to park at from
+     * minute {@code start} to minute {@code end} of the day, cheapest first. Ties keep the order of {@code carparks}.
+     * Car parks that are not in this table, or have no short-term parking for all of that time, are left out.
+     */
+    public List<Quote> findCheapest(List<Carpark> carparks, boolean isSunday, int start, int end, int k) {
+        requireNonNull(carparks);
+        int count = 0;
+        int[] positions = new int[carparks.size()];
+        int[] listIndices = new int[carparks.size()];
+        for (int i = 0; i < carparks.size(); i++) {
+            Carpark carpark = carparks.get(i);
+            int position = indexOf(carpark.getCarparkNumber().toString());
+            if (position != -1 && carpark.getLotsAvailable().getCount() > 0) {
+                positions[count] = position;
+                listIndices[count++] = i;
+            }
+        }
+
+        int[] costs = new int[count];
+        for (int j = 0; j < count; j++) {
+            costs[j] = getCostInCents(positions[j], isSunday, start, end);
+        }
+
+        int[] cheapest = selectCheapest(k, costs);
+        List<Quote> quotes = new ArrayList<>(cheapest.length);
+        for (int j : cheapest) {
+            quotes.add(new Quote(carparks.get(listIndices[j]), costs[j]));
+        }
+        return Collections.unmodifiableList(quotes);
+    }
+
+    /**
+     * Returns the indices of the {@code k} smallest costs in {@code costs} other than {@link #NONE}, smallest first.
+     * Keeps a small sorted buffer of size {@code k}, which beats a full sort when {@code k} is much less than size.
+     */
+    private static int[] selectCheapest(int k, int[] costs) {
+        int limit = Math.max(0, Math.min(k, costs.length));
+        int[] cheapest = new int[limit];
+        int count = 0;
+        for (int i = 0; i < costs.length && limit > 0; i++) {
+            int cost = costs[i];
+            if (cost == NONE || count == limit && cost >= costs[cheapest[count - 1]]) {
+                continue;
+            }
+            int position = count == limit ? count - 1 : count++;
+            while (position > 0 && costs[cheapest[position - 1]] > cost) {
+                cheapest[position] = cheapest[position - 1];
+                position--;
+            }
+            cheapest[position] = i;
+        }
+        return count == limit ? cheapest : Arrays.copyOf(cheapest, count);
+    }
+
+    /**
+     * The cost of parking at a car park.
+     */
+    public static class Quote {
+        private final Carpark carpark;
+        private final int costInCents;
+
+        public Quote(Carpark carpark, int costInCents) {
+            this.carpark = carpark;
+            this.costInCents = costInCents;
+        }
+
+        public Carpark getCarpark() {
+            return carpark;
+        }
+
+        public int getCostInCents() {
+            return costInCents;
+        }
+
+        /**
+         * Returns the cost in dollars.
+         */
+        public double getCost() {
+            return costInCents / 100.0;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Quote // instanceof handles nulls
+                    && carpark.equals(((Quote) other).carpark)
+                    && costInCents == ((Quote) other).costInCents); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return carpark.hashCode() * 31 + costInCents;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s $%.2f", carpark.getCarparkNumber(), getCost());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.parking.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.parking.commons.util.BkTree;
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * An index of the car park numbers and address words of a list of car parks, for typo-tolerant search.
+ * Every distinct word is stored once, in lower case, in a {@code BkTree}.
+ */
+public class CarparkTokenIndex {
+
+    private final BkTree tree = new BkTree();
+
+    /**
+     * Builds the index from the car park numbers and address words of {@code carparks}.
+     */
+    public CarparkTokenIndex(List<Carpark> carparks) {
+        requireNonNull(carparks);
+        Set<String> tokens = new HashSet<>();
+        for (Carpark carpark : carparks) {
+            tokens.addAll(getTokens(carpark));
+        }
+        tokens.forEach(tree::add);
+    }
+
+    /**
+     * Returns the car park number and address words of {@code carpark} that are indexed, in lower case.
+     */
+    static Set<String> getTokens(Carpark carpark) {
+        Set<String> tokens = new HashSet<>();
+        addToken(tokens, carpark.getCarparkNumber().toString());
+        for (String word : carpark.getAddress().toString().split("\\s+")) {
+            addToken(tokens, word);
+        }
+        return tokens;
+    }
+
+    /**
+     * Adds {@code word} in lower case, skipping words without letters such as block numbers.
+     */
+    private static void addToken(Set<String> tokens, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isLetter(word.charAt(i))) {
+                tokens.add(word.toLowerCase());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the largest number of typos allowed in {@code keyword}.
+     * Short keywords allow fewer typos, so that they do not match most of the index.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    /**
+     * Returns the indexed words within {@link #getMaxDistance(String)} edits of {@code keyword}, ignoring case.
+     */
+    public List<String> findSimilar(String keyword) {
+        requireNonNull(keyword);
+        String word = keyword.trim().toLowerCase();
+        return tree.search(word, getMaxDistance(word));
+    }
+
+    public int size() {
+        return tree.size();
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.parking.model;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.parking.model.carpark.Carpark;
 import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
 
 /**
  * The API of the Model component.
@@ -20,6 +23,12 @@ public interface Model {
     /** Returns the CarparkFinder */
     ReadOnlyCarparkFinder getCarparkFinder();
 
+    /**
+     * Returns the latest snapshot of the car park finder.
+     * Unlike the car park finder itself, it never changes, so it can be read from any thread without locking.
+     */
+    CarparkSnapshot getSnapshot();
+
     /**
      * Returns true if a car park with the same identity as {@code carpark} exists in the car park finder.
      */
@@ -42,6 +51,31 @@ public interface Model {
      */
     void loadCarpark(List<Carpark> listCarpark);
 
+    /**
+     * Replaces the car park with the number of {@code target} with a copy that has the given lots.
+     * Nothing changes if there is no such car park, as when the car parks were reloaded since {@code target} was read.
+     */
+    void updateCarparkLots(Carpark target, LotsAvailable lotsAvailable, TotalLots totalLots);
+
+    /** Returns a columnar view of all car parks for aggregate queries */
+    CarparkColumnStore getCarparkColumnStore();
+
+    /** Returns a typo-tolerant index of car park numbers and address words */
+    CarparkTokenIndex getCarparkTokenIndex();
+
+    /** Returns the car park numbers and address words of all car parks for completing user input */
+    CarparkCompletionIndex getCarparkCompletionIndex();
+
+    /** Returns the parsed parking hours of all car parks for working out parking costs */
+    CarparkTariffTable getCarparkTariffTable();
+
+    /**
+     * Returns the car parks of the latest snapshot that pass {@code predicate}, in list order.
+     * The matches of {@code find} and {@code filter} predicates are cached until the car parks change.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Carpark> getMatchingCarparks(Predicate<Carpark> predicate);
+
     /** Returns an unmodifiable view of the filtered car park list */
     ObservableList<Carpark> getFilteredCarparkList();
 
@@ -51,6 +85,14 @@ public interface Model {
      */
     void updateFilteredCarparkList(Predicate<Carpark> predicate);
 
+    /**
+     * Updates the filter of the filtered car park list to filter by the given {@code predicate},
+     * and orders the car parks that pass it by {@code comparator}.
+     * Car parks keep their list order if {@code comparator} is null.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredCarparkList(Predicate<Carpark> predicate, Comparator<Carpark> comparator);
+
 
     void updateLastPredicateUsedByFindCommand(CarparkContainsKeywordsPredicate predicate);
 
@@ -3,27 +3,53 @@ package seedu.parking.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.parking.commons.core.ComponentManager;
 import seedu.parking.commons.core.LogsCenter;
 import seedu.parking.commons.events.model.CarparkFinderChangedEvent;
+import seedu.parking.model.carpark.CacheablePredicate;
 import seedu.parking.model.carpark.Carpark;
 import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
 
 /**
  * Represents the in-memory model of the car park finder data.
+ *
+ * <p>Changes are applied by one writer at a time, and each one publishes a new {@link CarparkSnapshot}, which
+ * threads other than the JavaFX application thread read instead of the changing car park finder.
+ * The filtered list shown by the UI holds the car parks of the latest snapshot that pass the latest predicate,
+ * which are found by a {@link CarparkFilterEngine} and put in the list in one change. A change to the lots of one
+ * car park only replaces or removes that car park in the list. The list is only ever changed on the JavaFX
+ * application thread once the UI is running. Changes made on other threads are handed to it, and wait for it.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedCarparkFinder versionedCarparkFinder;
-    private final FilteredList<Carpark> filteredCarparks;
+    private final AtomicReference<CarparkSnapshot> snapshot;
+    private final AtomicReference<ListRequest> requestedList;
+    private final AtomicReference<LotsChange> lastLotsChange = new AtomicReference<>();
+    private final ObservableList<Carpark> shownCarparks;
+    private final SortedList<Carpark> sortedCarparks;
+    private final CarparkQueryCache queryCache = new CarparkQueryCache();
+    private final CarparkCompletionIndex completionIndex;
+
+    private long shownVersion;
+    private ListRequest shownRequest;
 
     private CarparkContainsKeywordsPredicate lastPredicateUsedByFindCommand;
 
@@ -34,10 +60,15 @@ public class ModelManager extends ComponentManager implements Model {
         super();
         requireAllNonNull(carparkFinder, userPrefs);
 
-        logger.fine("Initializing with car park finder: " + carparkFinder + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with car park finder: " + carparkFinder + " and user prefs " + userPrefs);
 
         versionedCarparkFinder = new VersionedCarparkFinder(carparkFinder);
-        filteredCarparks = new FilteredList<>(versionedCarparkFinder.getCarparkList());
+        snapshot = new AtomicReference<>(new CarparkSnapshot(0, versionedCarparkFinder.getCarparkList()));
+        shownRequest = new ListRequest(PREDICATE_SHOW_ALL_CARPARK, null);
+        requestedList = new AtomicReference<>(shownRequest);
+        shownCarparks = FXCollections.observableArrayList(snapshot.get().getCarparkList());
+        sortedCarparks = new SortedList<>(shownCarparks);
+        completionIndex = new CarparkCompletionIndex(snapshot.get().getCarparkList());
     }
 
     public ModelManager() {
@@ -46,8 +77,11 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyCarparkFinder newData) {
-        versionedCarparkFinder.resetData(newData);
-        indicateCarparkFinderChanged();
+        synchronized (this) {
+            versionedCarparkFinder.resetData(newData);
+            indicateCarparkFinderChanged();
+        }
+        showLatest();
     }
 
     @Override
@@ -55,58 +89,267 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedCarparkFinder;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public CarparkSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Publishes a snapshot of the changed car park finder and raises an event to indicate the model has changed.
+     * The cached matches of queries are dropped, and the words to complete are brought up to date, since the car
+     * park list may have changed.
+     * Must be called while holding the writer lock, so that snapshots are published in the order of the changes.
+     */
     private void indicateCarparkFinderChanged() {
-        raise(new CarparkFinderChangedEvent(versionedCarparkFinder));
+        queryCache.clear();
+        completionIndex.update(publishSnapshot().getCarparkList());
+    }
+
+    /**
+     * Publishes a snapshot of the car park finder and raises an event that carries it, since storage handles the
+     * event on another thread.
+     */
+    private CarparkSnapshot publishSnapshot() {
+        CarparkSnapshot next = new CarparkSnapshot(snapshot.get().getVersion() + 1,
+                versionedCarparkFinder.getCarparkList());
+        snapshot.set(next);
+        raise(new CarparkFinderChangedEvent(next));
+        return next;
     }
 
     @Override
     public boolean hasCarpark(Carpark carpark) {
         requireNonNull(carpark);
-        return versionedCarparkFinder.hasCarpark(carpark);
+        return snapshot.get().getCarparkList().stream().anyMatch(carpark::isSameCarpark);
     }
 
     @Override
     public void deleteCarpark(Carpark target) {
-        versionedCarparkFinder.removeCarpark(target);
-        indicateCarparkFinderChanged();
+        synchronized (this) {
+            versionedCarparkFinder.removeCarpark(target);
+            indicateCarparkFinderChanged();
+        }
+        showLatest();
     }
 
     @Override
     public void addCarpark(Carpark carpark) {
-        versionedCarparkFinder.addCarpark(carpark);
+        synchronized (this) {
+            versionedCarparkFinder.addCarpark(carpark);
+            indicateCarparkFinderChanged();
+        }
         updateFilteredCarparkList(PREDICATE_SHOW_ALL_CARPARK);
-        indicateCarparkFinderChanged();
     }
 
     @Override
     public void loadCarpark(List<Carpark> listCarkpark) {
-        versionedCarparkFinder.setCarparks(listCarkpark);
+        synchronized (this) {
+            versionedCarparkFinder.setCarparks(listCarkpark);
+            indicateCarparkFinderChanged();
+        }
         updateFilteredCarparkList(PREDICATE_SHOW_ALL_CARPARK);
-        indicateCarparkFinderChanged();
+    }
+
+    @Override
+    public void updateCarparkLots(Carpark target, LotsAvailable lotsAvailable, TotalLots totalLots) {
+        requireAllNonNull(target, lotsAvailable, totalLots);
+        synchronized (this) {
+            CarparkSnapshot previous = snapshot.get();
+            int position = versionedCarparkFinder.updateCarparkLots(target, lotsAvailable, totalLots);
+            if (position == -1) {
+                // called from the notify timer, which must keep running after the car parks are reloaded
+                logger.warning("No car park numbered " + target.getCarparkNumber() + " to update the lots of");
+                return;
+            }
+            // only the lots of one car park changed, so the cached matches are brought forward instead of dropped
+            CarparkSnapshot next = publishSnapshot();
+            Carpark updated = next.getCarparkList().get(position);
+            queryCache.updateLots(previous.getVersion(), next.getVersion(), position, updated);
+            lastLotsChange.set(new LotsChange(previous.getVersion(), next.getVersion(),
+                    previous.getCarparkList().get(position), updated));
+        }
+        showLatest();
+    }
+
+    /**
+     * Returns the column store of the car park finder, which is built and updated under the writer lock.
+     */
+    @Override
+    public synchronized CarparkColumnStore getCarparkColumnStore() {
+        return versionedCarparkFinder.getColumnStore();
+    }
+
+    /**
+     * Returns the token index of the car park finder, which is built under the writer lock.
+     */
+    @Override
+    public synchronized CarparkTokenIndex getCarparkTokenIndex() {
+        return versionedCarparkFinder.getTokenIndex();
+    }
+
+    @Override
+    public CarparkCompletionIndex getCarparkCompletionIndex() {
+        return completionIndex;
+    }
+
+    /**
+     * Returns the tariff table of the car park finder, which is built under the writer lock.
+     */
+    @Override
+    public synchronized CarparkTariffTable getCarparkTariffTable() {
+        return versionedCarparkFinder.getTariffTable();
     }
 
     // Todo: Calculate command
     @Override
     public Carpark getCarparkFromFilteredList(int index) {
-        return filteredCarparks.get(index);
+        return sortedCarparks.get(index);
     }
 
     //=========== Filtered Car Park List Accessors ===========================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Carpark} backed by the internal list of
-     * {@code versionedCarparkFinder}
+     * Returns an unmodifiable view of the list of {@code Carpark} backed by a copy of the latest snapshot of
+     * {@code versionedCarparkFinder}. Once the UI is running, it must only be read on the JavaFX application thread.
      */
     @Override
     public ObservableList<Carpark> getFilteredCarparkList() {
-        return FXCollections.unmodifiableObservableList(filteredCarparks);
+        return FXCollections.unmodifiableObservableList(sortedCarparks);
     }
 
     @Override
     public void updateFilteredCarparkList(Predicate<Carpark> predicate) {
+        updateFilteredCarparkList(predicate, null);
+    }
+
+    @Override
+    public void updateFilteredCarparkList(Predicate<Carpark> predicate, Comparator<Carpark> comparator) {
+        requireNonNull(predicate);
+        requestedList.set(new ListRequest(predicate, comparator));
+        showLatest();
+    }
+
+    /**
+     * Brings the shown car parks up to the latest snapshot and requested predicate and comparator on the JavaFX
+     * application thread, and waits for it to be done. Runs on the calling thread instead when the UI is not
+     * running, such as in tests and headless mode.
+     * Only the latest of each is ever shown, so an older change handed over late cannot overwrite a newer one.
+     */
+    private void showLatest() {
+        if (isFxApplicationThread()) {
+            showLatestNow();
+            return;
+        }
+        FutureTask<Void> task = new FutureTask<>(this::showLatestNow, null);
+        try {
+            Platform.runLater(task);
+        } catch (IllegalStateException e) {
+            // the JavaFX toolkit has not been started
+            task.run();
+        }
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void showLatestNow() {
+        // only contended when the UI is not running, and kept apart from the writer lock so the UI never waits on it
+        synchronized (shownCarparks) {
+            CarparkSnapshot latest = snapshot.get();
+            ListRequest request = requestedList.get();
+            if (latest.getVersion() == shownVersion && request == shownRequest) {
+                return;
+            }
+            if (request == shownRequest && showLotsChange(latest, request.predicate)) {
+                shownVersion = latest.getVersion();
+                return;
+            }
+            List<Carpark> matches = getMatchingCarparks(latest, request.predicate);
+            // The old comparator may not know the newly shown car parks, so drop it before changing them.
+            // Setting the new comparator last also means only the car parks that pass the predicate are sorted.
+            sortedCarparks.setComparator(null);
+            shownCarparks.setAll(matches);
+            sortedCarparks.setComparator(request.comparator);
+            shownVersion = latest.getVersion();
+            shownRequest = request;
+        }
+    }
+
+    /**
+     * Shows the last change to the lots of one car park by replacing only that car park in the shown list, or
+     * removing it if it no longer passes {@code predicate}, so that the list view only updates one cell.
+     * Returns false without changing the list if {@code latest} is not that change to the shown car parks, or the
+     * car park now passes {@code predicate} but was not shown, since its place among the shown car parks is unknown.
+     */
+    private boolean showLotsChange(CarparkSnapshot latest, Predicate<Carpark> predicate) {
+        LotsChange change = lastLotsChange.get();
+        if (change == null || change.previousVersion != shownVersion || change.version != latest.getVersion()) {
+            return false;
+        }
+        int index = -1;
+        for (int i = 0; i < shownCarparks.size(); i++) {
+            if (shownCarparks.get(i) == change.replaced) {
+                index = i;
+                break;
+            }
+        }
+        boolean passes = predicate.test(change.updated);
+        if (index == -1) {
+            return !passes;
+        }
+        if (passes) {
+            shownCarparks.set(index, change.updated);
+        } else {
+            shownCarparks.remove(index);
+        }
+        return true;
+    }
+
+    @Override
+    public List<Carpark> getMatchingCarparks(Predicate<Carpark> predicate) {
         requireNonNull(predicate);
-        filteredCarparks.setPredicate(predicate);
+        return getMatchingCarparks(snapshot.get(), predicate);
+    }
+
+    /**
+     * Returns the car parks in {@code carparks} that pass {@code predicate}, reusing the cached matches of
+     * {@code find} and {@code filter} predicates.
+     * A predicate that is not cached yet but refines a cached one, such as a {@code filter} of the last
+     * {@code find} or a {@code filter} that adds flags to the last one, only tests the cached matches.
+     */
+    private List<Carpark> getMatchingCarparks(CarparkSnapshot carparks, Predicate<Carpark> predicate) {
+        if (!(predicate instanceof CacheablePredicate)) {
+            return CarparkFilterEngine.filter(carparks.getCarparkList(), predicate);
+        }
+        CacheablePredicate cacheable = (CacheablePredicate) predicate;
+        BitSet matches = queryCache.get(cacheable, carparks.getVersion());
+        if (matches == null) {
+            BitSet candidates = queryCache.getNarrowestRefined(cacheable, carparks.getVersion());
+            matches = candidates == null
+                    ? CarparkFilterEngine.match(carparks.getCarparkList(), cacheable)
+                    : CarparkFilterEngine.match(carparks.getCarparkList(), cacheable, candidates);
+            queryCache.put(cacheable, carparks.getVersion(), matches);
+        }
+        return CarparkFilterEngine.select(carparks.getCarparkList(), matches);
+    }
+
+    /**
+     * Returns the cache of the matches of recent queries.
+     */
+    CarparkQueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    private static boolean isFxApplicationThread() {
+        try {
+            return Platform.isFxApplicationThread();
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
     }
 
     //=========== Last Predicate Used by FindCommand =========================================================
@@ -135,23 +378,29 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoCarparkFinder() {
-        versionedCarparkFinder.undo();
-        indicateCarparkFinderChanged();
+        synchronized (this) {
+            versionedCarparkFinder.undo();
+            indicateCarparkFinderChanged();
+        }
+        showLatest();
     }
 
     @Override
     public void redoCarparkFinder() {
-        versionedCarparkFinder.redo();
-        indicateCarparkFinderChanged();
+        synchronized (this) {
+            versionedCarparkFinder.redo();
+            indicateCarparkFinderChanged();
+        }
+        showLatest();
     }
 
     @Override
-    public void commitCarparkFinder() {
+    public synchronized void commitCarparkFinder() {
         versionedCarparkFinder.commit();
     }
 
     @Override
-    public int compareCarparkFinder() {
+    public synchronized int compareCarparkFinder() {
         return versionedCarparkFinder.compare();
     }
 
@@ -170,7 +419,38 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedCarparkFinder.equals(other.versionedCarparkFinder)
-                && filteredCarparks.equals(other.filteredCarparks);
+                && sortedCarparks.equals(other.sortedCarparks);
+    }
+
+    /**
+     * The predicate and comparator the filtered car park list was last asked to show.
+     */
+    private static class ListRequest {
+        private final Predicate<Carpark> predicate;
+        private final Comparator<Carpark> comparator;
+
+        private ListRequest(Predicate<Carpark> predicate, Comparator<Carpark> comparator) {
+            this.predicate = predicate;
+            this.comparator = comparator;
+        }
+    }
+
+    /**
+     * The last change to the lots of one car park, from the snapshot numbered {@code previousVersion} to the one
+     * numbered {@code version}.
+     */
+    private static class LotsChange {
+        private final long previousVersion;
+        private final long version;
+        private final Carpark replaced;
+        private final Carpark updated;
+
+        private LotsChange(long previousVersion, long version, Carpark replaced, Carpark updated) {
+            this.previousVersion = previousVersion;
+            this.version = version;
+            this.replaced = replaced;
+            this.updated = updated;
+        }
     }
 
 }
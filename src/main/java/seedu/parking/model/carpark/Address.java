@@ -3,6 +3,8 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+
 /**
  * Represents a car park's parking.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -35,7 +37,7 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
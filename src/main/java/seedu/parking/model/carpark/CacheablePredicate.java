@@ -0,0 +1,65 @@
+package seedu.parking.model.carpark;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} over car parks whose matches can be cached, because whether a car park passes depends only
+ * on the car park and on the parameters named by {@link #getCacheKey()}.
+ */
+public interface CacheablePredicate extends Predicate<Carpark> {
+
+    /**
+     * Returns a key that is equal for any two predicates that pass the same car parks, whatever the order and case
+     * of the keywords or the order of the flags they were given.
+     */
+    String getCacheKey();
+
+    /**
+     * Returns true if whether a car park passes depends on its lots, which change without the car park list
+     * changing.
+     */
+    boolean dependsOnLots();
+
+    /**
+     * Returns true if every car park that passes this predicate also passes {@code other}, so that the matches of
+     * this predicate can be found among the matches of {@code other} alone.
+     */
+    default boolean refines(CacheablePredicate other) {
+        return getCacheKey().equals(other.getCacheKey());
+    }
+
+    /**
+     * Returns true if the details of a car park tested by this predicate, or by the predicate whose cached matches
+     * it reused, could not be read.
+     */
+    default boolean hasParseFailure() {
+        return false;
+    }
+
+    /**
+     * Notes that the details of a car park could not be read while finding the cached matches this predicate reuses,
+     * since it does not test those car parks itself.
+     */
+    default void recordParseFailure() {}
+
+    /**
+     * Returns {@code words} in lower case, sorted and without duplicates, for use in a cache key.
+     */
+    static String normalize(List<String> words) {
+        return String.join(" ", toNormalizedSet(words));
+    }
+
+    /**
+     * Returns {@code words} in lower case, sorted and without duplicates.
+     */
+    static TreeSet<String> toNormalizedSet(Collection<String> words) {
+        TreeSet<String> normalized = new TreeSet<>();
+        for (String word : words) {
+            normalized.add(word.trim().toLowerCase());
+        }
+        return normalized;
+    }
+}
@@ -23,8 +23,8 @@ public class Carpark {
     private final CarparkNumber carparkNumber;
     private final Coordinate coordinate;
     private final PostalCode postalCode;
-    private LotsAvailable lotsAvailable;
-    private TotalLots totalLots;
+    private final LotsAvailable lotsAvailable;
+    private final TotalLots totalLots;
 
     // Data fields
     private final CarparkType carparkType;
@@ -106,13 +106,24 @@ public class Carpark {
     }
 
     /**
-     * Update the values of the parking lots
+     * Returns the share of the total lots that are taken, from 0 to 1, or 0 if the car park has no lots.
+     */
+    public double getOccupancyRatio() {
+        int total = totalLots.getCount();
+        if (total <= 0) {
+            return 0;
+        }
+        return (double) Math.max(0, total - lotsAvailable.getCount()) / total;
+    }
+
+    /**
+     * Returns a copy of this car park with {@code lotsAvailable} and {@code totalLots} as its lots.
      * @param lotsAvailable how many lots are available in the car park
      * @param totalLots total lots in the car park
      */
-    public void setLots(LotsAvailable lotsAvailable, TotalLots totalLots) {
-        this.lotsAvailable = lotsAvailable;
-        this.totalLots = totalLots;
+    public Carpark withLots(LotsAvailable lotsAvailable, TotalLots totalLots) {
+        return new Carpark(address, carparkNumber, carparkType, coordinate, freeParking, lotsAvailable, nightParking,
+                shortTerm, totalLots, typeOfParking, postalCode, tags);
     }
 
     /**
@@ -1,14 +1,22 @@
 package seedu.parking.model.carpark;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.PriorityQueue;
 
 import seedu.parking.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Carpark}'s {@code carparkNumber} matches any of the keywords given.
  */
-public class CarparkContainsKeywordsPredicate implements Predicate<Carpark> {
+public class CarparkContainsKeywordsPredicate implements CacheablePredicate {
+    public static final int NO_LIMIT = -1;
+
+    /** Larger than the number of keywords in any query, so that match counts of different kinds never mix. */
+    private static final long RELEVANCE_BASE = 1_000_000L;
+
     private final List<String> keywords;
 
     public CarparkContainsKeywordsPredicate(List<String> keywords) {
@@ -19,6 +27,27 @@ public class CarparkContainsKeywordsPredicate implements Predicate<Carpark> {
         return this.keywords;
     }
 
+    @Override
+    public String getCacheKey() {
+        return "find|" + CacheablePredicate.normalize(keywords);
+    }
+
+    @Override
+    public boolean dependsOnLots() {
+        return false;
+    }
+
+    /**
+     * Returns true if {@code other} is also a keyword search, with at least the keywords of this one.
+     * A car park matches when it matches any keyword, so searching for more keywords only finds more car parks.
+     */
+    @Override
+    public boolean refines(CacheablePredicate other) {
+        return other instanceof CarparkContainsKeywordsPredicate
+                && CacheablePredicate.toNormalizedSet(((CarparkContainsKeywordsPredicate) other).keywords)
+                .containsAll(CacheablePredicate.toNormalizedSet(keywords));
+    }
+
     @Override
     public boolean test(Carpark carpark) {
         return keywords.stream()
@@ -31,10 +60,96 @@ public class CarparkContainsKeywordsPredicate implements Predicate<Carpark> {
                         );
     }
 
+    /**
+     * Returns how relevant {@code carpark} is to the keywords, or 0 if it does not match any of them.
+     * Each exact car park number match outranks any number of whole-word matches,
+     * which in turn outrank any number of partial matches.
+     */
+    public long getRelevance(Carpark carpark) {
+        String carparkNumber = carpark.getCarparkNumber().toString();
+        String address = carpark.getAddress().toString();
+        long exactMatches = 0;
+        long wordMatches = 0;
+        long partialMatches = 0;
+        for (String keyword : keywords) {
+            if (carparkNumber.equalsIgnoreCase(keyword.trim())) {
+                exactMatches++;
+            } else if (StringUtil.containsWordIgnoreCase(address, keyword)) {
+                wordMatches++;
+            } else if (StringUtil.containsPartialWordIgnoreCase(carparkNumber, keyword)
+                    || StringUtil.containsPartialWordIgnoreCase(address, keyword)) {
+                partialMatches++;
+            }
+        }
+        return exactMatches * RELEVANCE_BASE * RELEVANCE_BASE + wordMatches * RELEVANCE_BASE + partialMatches;
+    }
+
+    /**
+     * Returns the car parks in {@code carparks} that match the keywords, most relevant first.
+     * Only the best {@code limit} car parks are kept in a bounded heap, so the matches are never fully sorted.
+     *
+     * @param limit The maximum number of car parks returned, or {@code NO_LIMIT}.
+     * @param weightByLots Whether car parks with more lots available go first among equally relevant ones.
+     */
+    public List<Carpark> rank(List<Carpark> carparks, int limit, boolean weightByLots) {
+        int capacity = limit == NO_LIMIT ? carparks.size() : Math.min(limit, carparks.size());
+        if (capacity <= 0) {
+            return Collections.emptyList();
+        }
+
+        Comparator<RankedCarpark> byRank = Comparator.comparingLong((RankedCarpark r) -> r.relevance);
+        if (weightByLots) {
+            byRank = byRank.thenComparingLong(r -> r.lotsAvailable);
+        }
+        byRank = byRank.thenComparing(Comparator.comparingInt((RankedCarpark r) -> r.position).reversed());
+
+        // The head of the heap is the worst car park kept so far.
+        PriorityQueue<RankedCarpark> heap = new PriorityQueue<>(capacity, byRank);
+        for (int i = 0; i < carparks.size(); i++) {
+            Carpark carpark = carparks.get(i);
+            long relevance = getRelevance(carpark);
+            if (relevance == 0) {
+                continue;
+            }
+            RankedCarpark candidate = new RankedCarpark(carpark, relevance,
+                    weightByLots ? carpark.getLotsAvailable().getCount() : 0, i);
+            if (heap.size() < capacity) {
+                heap.add(candidate);
+            } else if (byRank.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<Carpark> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().carpark);
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof CarparkContainsKeywordsPredicate // instanceof handles nulls
                 && keywords.equals(((CarparkContainsKeywordsPredicate) other).keywords)); // state check
     }
+
+    /**
+     * A car park with the values it is ranked by.
+     */
+    private static class RankedCarpark {
+        private final Carpark carpark;
+        private final long relevance;
+        private final long lotsAvailable;
+        private final int position;
+
+        RankedCarpark(Carpark carpark, long relevance, long lotsAvailable, int position) {
+            this.carpark = carpark;
+            this.relevance = relevance;
+            this.lotsAvailable = lotsAvailable;
+            this.position = position;
+        }
+    }
 }
@@ -2,40 +2,54 @@ package seedu.parking.model.carpark;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import seedu.parking.commons.core.EventsCenter;
-import seedu.parking.commons.core.Messages;
-import seedu.parking.commons.events.ui.NewResultAvailableEvent;
 import seedu.parking.commons.util.StringUtil;
 import seedu.parking.logic.parser.CarparkTypeParameter;
 import seedu.parking.logic.parser.FreeParkingParameter;
+import seedu.parking.logic.parser.LotsParameter;
 import seedu.parking.logic.parser.ParkingSystemTypeParameter;
 
 /**
  * Tests that a {@code Carpark} met all the filtering criteria.
+ * Testing has no side effects other than noting down free parking hours that could not be read, so a filter can
+ * test car parks on several threads at once and report those hours once it is done.
  */
-public class CarparkFilteringPredicate implements Predicate<Carpark> {
+public class CarparkFilteringPredicate implements CacheablePredicate {
 
     private final List<String> locationKeywords;
     private final List<String> flagList;
     private final FreeParkingParameter freeParkingParameter;
     private final CarparkTypeParameter carparkTypeParameter;
     private final ParkingSystemTypeParameter parkingSystemTypeParameter;
+    private final LotsParameter lotsParameter;
+    private final AtomicBoolean hasParseFailure = new AtomicBoolean();
 
     public CarparkFilteringPredicate(List<String> locationKeywords, List<String> flagList,
                                      FreeParkingParameter freeParkingParameter,
                                      CarparkTypeParameter carparkTypeParameter,
                                      ParkingSystemTypeParameter parkingSystemTypeParameter) {
+        this(locationKeywords, flagList, freeParkingParameter, carparkTypeParameter, parkingSystemTypeParameter,
+                null);
+    }
+
+    public CarparkFilteringPredicate(List<String> locationKeywords, List<String> flagList,
+                                     FreeParkingParameter freeParkingParameter,
+                                     CarparkTypeParameter carparkTypeParameter,
+                                     ParkingSystemTypeParameter parkingSystemTypeParameter,
+                                     LotsParameter lotsParameter) {
         this.locationKeywords = locationKeywords;
         this.flagList = flagList;
         this.freeParkingParameter = freeParkingParameter;
         this.carparkTypeParameter = carparkTypeParameter;
         this.parkingSystemTypeParameter = parkingSystemTypeParameter;
+        this.lotsParameter = lotsParameter;
     }
 
     /**
@@ -80,13 +94,25 @@ public class CarparkFilteringPredicate implements Predicate<Carpark> {
                 inputEndBeforeStart = inputEnd.before(start);
             }
         } catch (ParseException e) {
-            EventsCenter.getInstance().post(new NewResultAvailableEvent(Messages.MESSAGE_ERROR_PARSING_CARPARK_INFO));
+            hasParseFailure.set(true);
         }
 
         return hasFreeParkingTiming && hasDay
                 && !((inputStartBeforeStart && inputEndBeforeStart) || (inputStartAfterEnd && inputEndAfterEnd));
     }
 
+    /**
+     * Checks if less than {@code maxOccupancyPercent} percent of the lots of the car park are taken.
+     * Car parks without lots have no occupancy to compare, so they never pass.
+     */
+    private boolean checkOccupancy(int maxOccupancyPercent, int lotsAvailable, int totalLots) {
+        if (totalLots <= 0) {
+            return false;
+        }
+        long taken = Math.max(0, (long) totalLots - lotsAvailable);
+        return taken * 100 < (long) maxOccupancyPercent * totalLots;
+    }
+
     /**
      * Checks if the car park is of the specified car park type.
      */
@@ -128,6 +154,74 @@ public class CarparkFilteringPredicate implements Predicate<Carpark> {
         }
     }
 
+    /**
+     * Returns true if the free parking hours of a car park tested so far, or of a car park tested for the cached
+     * matches this predicate reused, could not be read.
+     */
+    @Override
+    public boolean hasParseFailure() {
+        return hasParseFailure.get();
+    }
+
+    @Override
+    public void recordParseFailure() {
+        hasParseFailure.set(true);
+    }
+
+    @Override
+    public String getCacheKey() {
+        StringBuilder key = new StringBuilder("filter|").append(CacheablePredicate.normalize(locationKeywords))
+                .append('|').append(CacheablePredicate.normalize(flagList));
+        if (flagList.contains("f/")) {
+            key.append("|f ").append(freeParkingParameter.getDay())
+                    .append(' ').append(freeParkingParameter.getStartTime().getTime())
+                    .append(' ').append(freeParkingParameter.getEndTime().getTime());
+        }
+        if (flagList.contains("ct/")) {
+            key.append("|ct ").append(carparkTypeParameter.getCarparkType());
+        }
+        if (flagList.contains("ps/")) {
+            key.append("|ps ").append(parkingSystemTypeParameter.getParkingSystemType());
+        }
+        if (flagList.contains("lots/")) {
+            key.append("|lots ").append(lotsParameter.getMinLotsAvailable());
+        }
+        if (flagList.contains("occ/")) {
+            key.append("|occ ").append(lotsParameter.getMaxOccupancyPercent());
+        }
+        return key.toString();
+    }
+
+    @Override
+    public boolean dependsOnLots() {
+        return flagList.contains("a/") || flagList.contains("lots/") || flagList.contains("occ/");
+    }
+
+    /**
+     * Returns true if {@code other} is the search for the same keywords, or a filter of them with some of the flags
+     * of this filter and the same parameters for those flags.
+     */
+    @Override
+    public boolean refines(CacheablePredicate other) {
+        String keywords = CacheablePredicate.normalize(locationKeywords);
+        if (other instanceof CarparkContainsKeywordsPredicate) {
+            return keywords.equals(CacheablePredicate.normalize(
+                    ((CarparkContainsKeywordsPredicate) other).getKeywords()));
+        }
+        if (!(other instanceof CarparkFilteringPredicate)) {
+            return false;
+        }
+        CarparkFilteringPredicate otherFilter = (CarparkFilteringPredicate) other;
+        if (!keywords.equals(CacheablePredicate.normalize(otherFilter.locationKeywords))
+                || !flagList.containsAll(otherFilter.flagList)) {
+            return false;
+        }
+        // the parameters are part of the cache key, so the keys only differ in flags this filter adds
+        CarparkFilteringPredicate narrowed = new CarparkFilteringPredicate(locationKeywords, otherFilter.flagList,
+                freeParkingParameter, carparkTypeParameter, parkingSystemTypeParameter, lotsParameter);
+        return narrowed.getCacheKey().equals(otherFilter.getCacheKey());
+    }
+
     @Override
     public boolean test(Carpark carpark) {
 
@@ -150,7 +244,7 @@ public class CarparkFilteringPredicate implements Predicate<Carpark> {
             collective = hasNightParking;
         }
         if (flagList.contains("a/")) {
-            boolean hasAvailableSlots = !carpark.getLotsAvailable().value.equals("0");
+            boolean hasAvailableSlots = carpark.getLotsAvailable().getCount() > 0;
 
             collective = collective && hasAvailableSlots;
         }
@@ -188,6 +282,17 @@ public class CarparkFilteringPredicate implements Predicate<Carpark> {
 
             collective = collective && isCorrectSystem;
         }
+        if (flagList.contains("lots/")) {
+            boolean hasEnoughLots = carpark.getLotsAvailable().getCount() >= lotsParameter.getMinLotsAvailable();
+
+            collective = collective && hasEnoughLots;
+        }
+        if (flagList.contains("occ/")) {
+            boolean isBelowOccupancy = checkOccupancy(lotsParameter.getMaxOccupancyPercent(),
+                    carpark.getLotsAvailable().getCount(), carpark.getTotalLots().getCount());
+
+            collective = collective && isBelowOccupancy;
+        }
 
         return correctLocation && collective;
     }
@@ -205,13 +310,11 @@ public class CarparkFilteringPredicate implements Predicate<Carpark> {
 
         CarparkFilteringPredicate otherPredicate = (CarparkFilteringPredicate) other;
 
-        Collections.sort(flagList);
-        Collections.sort(otherPredicate.flagList);
-        boolean checkFlagList = flagList.equals(otherPredicate.flagList); // flagList is always present
+        // flagList is always present
+        boolean checkFlagList = sortedCopy(flagList).equals(sortedCopy(otherPredicate.flagList));
 
-        Collections.sort(locationKeywords);
-        Collections.sort(otherPredicate.locationKeywords);
-        boolean checkLocationKeywords = locationKeywords.equals(otherPredicate.locationKeywords);
+        boolean checkLocationKeywords = sortedCopy(locationKeywords)
+                .equals(sortedCopy(otherPredicate.locationKeywords));
 
         boolean checkFreeParkingParameter = (freeParkingParameter == null
                 && otherPredicate.freeParkingParameter == null)
@@ -228,7 +331,18 @@ public class CarparkFilteringPredicate implements Predicate<Carpark> {
                 || parkingSystemTypeParameter.getParkingSystemType()
                 .equals(otherPredicate.parkingSystemTypeParameter.getParkingSystemType());
 
+        boolean checkLotsParameter = Objects.equals(lotsParameter, otherPredicate.lotsParameter);
+
         return checkFlagList && checkLocationKeywords && checkFreeParkingParameter && checkCarparkTypeParameter
-                && checkParkingSystemTypeParameter;
+                && checkParkingSystemTypeParameter && checkLotsParameter;
+    }
+
+    /**
+     * Returns a sorted copy of {@code list}, leaving {@code list} itself in its order since it may be shared.
+     */
+    private static List<String> sortedCopy(List<String> list) {
+        List<String> copy = new ArrayList<>(list);
+        Collections.sort(copy);
+        return copy;
     }
 }
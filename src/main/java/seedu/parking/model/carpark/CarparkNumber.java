@@ -3,6 +3,8 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+
 /**
  * Represents a car park's number.
  * Guarantees: immutable; is valid as declared in {@link #isValidCarparkNumber(String)}
@@ -33,7 +35,7 @@ public class CarparkNumber {
     }
 
     public static boolean isValidCarparkNumber(String test) {
-        return test.matches(CAR_NUM_VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
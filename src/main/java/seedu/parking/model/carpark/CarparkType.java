@@ -3,6 +3,9 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+import seedu.parking.commons.util.ValuePool;
+
 /**
  * Represents a car park's type.
  * Guarantees: immutable; is valid as declared in {@link #isValidCarType(String)}
@@ -18,6 +21,8 @@ public class CarparkType {
      */
     public static final String CAR_TYPE_VALIDATION_REGEX = "[^\\s].*";
 
+    private static final ValuePool<CarparkType> POOL = new ValuePool<>(CarparkType::new);
+
     public final String value;
 
     /**
@@ -31,11 +36,19 @@ public class CarparkType {
         value = carType;
     }
 
+    /**
+     * Returns the shared {@code CarparkType} for {@code carType}.
+     * Use this instead of the constructor so that car parks with the same car park type share one instance.
+     */
+    public static CarparkType of(String carType) {
+        return POOL.get(carType);
+    }
+
     /**
      * Returns true if a given string is a valid carpark type.
      */
     public static boolean isValidCarType(String test) {
-        return test.matches(CAR_TYPE_VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
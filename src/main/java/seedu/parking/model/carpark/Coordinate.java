@@ -3,6 +3,8 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a car park's coordinate.
  * Guarantees: immutable; is valid as declared in {@link #isValidCoordinate(String)}
@@ -14,6 +16,8 @@ public class Coordinate {
 
     public static final String COORD_VALIDATION_REGEX = "^(\\d+(\\.\\d+)?),\\s(\\d+(\\.\\d+)?)$";
 
+    private static final Pattern COORD_PATTERN = Pattern.compile(COORD_VALIDATION_REGEX);
+
     private final String value;
 
     /**
@@ -31,7 +35,7 @@ public class Coordinate {
      * Returns true if a given string is a valid coordinate.
      */
     public static boolean isValidCoordinate(String test) {
-        return test.matches(COORD_VALIDATION_REGEX);
+        return COORD_PATTERN.matcher(test).matches();
     }
 
     @Override
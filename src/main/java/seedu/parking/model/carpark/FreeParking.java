@@ -3,6 +3,9 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+import seedu.parking.commons.util.ValuePool;
+
 /**
  * Represents a car park's free parking.
  * Guarantees: immutable; is valid as declared in {@link #isValidFreePark(String)}
@@ -18,6 +21,8 @@ public class FreeParking {
      */
     public static final String FREE_PARK_VALIDATION_REGEX = "[^\\s].*";
 
+    private static final ValuePool<FreeParking> POOL = new ValuePool<>(FreeParking::new);
+
     public final String value;
 
     /**
@@ -31,11 +36,19 @@ public class FreeParking {
         value = freePark;
     }
 
+    /**
+     * Returns the shared {@code FreeParking} for {@code freePark}.
+     * Use this instead of the constructor so that car parks with the same free parking share one instance.
+     */
+    public static FreeParking of(String freePark) {
+        return POOL.get(freePark);
+    }
+
     /**
      * Returns true if a given string is a valid free parking.
      */
     public static boolean isValidFreePark(String test) {
-        return test.matches(FREE_PARK_VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
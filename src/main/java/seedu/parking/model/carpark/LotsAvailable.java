@@ -3,6 +3,9 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.StringUtil;
+import seedu.parking.commons.util.ValidationUtil;
+
 /**
  * Represents the lots available in a car park.
  * Guarantees: immutable; is valid as declared in {@link #isValidLotsAvailable(String)}
@@ -15,6 +18,7 @@ public class LotsAvailable {
     public static final String LOTS_AVAIL_VALIDATION_REGEX = "\\d+";
 
     public final String value;
+    private final int count;
 
     /**
      * Constructs an {@code TotalLots}.
@@ -25,13 +29,21 @@ public class LotsAvailable {
         requireNonNull(lotsAvail);
         checkArgument(isValidLotsAvailable(lotsAvail), MESSAGE_LOTS_AVAIL_CONSTRAINTS);
         this.value = lotsAvail;
+        this.count = StringUtil.parseSaturatedUnsignedInteger(lotsAvail);
     }
 
     /**
      * Returns true if a given string is a valid lots available number.
      */
     public static boolean isValidLotsAvailable(String test) {
-        return test.matches(LOTS_AVAIL_VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test);
+    }
+
+    /**
+     * Returns the number of lots available, or {@code Integer.MAX_VALUE} if there are more than an int can hold.
+     */
+    public int getCount() {
+        return count;
     }
 
     @Override
@@ -3,6 +3,9 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+import seedu.parking.commons.util.ValuePool;
+
 /**
  * Represents a car park's night parking.
  * Guarantees: immutable; is valid as declared in {@link #isValidNightPark(String)}
@@ -18,6 +21,8 @@ public class NightParking {
      */
     public static final String NIGHT_PARK_VALIDATION_REGEX = "[^\\s].*";
 
+    private static final ValuePool<NightParking> POOL = new ValuePool<>(NightParking::new);
+
     public final String value;
 
     /**
@@ -31,11 +36,19 @@ public class NightParking {
         value = nightPark;
     }
 
+    /**
+     * Returns the shared {@code NightParking} for {@code nightPark}.
+     * Use this instead of the constructor so that car parks with the same night parking share one instance.
+     */
+    public static NightParking of(String nightPark) {
+        return POOL.get(nightPark);
+    }
+
     /**
      * Returns true if a given string is a valid night parking.
      */
     public static boolean isValidNightPark(String test) {
-        return test.matches(NIGHT_PARK_VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+
 /**
  * Represents a car park's postal code
  * Guarantees: immutable; is valid as declared in {@link #isValidPostalCode(String)}
@@ -17,6 +19,8 @@ public class PostalCode {
      */
     public static final String POSTALCODE_VALIDATION_REGEX = "^[0-9]{6}$";
 
+    public static final int POSTALCODE_LENGTH = 6;
+
     public static final String DEFAULT_VALUE = "000000";
 
     private final String value;
@@ -33,7 +37,7 @@ public class PostalCode {
     }
 
     public static boolean isValidPostalCode(String test) {
-        return test.matches(POSTALCODE_VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, POSTALCODE_LENGTH);
     }
 
     @Override
@@ -3,6 +3,9 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+import seedu.parking.commons.util.ValuePool;
+
 /**
  * Represents a car park's short term parking timing.
  * Guarantees: immutable; is valid as declared in {@link #isValidShortTerm(String)}
@@ -18,6 +21,8 @@ public class ShortTerm {
      */
     public static final String SHORT_TERM_VALIDATION_REGEX = "[^\\s].*";
 
+    private static final ValuePool<ShortTerm> POOL = new ValuePool<>(ShortTerm::new);
+
     public final String value;
 
     /**
@@ -31,11 +36,19 @@ public class ShortTerm {
         value = shortTerm;
     }
 
+    /**
+     * Returns the shared {@code ShortTerm} for {@code shortTerm}.
+     * Use this instead of the constructor so that car parks with the same short term parking share one instance.
+     */
+    public static ShortTerm of(String shortTerm) {
+        return POOL.get(shortTerm);
+    }
+
     /**
      * Returns true if a given string is a valid short term parking.
      */
     public static boolean isValidShortTerm(String test) {
-        return test.matches(SHORT_TERM_VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
@@ -3,6 +3,9 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.StringUtil;
+import seedu.parking.commons.util.ValidationUtil;
+
 /**
  * Represents the total lots in a car park.
  * Guarantees: immutable; is valid as declared in {@link #isValidTotalLots(String)}
@@ -15,6 +18,7 @@ public class TotalLots {
     public static final String TOTAL_LOTS_VALIDATION_REGEX = "\\d+";
 
     private final String value;
+    private final int count;
 
     /**
      * Constructs an {@code TotalLots}.
@@ -25,13 +29,21 @@ public class TotalLots {
         requireNonNull(totalLots);
         checkArgument(isValidTotalLots(totalLots), MESSAGE_TOTAL_LOTS_CONSTRAINTS);
         this.value = totalLots;
+        this.count = StringUtil.parseSaturatedUnsignedInteger(totalLots);
     }
 
     /**
      * Returns true if a given string is a valid total lots number.
      */
     public static boolean isValidTotalLots(String test) {
-        return test.matches(TOTAL_LOTS_VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test);
+    }
+
+    /**
+     * Returns the total number of lots, or {@code Integer.MAX_VALUE} if there are more than an int can hold.
+     */
+    public int getCount() {
+        return count;
     }
 
     @Override
@@ -3,6 +3,9 @@ package seedu.parking.model.carpark;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+import seedu.parking.commons.util.ValuePool;
+
 /**
  * Represents the type of parking system for a car park.
  * Guarantees: immutable; is valid as declared in {@link #isValidTypePark(String)}
@@ -18,6 +21,8 @@ public class TypeOfParking {
      */
     public static final String TYPE_PARK_VALIDATION_REGEX = "[^\\s].*";
 
+    private static final ValuePool<TypeOfParking> POOL = new ValuePool<>(TypeOfParking::new);
+
     public final String value;
 
     /**
@@ -31,11 +36,19 @@ public class TypeOfParking {
         value = typePark;
     }
 
+    /**
+     * Returns the shared {@code TypeOfParking} for {@code typePark}.
+     * Use this instead of the constructor so that car parks with the same type of parking share one instance.
+     */
+    public static TypeOfParking of(String typePark) {
+        return POOL.get(typePark);
+    }
+
     /**
      * Returns true if a given string is a valid type of parking.
      */
     public static boolean isValidTypePark(String test) {
-        return test.matches(TYPE_PARK_VALIDATION_REGEX);
+        return ValidationUtil.isNonBlankLine(test);
     }
 
     @Override
@@ -66,6 +66,15 @@ public class UniqueCarparkList implements Iterable<Carpark> {
         internalList.set(index, editedCarpark);
     }
 
+    /**
+     * Replaces the car park at {@code index} with {@code editedCarpark}, which must be a copy of it that differs
+     * only in its lots, so that it stays unique without being compared to every other car park.
+     */
+    public void setCarpark(int index, Carpark editedCarpark) {
+        requireNonNull(editedCarpark);
+        internalList.set(index, editedCarpark);
+    }
+
     /**
      * Removes the equivalent car park from the list.
      * The car park must exist in the list.
@@ -3,6 +3,9 @@ package seedu.parking.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.parking.commons.util.AppUtil.checkArgument;
 
+import seedu.parking.commons.util.ValidationUtil;
+import seedu.parking.commons.util.ValuePool;
+
 /**
  * Represents a Tag.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +15,8 @@ public class Tag {
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final ValuePool<Tag> POOL = new ValuePool<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -25,11 +30,19 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} for {@code tagName}.
+     * Use this instead of the constructor so that car parks with the same tag share one instance.
+     */
+    public static Tag of(String tagName) {
+        return POOL.get(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
@@ -0,0 +1,385 @@
+package seedu.parking.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.parking.commons.core.EventsCenter;
+import seedu.parking.commons.core.EventsCenter.Affinity;
+import seedu.parking.commons.core.EventsCenter.Subscription;
+import seedu.parking.commons.core.LogsCenter;
+import seedu.parking.commons.core.Messages;
+import seedu.parking.commons.core.MetricsCenter;
+import seedu.parking.commons.events.model.CarparkFinderChangedEvent;
+import seedu.parking.commons.util.StringUtil;
+import seedu.parking.logic.CarparkRecord;
+import seedu.parking.logic.commands.CalculateCommand;
+import seedu.parking.logic.commands.FilterCommand;
+import seedu.parking.logic.commands.FindCommand;
+import seedu.parking.logic.commands.exceptions.CommandException;
+import seedu.parking.logic.parser.CalculateCommandParser;
+import seedu.parking.logic.parser.FilterCommandParser;
+import seedu.parking.logic.parser.FindCommandParser;
+import seedu.parking.logic.parser.exceptions.ParseException;
+import seedu.parking.model.CarparkSnapshot;
+import seedu.parking.model.ReadOnlyCarparkFinder;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.CarparkFilteringPredicate;
+
+/**
+ * Serves car park lookups over HTTP, answering in JSON:
+ * <ul>
+ *     <li>{@code GET /find?keywords=K[&top=N][&available=true][&fuzzy=true]}, like {@code find}</li>
+ *     <li>{@code GET /filter?keywords=K&flags=F}, like {@code find K} followed by {@code filter F}</li>
+ *     <li>{@code GET /carpark/NUMBER}, the details of one car park</li>
+ *     <li>{@code GET /calculate?carpark=NUMBER&day=D&start=T&end=T}, like {@code calculate}</li>
+ * </ul>
+ * Parameters are checked by the parsers of the commands, and invalid ones are answered with 400 and the message
+ * the command would show.
+ *
+ * <p>The single thread of the HTTP server only hands requests to a bounded pool of workers, so a slow lookup never
+ * holds up the others. When every worker is busy and the queue in front of them is full, requests are answered with
+ * 503 at once instead of waiting. Every request reads a {@link CarparkSnapshot} of the model, taken whenever the car
+ * parks change, so concurrent lookups never see a half-loaded model and never lock each other out.
+ */
+public class CarparkQueryServer implements AutoCloseable {
+
+    public static final int DEFAULT_WORKER_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    public static final String MESSAGE_BUSY = "The server is busy, please try again later";
+    public static final String MESSAGE_NOT_FOUND = "No such endpoint";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Only GET is supported";
+    public static final String MESSAGE_MISSING_PARAMETER = "Missing parameter: %1$s";
+    public static final String MESSAGE_CARPARK_NOT_FOUND = "No car park numbered %1$s";
+
+    private static final String CARPARK_PATH = "/carpark/";
+    private static final long STOP_DELAY_SECONDS = 1;
+    /** Read by the JDK's HttpServer when it is first used, to set TCP_NODELAY on every connection it accepts. */
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private static final Logger logger = LogsCenter.getLogger(CarparkQueryServer.class);
+
+    static {
+        // without it, each small answer can wait up to 40ms for the delayed ACK of the one before
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+    }
+
+    private final AtomicReference<CarparkSnapshot> snapshot;
+    private final Subscription snapshotSubscription;
+    private final HttpServer server;
+    private final ThreadPoolExecutor workers;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+
+    /**
+     * Creates a server of the car parks in {@code data}, which keeps serving the latest car parks as they change.
+     * It listens on {@code address} once started, and runs lookups on {@code workerCount} threads with at most
+     * {@code queueCapacity} more waiting.
+     */
+    public CarparkQueryServer(ReadOnlyCarparkFinder data, InetSocketAddress address, int workerCount,
+                              int queueCapacity) throws IOException {
+        requireNonNull(data);
+        requireNonNull(address);
+        snapshot = new AtomicReference<>(CarparkSnapshot.of(data));
+        // the model posts its snapshots, so they are used as they are and can be read from any thread
+        snapshotSubscription = EventsCenter.getInstance().subscribe(CarparkFinderChangedEvent.class,
+                Affinity.DIRECT, event -> snapshot.set(CarparkSnapshot.of(event.data)));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "query-worker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        server = HttpServer.create(address, 0);
+        server.createContext("/find", exchange -> dispatch(exchange, this::find));
+        server.createContext("/filter", exchange -> dispatch(exchange, this::filter));
+        server.createContext(CARPARK_PATH, exchange -> dispatch(exchange, this::getCarpark));
+        server.createContext("/calculate", exchange -> dispatch(exchange, this::calculate));
+        server.createContext("/", exchange -> send(exchange, 404, new ErrorResponse(MESSAGE_NOT_FOUND)));
+    }
+
+    /**
+     * Starts answering requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving " + snapshot.get().getCarparkList().size() + " car parks on port " + getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of requests answered with 503 because every worker was busy.
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Stops accepting requests and following changes to the car parks, and waits a moment for the requests being
+     * answered to finish.
+     */
+    @Override
+    public void close() {
+        EventsCenter.getInstance().unsubscribe(snapshotSubscription);
+        server.stop((int) STOP_DELAY_SECONDS);
+        workers.shutdown();
+        try {
+            workers.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hands {@code exchange} to a worker, or answers it with 503 on the server thread if none can take it.
+     */
+    private void dispatch(HttpExchange exchange, Endpoint endpoint) {
+        try {
+            workers.execute(() -> answer(exchange, endpoint));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            send(exchange, 503, new ErrorResponse(MESSAGE_BUSY));
+        }
+    }
+
+    private void answer(HttpExchange exchange, Endpoint endpoint) {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            send(exchange, 405, new ErrorResponse(MESSAGE_METHOD_NOT_ALLOWED));
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean isError = true;
+        int resultSize = 0;
+        String name = "server" + exchange.getHttpContext().getPath().replaceFirst("/$", "");
+        try {
+            Request request = new Request(exchange.getRequestURI().getPath(),
+                    parseQuery(exchange.getRequestURI().getRawQuery()), snapshot.get());
+            Object response = endpoint.answer(request);
+            resultSize = response instanceof CarparkListResponse ? ((CarparkListResponse) response).count : 1;
+            send(exchange, 200, response);
+            isError = false;
+        } catch (ParseException | CommandException e) {
+            send(exchange, 400, new ErrorResponse(e.getMessage()));
+        } catch (NotFoundException e) {
+            send(exchange, 404, new ErrorResponse(e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.warning("Failed to answer " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            send(exchange, 500, new ErrorResponse(e.toString()));
+        } finally {
+            MetricsCenter.getInstance().recordCommand(name, System.nanoTime() - startNanos, resultSize, isError);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, Object response) {
+        byte[] body = gson.toJson(response).getBytes(StandardCharsets.UTF_8);
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // the client has gone away, so there is no one left to tell
+            logger.fine("Failed to send response to " + exchange.getRemoteAddress() + ": " + e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the parameters in the query string {@code rawQuery}, which may be null.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            parameters.put(decode(name), decode(value));
+        }
+        return parameters;
+    }
+
+    private static String decode(String text) {
+        try {
+            return URLDecoder.decode(text, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return text;
+        }
+    }
+
+    private CarparkListResponse find(Request request) throws ParseException {
+        StringBuilder arguments = new StringBuilder(request.getRequired("keywords"));
+        if (request.has("top")) {
+            arguments.append(" top/ ").append(request.get("top"));
+        }
+        if (request.isSet("available")) {
+            arguments.append(" a/");
+        }
+        if (request.isSet("fuzzy")) {
+            arguments.append(" fz/");
+        }
+        FindCommand command = new FindCommandParser().parse(arguments.toString());
+        CarparkSnapshot carparks = request.snapshot;
+        return new CarparkListResponse(command.search(carparks.getCarparkList(),
+                command.getSearchPredicate(carparks::getTokenIndex)));
+    }
+
+    private CarparkListResponse filter(Request request) throws ParseException {
+        List<String> keywords = Arrays.asList(request.getRequired("keywords").trim().split("\\s+"));
+        FilterCommand command = new FilterCommandParser().parse(request.getRequired("flags"));
+        CarparkFilteringPredicate predicate = command.createPredicate(keywords);
+        return new CarparkListResponse(request.snapshot.getCarparkList().stream().filter(predicate)
+                .collect(Collectors.toList()));
+    }
+
+    private CarparkRecord getCarpark(Request request) throws NotFoundException {
+        String carparkNumber = request.path.substring(CARPARK_PATH.length()).toUpperCase();
+        Carpark carpark = request.snapshot.getCarpark(carparkNumber);
+        if (carpark == null) {
+            throw new NotFoundException(String.format(MESSAGE_CARPARK_NOT_FOUND, carparkNumber));
+        }
+        return new CarparkRecord(carpark);
+    }
+
+    private CostResponse calculate(Request request) throws ParseException, CommandException, NotFoundException {
+        CalculateCommand command = new CalculateCommandParser().parse(String.join(" ",
+                request.getRequired("carpark"), request.getRequired("day"), request.getRequired("start"),
+                request.getRequired("end")));
+        Carpark carpark = request.snapshot.getCarpark(command.getCarparkNumber());
+        if (carpark == null) {
+            throw new NotFoundException(Messages.MESSAGE_INVALID_CARPARK_NAME);
+        }
+        // rounded to cents, as the cost is shown
+        double cost = Math.round(command.calculateCost(carpark) * 100) / 100.0;
+        return new CostResponse(command.getCarparkNumber(), cost,
+                String.format(Messages.MESSAGE_COST_OF_PARKING, cost));
+    }
+
+    /**
+     * Answers one kind of request.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Object answer(Request request) throws ParseException, CommandException, NotFoundException;
+    }
+
+    /**
+     * A request, with the snapshot of car parks it is answered from.
+     */
+    private static class Request {
+        private final String path;
+        private final Map<String, String> parameters;
+        private final CarparkSnapshot snapshot;
+
+        private Request(String path, Map<String, String> parameters, CarparkSnapshot snapshot) {
+            this.path = path;
+            this.parameters = parameters;
+            this.snapshot = snapshot;
+        }
+
+        private boolean has(String name) {
+            return parameters.containsKey(name);
+        }
+
+        private String get(String name) {
+            return parameters.get(name);
+        }
+
+        private boolean isSet(String name) {
+            return Boolean.parseBoolean(parameters.get(name));
+        }
+
+        private String getRequired(String name) throws ParseException {
+            String value = parameters.get(name);
+            if (value == null || value.trim().isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_MISSING_PARAMETER, name));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Signals that what a request asks for does not exist.
+     */
+    private static class NotFoundException extends Exception {
+        private NotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * The car parks that match a lookup, best matches first where ranked.
+     */
+    private static class CarparkListResponse {
+        private final int count;
+        private final List<CarparkRecord> carparks;
+
+        private CarparkListResponse(List<Carpark> carparks) {
+            this.count = carparks.size();
+            this.carparks = CarparkRecord.of(carparks);
+        }
+    }
+
+    /**
+     * The cost of parking at a car park.
+     */
+    private static class CostResponse {
+        private final String carparkNumber;
+        private final double cost;
+        private final String result;
+
+        private CostResponse(String carparkNumber, double cost, String result) {
+            this.carparkNumber = carparkNumber;
+            this.cost = cost;
+            this.result = result;
+        }
+    }
+
+    /**
+     * The reason a request could not be answered.
+     */
+    private static class ErrorResponse {
+        private final String error;
+
+        private ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -8,7 +8,10 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.parking.commons.core.ComponentManager;
+import seedu.parking.commons.core.EventsCenter.Affinity;
 import seedu.parking.commons.core.LogsCenter;
+import seedu.parking.commons.core.MetricsCenter;
+import seedu.parking.commons.core.MetricsCenter.StageTimer;
 import seedu.parking.commons.events.model.CarparkFinderChangedEvent;
 import seedu.parking.commons.events.storage.DataSavingExceptionEvent;
 import seedu.parking.commons.exceptions.DataConversionException;
@@ -26,7 +29,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
 
     public StorageManager(CarparkFinderStorage carparkFinderStorage, UserPrefsStorage userPrefsStorage) {
-        super();
+        super(Affinity.STORAGE);
         this.carparkFinderStorage = carparkFinderStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
@@ -76,14 +79,16 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveCarparkFinder(ReadOnlyCarparkFinder carparkFinder, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        carparkFinderStorage.saveCarparkFinder(carparkFinder, filePath);
+        try (StageTimer timer = MetricsCenter.getInstance().startStage("storage.save")) {
+            carparkFinderStorage.saveCarparkFinder(carparkFinder, filePath);
+        }
     }
 
 
     @Override
     @Subscribe
     public void handleCarparkFinderChangedEvent(CarparkFinderChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         try {
             saveCarparkFinder(event.data);
         } catch (IOException e) {
@@ -145,7 +145,7 @@ public class XmlAdaptedCarpark {
         if (!CarparkType.isValidCarType(carparkType)) {
             throw new IllegalValueException(CarparkType.MESSAGE_CAR_TYPE_CONSTRAINTS);
         }
-        final CarparkType modelCarparkType = new CarparkType(carparkType);
+        final CarparkType modelCarparkType = CarparkType.of(carparkType);
 
         if (coordinate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -181,7 +181,7 @@ public class XmlAdaptedCarpark {
         if (!FreeParking.isValidFreePark(freeParking)) {
             throw new IllegalValueException(FreeParking.MESSAGE_FREE_PARK_CONSTRAINTS);
         }
-        final FreeParking modelFreeParking = new FreeParking(freeParking);
+        final FreeParking modelFreeParking = FreeParking.of(freeParking);
 
         if (nightParking == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -191,7 +191,7 @@ public class XmlAdaptedCarpark {
         if (!NightParking.isValidNightPark(nightParking)) {
             throw new IllegalValueException(NightParking.MESSAGE_NIGHT_PARK_CONSTRAINTS);
         }
-        final NightParking modelNightParking = new NightParking(nightParking);
+        final NightParking modelNightParking = NightParking.of(nightParking);
 
         if (shortTerm == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -200,7 +200,7 @@ public class XmlAdaptedCarpark {
         if (!ShortTerm.isValidShortTerm(shortTerm)) {
             throw new IllegalValueException(ShortTerm.MESSAGE_SHORT_TERM_CONSTRAINTS);
         }
-        final ShortTerm modelShortTerm = new ShortTerm(shortTerm);
+        final ShortTerm modelShortTerm = ShortTerm.of(shortTerm);
 
         if (typeOfParking == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -209,7 +209,7 @@ public class XmlAdaptedCarpark {
         if (!TypeOfParking.isValidTypePark(typeOfParking)) {
             throw new IllegalValueException(TypeOfParking.MESSAGE_TYPE_PARK_CONSTRAINTS);
         }
-        final TypeOfParking modelTypeOfParking = new TypeOfParking(typeOfParking);
+        final TypeOfParking modelTypeOfParking = TypeOfParking.of(typeOfParking);
 
         if (postalCode == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -1,13 +1,16 @@
 package seedu.parking.ui;
 
 import java.net.URL;
-import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 import com.google.gson.JsonArray;
 
 import javafx.application.Platform;
+import javafx.concurrent.Worker;
 import javafx.event.Event;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
@@ -23,20 +26,26 @@ import seedu.parking.model.carpark.Carpark;
 
 /**
  * The Browser Panel of the App.
+ * Car parks are drawn by a map page bundled with the app, which is loaded once and then sent each result set
+ * through its JavaScript {@code carparkMap} object, so showing results needs neither a reload nor the network.
  */
 public class BrowserPanel extends UiPart<Region> {
 
     public static final String DEFAULT_PAGE = "default.html";
+    public static final String MAP_PAGE = "CarparkMap.html";
 
-    public static final String MAIN_PAGE =
-            "https://cs2103-ay1819s1-t09-4.github.io/main/MainPage.html?isDefault=1";
-    public static final String SEARCH_PAGE_URL =
-            "https://cs2103-ay1819s1-t09-4.github.io/main/MainPage.html?";
+    /** Number of car parks sent to the map page in one script, so that large result sets do not stall the UI. */
+    public static final int CARPARKS_PER_CHUNK = 500;
 
     private static final String FXML = "BrowserPanel.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    /** Scripts waiting for the map page to finish loading. Only accessed on the JavaFX thread. */
+    private final List<String> pendingScripts = new ArrayList<>();
+    private boolean isMapPageRequested = false;
+    private boolean isMapPageLoaded = false;
+
     @FXML
     private WebView browser;
 
@@ -47,27 +56,126 @@ public class BrowserPanel extends UiPart<Region> {
         getRoot().setOnKeyPressed(Event::consume);
         getRoot().setOnMouseClicked(Event::consume);
 
+        browser.getEngine().getLoadWorker().stateProperty().addListener((observable, oldState, newState) -> {
+            if (newState == Worker.State.SUCCEEDED && isMapPageRequested && !isMapPageLoaded) {
+                isMapPageLoaded = true;
+                pendingScripts.forEach(browser.getEngine()::executeScript);
+                pendingScripts.clear();
+            }
+        });
+
         loadDefaultPage();
         registerAsAnEventHandler(this);
     }
 
     /**
-     * Loads the car park HTML file with a list of car parks in json data parsed in UTF-8.
+     * Returns the scripts that replace the car parks on the map page with {@code carparks}.
+     * Each car park is sent as a compact array of its fields, {@link #CARPARKS_PER_CHUNK} car parks per script.
+     */
+    static List<String> toMapScripts(Carpark[] carparks) {
+        List<String> scripts = new ArrayList<>();
+        scripts.add("carparkMap.begin();");
+        for (int start = 0; start < carparks.length; start += CARPARKS_PER_CHUNK) {
+            JsonArray chunk = new JsonArray();
+            for (int i = start; i < Math.min(start + CARPARKS_PER_CHUNK, carparks.length); i++) {
+                chunk.add(toMapRecord(carparks[i]));
+            }
+            // Gson escapes every character that could end the literal, so JSON is a safe script literal.
+            scripts.add("carparkMap.add(" + chunk + ");");
+        }
+        scripts.add("carparkMap.end();");
+        return scripts;
+    }
+
+    /**
+     * Returns the script that highlights {@code carpark} on the map page.
+     */
+    static String toSelectScript(Carpark carpark) {
+        return "carparkMap.select(" + toMapRecord(carpark) + ");";
+    }
+
+    /**
+     * Returns the fields of {@code carpark} shown on the map, in the order the map page reads them.
+     */
+    private static JsonArray toMapRecord(Carpark carpark) {
+        JsonArray record = new JsonArray();
+        record.add(carpark.getCarparkNumber().value);
+        record.add(parseCoordinate(carpark.getCoordinate().getXCoord()));
+        record.add(parseCoordinate(carpark.getCoordinate().getYCoord()));
+        record.add(carpark.getAddress().toString());
+        record.add(carpark.getCarparkType().toString());
+        record.add(carpark.getFreeParking().toString());
+        record.add(carpark.getNightParking().toString());
+        record.add(carpark.getTypeOfParking().toString());
+        record.add(carpark.getLotsAvailable().toString());
+        record.add(carpark.getTotalLots().toString());
+        return record;
+    }
+
+    /**
+     * Returns {@code coordinate} as a number, or 0 if it cannot be parsed, since JSON has no NaN.
+     */
+    private static double parseCoordinate(String coordinate) {
+        try {
+            return Double.parseDouble(coordinate.trim());
+        } catch (NumberFormatException nfe) {
+            return 0;
+        }
+    }
+
+    /**
+     * Shows {@code carparks} on the map page, loading the page first if it is not loaded yet.
+     */
+    private void showCarparks(Carpark[] carparks) {
+        runOnMapPage(toMapScripts(carparks));
+    }
+
+    /**
+     * Runs {@code scripts} on the map page, one per JavaFX event so that rendering can happen in between.
+     * While the map page is loading, only the latest scripts are kept, since each result set replaces the last.
+     */
+    private void runOnMapPage(List<String> scripts) {
+        Platform.runLater(() -> {
+            if (browser == null) {
+                return;
+            }
+            if (!isMapPageLoaded) {
+                pendingScripts.clear();
+                pendingScripts.addAll(scripts);
+                loadMapPage();
+                return;
+            }
+            for (String script : scripts) {
+                Platform.runLater(() -> {
+                    if (browser != null) {
+                        browser.getEngine().executeScript(script);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Loads the map page, unless it has already been requested.
      */
-    private void loadCarparkPage(Carpark[] carparks) throws Exception {
-        JsonArray arr = new JsonArray();
-        for (int i = 0; i < carparks.length; i++) {
-            arr.add(carparks[i].getCarparkNumber().value);
+    private void loadMapPage() {
+        if (isMapPageRequested) {
+            return;
         }
-        String utf8arr = URLEncoder.encode(arr.toString(), "UTF-8");
-        loadPage(SEARCH_PAGE_URL + "jsonArr=" + utf8arr);
+        isMapPageRequested = true;
+        URL mapPage = MainApp.class.getResource(FXML_FILE_FOLDER + MAP_PAGE);
+        browser.getEngine().load(mapPage.toExternalForm());
     }
 
     /**
      * Loads a URL page with a url parsed in.
      */
     public void loadPage(String url) {
-        Platform.runLater(() -> browser.getEngine().load(url));
+        Platform.runLater(() -> {
+            isMapPageRequested = false;
+            isMapPageLoaded = false;
+            browser.getEngine().load(url);
+        });
     }
 
     /**
@@ -86,32 +194,32 @@ public class BrowserPanel extends UiPart<Region> {
     }
 
     @Subscribe
-    private void handleCarparkPanelSelectionChangedEvent(CarparkPanelSelectionChangedEvent event) throws Exception {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadCarparkPage(new Carpark[] { event.getNewSelection() });
+    private void handleCarparkPanelSelectionChangedEvent(CarparkPanelSelectionChangedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        runOnMapPage(Collections.singletonList(toSelectScript(event.getNewSelection())));
     }
 
     @Subscribe
     private void handleListCarparkRequestEvent(ListCarparkRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadPage(MAIN_PAGE);
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        showCarparks(event.getCarparks());
     }
 
     @Subscribe
-    private void handleCarparkFindResultChangedEvent(FindResultChangedEvent event) throws Exception {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadCarparkPage(event.getReturnList());
+    private void handleCarparkFindResultChangedEvent(FindResultChangedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        showCarparks(event.getReturnList());
     }
 
     @Subscribe
-    private void handleCarparkFilterResultChangedEvent(FilterResultChangedEvent event) throws Exception {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadCarparkPage(event.getReturnList());
+    private void handleCarparkFilterResultChangedEvent(FilterResultChangedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        showCarparks(event.getReturnList());
     }
 
     @Subscribe
-    private void handleClearResultChangedEvent(ClearResultChangedEvent event) throws Exception {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadCarparkPage(new Carpark[]{});
+    private void handleClearResultChangedEvent(ClearResultChangedEvent event) {
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        showCarparks(new Carpark[]{});
     }
 }
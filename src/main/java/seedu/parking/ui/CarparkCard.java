@@ -23,7 +23,7 @@ public class CarparkCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Carpark carpark;
+    private Carpark carpark;
 
     @FXML
     private HBox cardPane;
@@ -54,8 +54,27 @@ public class CarparkCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public CarparkCard(Carpark carpark, int displayedIndex) {
+    /**
+     * Creates an empty card, to be filled in with {@link #setCarpark(Carpark, int)}.
+     * The FXML is loaded only here, so a card can be reused for many car parks.
+     */
+    public CarparkCard() {
         super(FXML);
+    }
+
+    public CarparkCard(Carpark carpark, int displayedIndex) {
+        this();
+        setCarpark(carpark, displayedIndex);
+    }
+
+    public Carpark getCarpark() {
+        return carpark;
+    }
+
+    /**
+     * Shows the details of {@code carpark} at {@code displayedIndex}, replacing whatever the card showed before.
+     */
+    public void setCarpark(Carpark carpark, int displayedIndex) {
         this.carpark = carpark;
 
         id.setText(displayedIndex + ". ");
@@ -71,7 +90,7 @@ public class CarparkCard extends UiPart<Region> {
         carparkType.setText(carpark.getCarparkType().toString());
         coordinate.setText("Coordinate: " + carpark.getCoordinate().toString());
 
-        if (carpark.getTotalLots().toString().equals("0")) {
+        if (carpark.getTotalLots().getCount() == 0) {
             totalLots.setText("Total Lots: Not Available");
             lotsAvailable.setText("Lots Available: Not Available");
         } else {
@@ -83,6 +102,7 @@ public class CarparkCard extends UiPart<Region> {
         nightParking.setText("Night Parking: " + carpark.getNightParking().toString());
         shortTerm.setText("Short Term Parking: " + carpark.getShortTerm().toString());
         parkingSystem.setText("Parking System: " + carpark.getTypeOfParking());
+        tags.getChildren().clear();
         carpark.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 
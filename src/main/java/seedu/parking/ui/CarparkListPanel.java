@@ -71,22 +71,33 @@ public class CarparkListPanel extends UiPart<Region> {
         });
     }
 
+    /**
+     * Runs {@code action} now if this is the JavaFX application thread, or later on that thread otherwise.
+     */
+    private static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
     @Subscribe
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         scrollTo(event.targetIndex);
     }
 
     @Subscribe
     private void handleNotifyCarparkRequestEvent(NotifyCarparkRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        carparkListView.setItems(carparkListView.getItems());
-        carparkListView.setCellFactory(listView -> new CarparkListViewCell());
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        // The updated car park replaces the old one in the list, so the cells only need to rebind their cards.
+        runOnFxThread(carparkListView::refresh);
     }
 
     @Subscribe
     private void handleNoSelectionRequestEvent(NoSelectionRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         selectIndex = -1;
         selectedCarpark = null;
         timer.shutdownNow();
@@ -136,20 +147,27 @@ public class CarparkListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Carpark} using a {@code CarparkCard}.
+     * Each cell loads its card once and rebinds it to whichever car park the cell shows next.
      */
     class CarparkListViewCell extends ListCell<Carpark> {
+        private CarparkCard card;
+
         @Override
         protected void updateItem(Carpark carpark, boolean empty) {
-            Platform.runLater(() -> {
-                super.updateItem(carpark, empty);
-
-                if (empty || carpark == null) {
-                    setGraphic(null);
-                    setText(null);
-                } else {
-                    setGraphic(new CarparkCard(carpark, getIndex() + 1).getRoot());
+            // the model only changes the list on the FX thread
+            assert Platform.isFxApplicationThread();
+            super.updateItem(carpark, empty);
+
+            if (empty || carpark == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                if (card == null) {
+                    card = new CarparkCard();
                 }
-            });
+                card.setCarpark(carpark, getIndex() + 1);
+                setGraphic(card.getRoot());
+            }
         }
     }
 
@@ -4,8 +4,9 @@ import static seedu.parking.commons.core.Messages.MESSAGE_ALREADY_FULL_COMMAND_F
 import static seedu.parking.commons.core.Messages.MESSAGE_AUTO_COMPLETE_SUCCESS;
 import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FOR_AUTOCOMPLETE;
 import static seedu.parking.commons.core.Messages.MESSAGE_SELECT_NEXT_HOLDER_SUCCESS;
-import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND;
+import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND;
 import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_FIND_OR_FILTER_COMMAND;
+import static seedu.parking.commons.core.Messages.MESSAGE_WORD_AUTO_COMPLETE_SUCCESS;
 import static seedu.parking.logic.parser.CarparkFinderParser.containsFromFirstLetter;
 import static seedu.parking.logic.parser.CliSyntax.PREFIX_AVAILABLE_PARKING;
 import static seedu.parking.logic.parser.CliSyntax.PREFIX_CAR_TYPE;
@@ -129,7 +130,7 @@ public class CommandBox extends UiPart<Region> {
         } else if (input.equals("c")) {
 
             throw new ParseException(String.format("%s\n%s",
-                MESSAGE_INVALID_COMMAND_FOR_AUTOCOMPLETE, MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND));
+                MESSAGE_INVALID_COMMAND_FOR_AUTOCOMPLETE, MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND));
 
         } else if (!input.equals("") && containedInAutoCompleteCommands(input)) {
 
@@ -161,6 +162,10 @@ public class CommandBox extends UiPart<Region> {
             }
             EventsCenter.getInstance().post(new NewResultAvailableEvent(MESSAGE_AUTO_COMPLETE_SUCCESS));
 
+        } else if (isCarparkWordArgument(input) && completeLastWord(input)) {
+
+            logger.info("Auto-completed word: " + commandTextField.getText());
+
         } else if (isFindCommandFormat(input) || isSelectCommandFormat(input)
             || isNotifyCommandFormat(input)) {
 
@@ -243,6 +248,63 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * autocomplete helper function to check if the last word of the text input
+     * is a car park number or address word being typed, which is a find keyword
+     * or the car park number of a calculate command.
+     * @param input input by the user
+     * @return true if the last word can be completed from the car parks and false otherwise
+     */
+    private boolean isCarparkWordArgument(String input) {
+        String[] words = input.split("\\s+");
+        if (words.length < 2 || getLastWord(input).contains("/")) {
+            return false;
+        }
+        boolean isFind = words[0].length() > 2 && containsFromFirstLetter(FindCommand.COMMAND_WORD, words[0])
+            && !words[words.length - 1].equals(FindCommand.FIRST_ARG);
+        return isFind || isCarparkNumberArgument(input);
+    }
+
+    /**
+     * autocomplete helper function to check if the last word of the text input
+     * is the car park number of a calculate command, which cannot be an address word.
+     * @param input input by the user
+     * @return true if the last word can only be completed into a car park number and false otherwise
+     */
+    private boolean isCarparkNumberArgument(String input) {
+        String[] words = input.split("\\s+");
+        return words.length == 2 && words[0].length() > 1
+            && containsFromFirstLetter(CalculateCommand.COMMAND_WORD, words[0])
+            && !words[1].equals(CalculateCommand.FIRST_ARG) && !words[1].contains("/");
+    }
+
+    /**
+     * Replaces the last word of the text input with the car park number or
+     * address word found in the most car parks that starts with it, and shows
+     * the other words that start with it. Only car park numbers are offered
+     * for the car park number of a calculate command.
+     * @param input input by the user
+     * @return true if the last word was completed, and false if it is already a
+     * whole word or no word starts with it
+     */
+    private boolean completeLastWord(String input) {
+        String lastWord = getLastWord(input);
+        List<String> completions = isCarparkNumberArgument(input)
+            ? logic.getCarparkNumberCompletions(lastWord)
+            : logic.getCompletions(lastWord);
+        if (completions.isEmpty() || completions.contains(lastWord.toLowerCase())) {
+            return false;
+        }
+        replaceText(input.substring(0, input.length() - lastWord.length()) + completions.get(0));
+        EventsCenter.getInstance().post(new NewResultAvailableEvent(String.format(
+            MESSAGE_WORD_AUTO_COMPLETE_SUCCESS, String.join(", ", completions))));
+        return true;
+    }
+
+    private static String getLastWord(String input) {
+        return input.substring(input.lastIndexOf(' ') + 1);
+    }
+
     /**
      * autocomplete helper function to check if the text input is already in
      * find command format.
@@ -402,7 +464,7 @@ public class CommandBox extends UiPart<Region> {
 
     @Subscribe
     private void handleToggleTextFieldRequestEvent(ToggleTextFieldRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         if (!commandTextField.isDisable()) {
             commandTextField.setDisable(true);
             commandTextField.setPromptText("");
@@ -414,7 +476,7 @@ public class CommandBox extends UiPart<Region> {
 
     @Subscribe
     private void handleDataFetchExceptionEventEvent(DataFetchExceptionEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         initHistory();
         // handle command failure
         raise(new NewResultAvailableEvent(event.exception.getMessage()));
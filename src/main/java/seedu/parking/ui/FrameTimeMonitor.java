@@ -0,0 +1,107 @@
+package seedu.parking.ui;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Measures the time between JavaFX pulses, to check that the UI stays smooth while it updates.
+ * Frame times are counted in 1ms buckets, so percentiles are read without keeping every sample.
+ * A running monitor forces a pulse on every frame, so it should only be started when its numbers are wanted.
+ */
+public class FrameTimeMonitor extends AnimationTimer {
+
+    /** Frames slower than this miss at least two refreshes of a 60Hz display, which come every 16.7ms. */
+    public static final long SLOW_FRAME_MILLIS = 33;
+
+    private static final int MAX_BUCKET_MILLIS = 1000;
+
+    private final long[] buckets = new long[MAX_BUCKET_MILLIS + 1];
+    private long lastPulse = -1;
+    private long frameCount;
+    private long slowFrameCount;
+    private long totalNanos;
+    private long maxNanos;
+
+    @Override
+    public synchronized void handle(long now) {
+        if (lastPulse >= 0) {
+            record(now - lastPulse);
+        }
+        lastPulse = now;
+    }
+
+    @Override
+    public synchronized void stop() {
+        super.stop();
+        lastPulse = -1;
+    }
+
+    /**
+     * Adds a frame that took {@code frameNanos} to the statistics.
+     */
+    synchronized void record(long frameNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(frameNanos);
+        buckets[(int) Math.min(millis, MAX_BUCKET_MILLIS)]++;
+        frameCount++;
+        totalNanos += frameNanos;
+        maxNanos = Math.max(maxNanos, frameNanos);
+        if (millis > SLOW_FRAME_MILLIS) {
+            slowFrameCount++;
+        }
+    }
+
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    public synchronized long getSlowFrameCount() {
+        return slowFrameCount;
+    }
+
+    public synchronized double getAverageFrameMillis() {
+        return frameCount == 0 ? 0 : totalNanos / 1e6 / frameCount;
+    }
+
+    public synchronized double getMaxFrameMillis() {
+        return maxNanos / 1e6;
+    }
+
+    /**
+     * Returns the frame time in whole milliseconds that {@code percentile} percent of frames did not exceed.
+     * Frames of a second or longer are all counted as one second.
+     */
+    public synchronized long getPercentileFrameMillis(double percentile) {
+        if (frameCount == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100 * frameCount);
+        long seen = 0;
+        for (int millis = 0; millis <= MAX_BUCKET_MILLIS; millis++) {
+            seen += buckets[millis];
+            if (seen >= rank) {
+                return millis;
+            }
+        }
+        return MAX_BUCKET_MILLIS;
+    }
+
+    /**
+     * Clears all statistics collected so far.
+     */
+    public synchronized void reset() {
+        Arrays.fill(buckets, 0);
+        frameCount = 0;
+        slowFrameCount = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d frames, average %.1fms, p50 %dms, p99 %dms, max %.1fms, %d slower than %dms",
+                frameCount, getAverageFrameMillis(), getPercentileFrameMillis(50), getPercentileFrameMillis(99),
+                getMaxFrameMillis(), slowFrameCount, SLOW_FRAME_MILLIS);
+    }
+}
@@ -198,7 +198,7 @@ public class MainWindow extends UiPart<Stage> {
 
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         handleHelp();
     }
 }
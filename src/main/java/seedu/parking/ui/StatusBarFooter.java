@@ -92,7 +92,8 @@ public class StatusBarFooter extends UiPart<Region> {
     public void handleCarparkFinderChangedEvent(CarparkFinderChangedEvent event) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting last updated status to " + lastUpdated));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event,
+                "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
         setCarparkStatus(event.data.getCarparkList().size());
     }
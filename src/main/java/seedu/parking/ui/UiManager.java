@@ -1,5 +1,6 @@
 package seedu.parking.ui;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -11,6 +12,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.parking.MainApp;
 import seedu.parking.commons.core.ComponentManager;
+import seedu.parking.commons.core.EventsCenter.Affinity;
 import seedu.parking.commons.core.Config;
 import seedu.parking.commons.core.LogsCenter;
 import seedu.parking.commons.events.storage.DataSavingExceptionEvent;
@@ -36,9 +38,10 @@ public class UiManager extends ComponentManager implements Ui {
     private Config config;
     private UserPrefs prefs;
     private MainWindow mainWindow;
+    private final FrameTimeMonitor frameTimeMonitor = new FrameTimeMonitor();
 
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
+        super(Affinity.FX_THREAD);
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
@@ -56,6 +59,10 @@ public class UiManager extends ComponentManager implements Ui {
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
+            // Measuring frame times keeps the UI pulsing, so only do it when fine logging is wanted.
+            if (config.getLogLevel().intValue() <= Level.FINE.intValue()) {
+                frameTimeMonitor.start();
+            }
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
@@ -64,11 +71,19 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Override
     public void stop() {
+        frameTimeMonitor.stop();
+        if (frameTimeMonitor.getFrameCount() > 0) {
+            logger.info("Frame times: " + frameTimeMonitor);
+        }
         prefs.updateLastUsedGuiSetting(mainWindow.getCurrentGuiSetting());
         mainWindow.hide();
         mainWindow.releaseResources();
     }
 
+    public FrameTimeMonitor getFrameTimeMonitor() {
+        return frameTimeMonitor;
+    }
+
     private void showFileOperationAlertAndWait(String description, String details, Throwable cause) {
         final String content = details + ":\n" + cause.toString();
         showAlertDialogAndWait(AlertType.ERROR, FILE_OPS_ERROR_DIALOG_STAGE_TITLE, description, content);
@@ -113,7 +128,7 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
                 event.exception);
     }
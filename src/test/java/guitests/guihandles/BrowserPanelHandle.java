@@ -1,12 +1,14 @@
 package guitests.guihandles;
 
 import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
 
 import guitests.GuiRobot;
 import javafx.concurrent.Worker;
 import javafx.scene.Node;
 import javafx.scene.web.WebEngine;
 import javafx.scene.web.WebView;
+import seedu.parking.ui.BrowserPanel;
 
 /**
  * A handler for the {@code BrowserPanel} of the UI.
@@ -18,6 +20,7 @@ public class BrowserPanelHandle extends NodeHandle<Node> {
     private boolean isWebViewLoaded = true;
 
     private URL lastRememberedUrl;
+    private String lastRememberedMapState;
 
     public BrowserPanelHandle(Node browserPanelNode) {
         super(browserPanelNode);
@@ -41,18 +44,50 @@ public class BrowserPanelHandle extends NodeHandle<Node> {
     }
 
     /**
-     * Remembers the {@code URL} of the currently loaded page.
+     * Returns the car park numbers shown on the map page as a JSON array, or an empty string if the map page
+     * is not loaded.
+     */
+    public String getDisplayedCarparkNumbers() {
+        return runMapScript("carparkMap.getDisplayedNumbers()");
+    }
+
+    /**
+     * Returns the car park number highlighted on the map page, or an empty string if there is none.
+     */
+    public String getSelectedCarparkNumber() {
+        return runMapScript("carparkMap.getSelectedNumber()");
+    }
+
+    /**
+     * Runs {@code script} on the JavaFX thread and returns its result as a string, or an empty string
+     * if the map page is not loaded.
+     */
+    private String runMapScript(String script) {
+        WebView webView = getChildNode(BROWSER_ID);
+        AtomicReference<String> result = new AtomicReference<>("");
+        new GuiRobot().interact(() -> {
+            if (webView.getEngine().getLocation().endsWith(BrowserPanel.MAP_PAGE)) {
+                result.set(String.valueOf(webView.getEngine().executeScript(script)));
+            }
+        });
+        return result.get();
+    }
+
+    /**
+     * Remembers the {@code URL} of the currently loaded page and the car parks shown on it.
      */
     public void rememberUrl() {
         lastRememberedUrl = getLoadedUrl();
+        lastRememberedMapState = getDisplayedCarparkNumbers() + getSelectedCarparkNumber();
     }
 
     /**
-     * Returns true if the current {@code URL} is different from the value remembered by the most recent
-     * {@code rememberUrl()} call.
+     * Returns true if the current {@code URL} or the car parks shown on it are different from the values
+     * remembered by the most recent {@code rememberUrl()} call.
      */
     public boolean isUrlChanged() {
-        return !lastRememberedUrl.equals(getLoadedUrl());
+        return !lastRememberedUrl.equals(getLoadedUrl())
+                || !lastRememberedMapState.equals(getDisplayedCarparkNumbers() + getSelectedCarparkNumber());
     }
 
     /**
@@ -2,11 +2,13 @@ package seedu.parking;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import seedu.parking.commons.core.Config;
+import seedu.parking.commons.core.EventsCenter;
 import seedu.parking.commons.core.GuiSettings;
 import seedu.parking.commons.exceptions.DataConversionException;
 import seedu.parking.commons.util.FileUtil;
@@ -32,6 +34,7 @@ public class TestApp extends MainApp {
 
     protected static final Path DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
             TestUtil.getFilePathInSandboxFolder("pref_testing.json");
+
     protected Supplier<ReadOnlyCarparkFinder> initialDataSupplier = () -> null;
     protected Path saveFileLocation = SAVE_LOCATION_FOR_TESTING;
 
@@ -72,6 +75,8 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the car park finder data stored inside the storage file.
      */
     public CarparkFinder readStorageCarparkFinder() {
+        // saves run on the storage thread, so wait for those already requested
+        EventsCenter.getInstance().awaitStorageHandlers(STORAGE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         try {
             return new CarparkFinder(storage.readCarparkFinder().get());
         } catch (DataConversionException dce) {
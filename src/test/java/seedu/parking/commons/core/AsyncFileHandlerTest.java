@@ -0,0 +1,98 @@
+package seedu.parking.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.Test;
+
+public class AsyncFileHandlerTest {
+
+    @Test
+    public void publish_records_writtenInOrderOnClose() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncFileHandler handler = new AsyncFileHandler(delegate);
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        assertEquals(1000, delegate.messages.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("message " + i, delegate.messages.get(i));
+        }
+        assertEquals(0, handler.getDroppedCount());
+        assertTrue(delegate.isClosed);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncFileHandler handler = new AsyncFileHandler(delegate);
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.publish(new LogRecord(Level.SEVERE, "severe"));
+        handler.flush();
+
+        assertEquals(Collections.singletonList("severe"), delegate.messages);
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFull_dropsRecordsBelowWarning() throws Exception {
+        RecordingHandler delegate = new RecordingHandler();
+        delegate.release = new CountDownLatch(1);
+        AsyncFileHandler handler = new AsyncFileHandler(delegate, 2);
+
+        // the writer takes the first record and waits, then two more fill the queue
+        handler.publish(new LogRecord(Level.INFO, "taken by writer"));
+        assertTrue(delegate.isWriting.await(10, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "queued 1"));
+        handler.publish(new LogRecord(Level.INFO, "queued 2"));
+
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        handler.publish(new LogRecord(Level.WARNING, "dropped after waiting"));
+        assertEquals(2, handler.getDroppedCount());
+
+        delegate.release.countDown();
+        handler.close();
+        assertEquals(3, delegate.messages.size());
+    }
+
+    /**
+     * Records the messages written to it, optionally waiting for {@code release} before the first write.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private volatile CountDownLatch release = new CountDownLatch(0);
+        private volatile boolean isClosed = false;
+
+        @Override
+        public void publish(LogRecord record) {
+            isWriting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Car Park Finder\n"
                 + "Current log level : INFO\n"
+                + "Metrics file Location : carparkfinder-metrics.txt (disabled)\n"
                 + "Preference file Location : preferences.json";
 
         assertEquals(defaultConfigAsString, new Config().toString());
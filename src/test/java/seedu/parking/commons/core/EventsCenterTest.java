@@ -0,0 +1,247 @@
+package seedu.parking.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.parking.commons.core.EventsCenter.Affinity;
+import seedu.parking.commons.core.EventsCenter.Subscription;
+import seedu.parking.commons.events.BaseEvent;
+import seedu.parking.commons.events.LatestWinsEvent;
+
+public class EventsCenterTest {
+
+    private final List<String> received = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void getInstance_calledTwice_returnsSameInstance() {
+        assertTrue(EventsCenter.getInstance() == EventsCenter.getInstance());
+    }
+
+    @Test
+    public void registerHandler_invalidHandler_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> EventsCenter.getInstance().registerHandler(
+                new InvalidHandler()));
+    }
+
+    @Test
+    public void post_directHandlers_deliveredBeforePostReturns() {
+        EventsCenter.getInstance().registerHandler(new RecordingHandler());
+        EventsCenter.getInstance().post(new FirstEvent());
+        // the handler of the supertype also receives the event, in no particular order
+        assertEquals(new HashSet<>(Arrays.asList("first", "any FirstEvent")), new HashSet<>(received));
+    }
+
+    @Test
+    public void registerHandler_overriddenSubscriber_registeredOnce() {
+        EventsCenter.getInstance().registerHandler(new OverridingHandler());
+        EventsCenter.getInstance().post(new FirstEvent());
+        assertEquals(Arrays.asList("overridden first"), received);
+    }
+
+    @Test
+    public void post_handlerPostsEvent_nestedEventDeliveredAfterCurrentEvent() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.subscribe(FirstEvent.class, Affinity.DIRECT, event -> {
+            received.add("first");
+            eventsCenter.post(new SecondEvent());
+        });
+        eventsCenter.subscribe(FirstEvent.class, Affinity.DIRECT, event -> received.add("first again"));
+        eventsCenter.subscribe(SecondEvent.class, Affinity.DIRECT, event -> received.add("second"));
+
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList("first", "first again", "second"), received);
+    }
+
+    @Test
+    public void post_handlerThrows_otherHandlersStillDelivered() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.subscribe(FirstEvent.class, Affinity.DIRECT, event -> {
+            throw new IllegalStateException("handler failure");
+        });
+        eventsCenter.subscribe(FirstEvent.class, Affinity.DIRECT, event -> received.add("first"));
+
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList("first"), received);
+    }
+
+    @Test
+    public void unsubscribe_consumer_noLongerDelivered() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        Subscription subscription = eventsCenter.subscribe(FirstEvent.class, Affinity.DIRECT, event ->
+                received.add("unsubscribed"));
+        eventsCenter.subscribe(FirstEvent.class, Affinity.DIRECT, event -> received.add("first"));
+        eventsCenter.post(new FirstEvent());
+
+        eventsCenter.unsubscribe(subscription);
+        eventsCenter.unsubscribe(subscription);
+        eventsCenter.post(new FirstEvent());
+        assertEquals(Arrays.asList("unsubscribed", "first", "first"), received);
+    }
+
+    @Test
+    public void post_storageHandler_deliveredOnStorageThread() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        List<String> threadNames = new ArrayList<>();
+        eventsCenter.subscribe(FirstEvent.class, Affinity.STORAGE, event -> threadNames.add(
+                Thread.currentThread().getName()));
+
+        eventsCenter.post(new FirstEvent());
+        eventsCenter.post(new FirstEvent());
+        assertTrue(eventsCenter.awaitStorageHandlers(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("storage-events", "storage-events"), threadNames);
+    }
+
+    @Test
+    public void getHandlerStats_eventsDelivered_countsRecorded() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(new RecordingHandler());
+        eventsCenter.post(new FirstEvent());
+        eventsCenter.post(new SecondEvent());
+
+        assertEquals(1, eventsCenter.getHandlerStats().get("RecordingHandler#handleFirstEvent").getCount());
+        assertEquals(2, eventsCenter.getHandlerStats().get("RecordingHandler#handleAnyEvent").getCount());
+    }
+
+    @Test
+    public void post_latestWinsEventsToDirectHandler_eachDeliveredBeforePostReturns() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.subscribe(CountEvent.class, Affinity.DIRECT, event -> received.add(event.toString()));
+
+        eventsCenter.post(new CountEvent(1));
+        assertEquals(Arrays.asList("1"), received);
+        eventsCenter.post(new CountEvent(2));
+        assertEquals(Arrays.asList("1", "2"), received);
+    }
+
+    @Test
+    public void post_latestWinsEventsWhileStorageBusy_latestDeliveredInPostingOrder() throws Exception {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch isBusy = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        eventsCenter.subscribe(FirstEvent.class, Affinity.STORAGE, event -> {
+            isBusy.countDown();
+            try {
+                canFinish.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        eventsCenter.subscribe(SecondEvent.class, Affinity.STORAGE, event -> delivered.add("second"));
+        eventsCenter.subscribe(CountEvent.class, Affinity.STORAGE, event -> delivered.add(event.toString()));
+
+        eventsCenter.post(new FirstEvent());
+        assertTrue(isBusy.await(10, TimeUnit.SECONDS));
+        eventsCenter.post(new CountEvent(1));
+        eventsCenter.post(new SecondEvent());
+        eventsCenter.post(new CountEvent(2));
+        eventsCenter.post(new CountEvent(3));
+        canFinish.countDown();
+        assertTrue(eventsCenter.awaitStorageHandlers(10, TimeUnit.SECONDS));
+
+        // the latest event replaces the waiting ones, after the event posted before it
+        assertEquals(Arrays.asList("second", "3"), delivered);
+        EventsCenter.CoalescingStats stats = eventsCenter.getCoalescingStats().get("CountEvent");
+        assertEquals(3, stats.getPosted());
+        assertEquals(1, stats.getDelivered());
+    }
+
+    /**
+     * An event for testing.
+     */
+    private static class FirstEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "FirstEvent";
+        }
+    }
+
+    /**
+     * Another event for testing.
+     */
+    private static class SecondEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "SecondEvent";
+        }
+    }
+
+    /**
+     * An event of which only the latest of a burst is delivered.
+     */
+    private static class CountEvent extends BaseEvent implements LatestWinsEvent {
+        private final int count;
+
+        CountEvent(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(count);
+        }
+    }
+
+    /**
+     * Records the events it receives.
+     */
+    private class RecordingHandler {
+        @Subscribe
+        private void handleFirstEvent(FirstEvent event) {
+            received.add("first");
+        }
+
+        @Subscribe
+        private void handleAnyEvent(BaseEvent event) {
+            received.add("any " + event);
+        }
+    }
+
+    /**
+     * A handler with a subscriber method that subclasses can override.
+     */
+    private class BaseHandler {
+        @Subscribe
+        public void handleFirstEvent(FirstEvent event) {
+            received.add("base first");
+        }
+    }
+
+    /**
+     * Overrides the subscriber method of {@code BaseHandler}.
+     */
+    private class OverridingHandler extends BaseHandler {
+        @Override
+        @Subscribe
+        public void handleFirstEvent(FirstEvent event) {
+            received.add("overridden first");
+        }
+    }
+
+    /**
+     * A handler whose subscriber method does not take an event.
+     */
+    private static class InvalidHandler {
+        @Subscribe
+        public void handle(String notAnEvent) {}
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.parking.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void indexOf_smallValues_exactBuckets() {
+        for (long value = 0; value < 64; value++) {
+            assertEquals(value, LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value)));
+        }
+    }
+
+    @Test
+    public void indexOf_largeValues_bucketWithinThreePercent() {
+        for (long value = 64; value > 0 && value < Long.MAX_VALUE / 2; value = value * 3 + 7) {
+            long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+            assertTrue(highest >= value);
+            assertTrue(highest - value <= value / 32);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void getPercentileMillis_recordedLatencies_returnsPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getAverageMillis(), 0.001);
+        assertEquals(100, histogram.getMaxMillis(), 0.001);
+        assertEquals(50, histogram.getPercentileMillis(50), 50 * 0.04);
+        assertEquals(99, histogram.getPercentileMillis(99), 99 * 0.04);
+        assertEquals(100, histogram.getPercentileMillis(100), 0.001);
+    }
+
+    @Test
+    public void getPercentileMillis_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileMillis(50), 0);
+        assertEquals(0, histogram.getAverageMillis(), 0);
+    }
+
+    @Test
+    public void record_negativeLatency_countedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxMillis(), 0);
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.parking.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.parking.testutil.Assert;
+
+public class BkTreeTest {
+
+    @Test
+    public void distance() {
+        assertEquals(0, BkTree.distance("punggol", "punggol"));
+        assertEquals(1, BkTree.distance("pungol", "punggol")); // deletion
+        assertEquals(1, BkTree.distance("punggoll", "punggol")); // insertion
+        assertEquals(1, BkTree.distance("punggel", "punggol")); // substitution
+        assertEquals(3, BkTree.distance("", "abc"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+    }
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        BkTree tree = new BkTree();
+        tree.add("tampines");
+        tree.add("tampines");
+        assertEquals(1, tree.size());
+        Assert.assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void search_emptyTree_returnsNothing() {
+        assertTrue(new BkTree().search("punggol", 2).isEmpty());
+    }
+
+    @Test
+    public void search_matchesWithinDistance() {
+        BkTree tree = new BkTree();
+        for (String word : Arrays.asList("punggol", "pungol", "sengkang", "serangoon", "bedok", "bishan", "potong")) {
+            tree.add(word);
+        }
+
+        assertEquals(new HashSet<>(Arrays.asList("punggol", "pungol")), new HashSet<>(tree.search("pungol", 1)));
+        assertEquals(new HashSet<>(Arrays.asList("sengkang")), new HashSet<>(tree.search("sengkng", 2)));
+        assertEquals(new HashSet<>(Arrays.asList("bedok")), new HashSet<>(tree.search("bedok", 0)));
+        assertTrue(tree.search("jurong", 1).isEmpty());
+    }
+}
@@ -4,9 +4,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.testutil.LocalCarparkApi;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
 public class GsonUtilTest extends GsonUtil {
 
     @Test
@@ -14,6 +19,26 @@ public class GsonUtilTest extends GsonUtil {
         assertNotNull(fetchAllCarparkInfo());
     }
 
+    @Test
+    public void fetchAllCarparkInfo_localApi_allCarparksReturned() throws Exception {
+        // more than one page of car park information
+        List<Carpark> carparks = new SyntheticCarparkGenerator().generate(2500);
+        try (LocalCarparkApi api = LocalCarparkApi.of(carparks).install()) {
+            List<List<String>> fetched = fetchAllCarparkInfo();
+            assertEquals(carparks.size(), fetched.size());
+
+            Carpark first = carparks.get(0);
+            List<String> fetchedFirst = fetched.stream()
+                    .filter(data -> data.get(1).equals(first.getCarparkNumber().toString()))
+                    .findFirst()
+                    .get();
+            assertEquals(first.getAddress().toString(), fetchedFirst.get(0));
+            assertEquals(first.getCoordinate().toString(), fetchedFirst.get(3));
+            assertEquals(first.getLotsAvailable().toString(), fetchedFirst.get(5));
+            assertEquals(first.getTotalLots().toString(), fetchedFirst.get(8));
+        }
+    }
+
     @Test
     public void getSelectedCarparkInfo_getSelectedCarpark_notNullReturned() throws Exception {
         assertNotNull(getSelectedCarparkInfo("TJ39"));
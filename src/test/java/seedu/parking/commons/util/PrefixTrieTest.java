@@ -0,0 +1,72 @@
+package seedu.parking.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.parking.testutil.Assert;
+
+public class PrefixTrieTest {
+
+    @Test
+    public void add_duplicateWord_countedTwice() {
+        PrefixTrie trie = new PrefixTrie(5);
+        trie.add("sengkang");
+        trie.add("sengkang");
+        assertEquals(1, trie.size());
+        assertEquals(2, trie.getCount("sengkang"));
+        assertEquals(0, trie.getCount("seng"));
+        Assert.assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void complete_rankedByCountThenLengthThenWord() {
+        PrefixTrie trie = new PrefixTrie(5);
+        trie.add("serangoon");
+        trie.add("sengkang");
+        trie.add("sengkang");
+        trie.add("sk88");
+        trie.add("sk23");
+        trie.add("bedok");
+
+        assertEquals(Arrays.asList("sengkang", "sk23", "sk88", "serangoon"), trie.complete("s", 10));
+        assertEquals(Arrays.asList("sengkang", "sk23"), trie.complete("s", 2));
+        assertEquals(Collections.singletonList("bedok"), trie.complete("bedok", 10));
+        assertTrue(trie.complete("x", 10).isEmpty());
+        assertTrue(trie.complete("s", 0).isEmpty());
+        assertEquals(5, trie.complete("", 10).size());
+    }
+
+    @Test
+    public void complete_moreThanMaxCompletions_bestKept() {
+        PrefixTrie trie = new PrefixTrie(2);
+        trie.add("sk1");
+        trie.add("sk2");
+        trie.add("sk3");
+        trie.add("sk3");
+        assertEquals(Arrays.asList("sk3", "sk1"), trie.complete("sk", 10));
+    }
+
+    @Test
+    public void remove_afterCompletion_completionsUpdated() {
+        PrefixTrie trie = new PrefixTrie(5);
+        trie.add("sengkang");
+        trie.add("serangoon");
+        trie.add("serangoon");
+        assertEquals(Arrays.asList("serangoon", "sengkang"), trie.complete("se", 10));
+
+        trie.remove("serangoon");
+        trie.remove("serangoon");
+        trie.remove("serangoon");
+        trie.remove("tampines");
+        assertEquals(Collections.singletonList("sengkang"), trie.complete("se", 10));
+        assertEquals(1, trie.size());
+
+        trie.add("seletar");
+        assertEquals(Arrays.asList("seletar", "sengkang"), trie.complete("se", 10));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.parking.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -65,6 +66,19 @@ public class StringUtilTest {
         assertTrue(StringUtil.isNonNegativeAboveNineInteger("10"));
     }
 
+    //---------------- Tests for parseSaturatedUnsignedInteger ----------------------------------
+
+    @Test
+    public void parseSaturatedUnsignedInteger() {
+        assertEquals(0, StringUtil.parseSaturatedUnsignedInteger("0"));
+        assertEquals(123, StringUtil.parseSaturatedUnsignedInteger("0123"));
+        assertEquals(Integer.MAX_VALUE - 1, StringUtil.parseSaturatedUnsignedInteger("2147483646"));
+
+        // EP: too large for an int, saturates
+        assertEquals(Integer.MAX_VALUE, StringUtil.parseSaturatedUnsignedInteger("2147483648"));
+        assertEquals(Integer.MAX_VALUE, StringUtil.parseSaturatedUnsignedInteger("123456789012345"));
+    }
+
 
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
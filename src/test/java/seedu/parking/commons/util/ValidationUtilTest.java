@@ -0,0 +1,110 @@
+package seedu.parking.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import seedu.parking.testutil.Assert;
+
+public class ValidationUtilTest {
+
+    private static final String[] EDGE_CASES = {"", " ", "a", " a", "a ", "\ta", "a\tb", "a\nb", "a\n", "\u00A0a",
+        "a\u0085", "a\u2028", "a\u2029", "a\rb", "\u000Ba", "\fa", "123", "012345", "12345", "1234567", "-1", "+1",
+        "1.5", "\u0661\u0662\u0663", "abcXYZ09", "abc_1", "\u00E91", "\uFF211",
+        "BLK 123 ANG MO KIO AVE 4", "7.00AM-10.30PM"};
+
+    private static final char[] FUZZ_CHARS = {'0', '5', '9', 'a', 'z', 'A', 'Z', ' ', '\t', '\n', '\r', '\u000B',
+        '\f', '\u0085', '\u00A0', '\u2028', '\u2029', '-', '.', ',', '_', '\u00E9', '\u0663'};
+
+    @Test
+    public void isNonBlankLine() {
+        Assert.assertThrows(NullPointerException.class, () -> ValidationUtil.isNonBlankLine(null));
+
+        assertFalse(ValidationUtil.isNonBlankLine("")); // empty
+        assertFalse(ValidationUtil.isNonBlankLine(" a")); // leading whitespace
+        assertFalse(ValidationUtil.isNonBlankLine("a\nb")); // more than one line
+        assertTrue(ValidationUtil.isNonBlankLine("\u00A0a")); // non-breaking space is not regex whitespace
+        assertTrue(ValidationUtil.isNonBlankLine("a "));
+        assertTrue(ValidationUtil.isNonBlankLine("BLK 123 ANG MO KIO AVE 4"));
+    }
+
+    @Test
+    public void isDigits() {
+        Assert.assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null));
+
+        assertFalse(ValidationUtil.isDigits(""));
+        assertFalse(ValidationUtil.isDigits("-1"));
+        assertFalse(ValidationUtil.isDigits("1 "));
+        assertFalse(ValidationUtil.isDigits("\u0661\u0662\u0663")); // digits other than 0 to 9
+        assertTrue(ValidationUtil.isDigits("0"));
+        assertTrue(ValidationUtil.isDigits("0123"));
+
+        assertFalse(ValidationUtil.isDigits("12345", 6));
+        assertFalse(ValidationUtil.isDigits("1234567", 6));
+        assertFalse(ValidationUtil.isDigits("12345a", 6));
+        assertTrue(ValidationUtil.isDigits("012345", 6));
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        Assert.assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("abc_1"));
+        assertFalse(ValidationUtil.isAlphanumeric("\u00E91")); // letters other than a to z
+        assertTrue(ValidationUtil.isAlphanumeric("abcXYZ09"));
+    }
+
+    @Test
+    public void indexOfWhitespace() {
+        Assert.assertThrows(NullPointerException.class, () -> ValidationUtil.indexOfWhitespace(null));
+
+        assertEquals(-1, ValidationUtil.indexOfWhitespace(""));
+        assertEquals(-1, ValidationUtil.indexOfWhitespace("\u00A0a")); // non-breaking space is not regex whitespace
+        assertEquals(0, ValidationUtil.indexOfWhitespace(" a"));
+        assertEquals(4, ValidationUtil.indexOfWhitespace("find\tsengkang"));
+    }
+
+    @Test
+    public void isSingleLine() {
+        Assert.assertThrows(NullPointerException.class, () -> ValidationUtil.isSingleLine(null));
+
+        assertTrue(ValidationUtil.isSingleLine(""));
+        assertTrue(ValidationUtil.isSingleLine(" a\tb"));
+        assertFalse(ValidationUtil.isSingleLine("a\nb"));
+        assertFalse(ValidationUtil.isSingleLine("a\u2028"));
+    }
+
+    @Test
+    public void scanners_sameAsRegex() {
+        for (String test : EDGE_CASES) {
+            assertSameAsRegex(test);
+        }
+
+        Random random = new Random(49);
+        for (int i = 0; i < 20000; i++) {
+            char[] chars = new char[random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = FUZZ_CHARS[random.nextInt(FUZZ_CHARS.length)];
+            }
+            assertSameAsRegex(new String(chars));
+        }
+    }
+
+    private static void assertSameAsRegex(String test) {
+        assertEquals(test, test.matches("[^\\s].*"), ValidationUtil.isNonBlankLine(test));
+        assertEquals(test, test.matches("\\d+"), ValidationUtil.isDigits(test));
+        assertEquals(test, test.matches("^[0-9]{6}$"), ValidationUtil.isDigits(test, 6));
+        assertEquals(test, test.matches("\\p{Alnum}+"), ValidationUtil.isAlphanumeric(test));
+        assertEquals(test, test.matches(".*"), ValidationUtil.isSingleLine(test));
+
+        Matcher matcher = Pattern.compile("\\s").matcher(test);
+        assertEquals(test, matcher.find() ? matcher.start() : -1, ValidationUtil.indexOfWhitespace(test));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.parking.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import seedu.parking.testutil.Assert;
+
+public class ValuePoolTest {
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new ValuePool<String>(null));
+    }
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        ValuePool<String> pool = new ValuePool<>(String::new);
+        Assert.assertThrows(NullPointerException.class, () -> pool.get(null));
+    }
+
+    @Test
+    public void get_sameValue_returnsSameInstance() {
+        ValuePool<String> pool = new ValuePool<>(String::new);
+        String first = pool.get("SURFACE CAR PARK");
+        assertSame(first, pool.get(new String("SURFACE CAR PARK")));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void get_factoryThrows_valueNotCached() {
+        ValuePool<String> pool = new ValuePool<>(value -> {
+            throw new IllegalArgumentException(value);
+        });
+        Assert.assertThrows(IllegalArgumentException.class, () -> pool.get("invalid"));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void get_poolFull_returnsUncachedInstance() {
+        ValuePool<String> pool = new ValuePool<>(String::new, 1);
+        pool.get("YES");
+        String first = pool.get("NO");
+        assertNotSame(first, pool.get("NO"));
+        assertEquals(1, pool.size());
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.parking.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
+import static seedu.parking.testutil.TypicalCarparks.KEYWORD_MATCHING_SENGKANG;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparks;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import seedu.parking.commons.core.EventsCenter;
+import seedu.parking.commons.core.EventsCenter.HandlerStats;
+import seedu.parking.commons.events.ui.ExitAppRequestEvent;
+import seedu.parking.commons.events.ui.NewResultAvailableEvent;
+import seedu.parking.logic.BatchRunner.BatchSummary;
+import seedu.parking.logic.commands.ExitCommand;
+import seedu.parking.logic.commands.FindCommand;
+import seedu.parking.logic.commands.ListCommand;
+import seedu.parking.model.ModelManager;
+import seedu.parking.model.UserPrefs;
+
+public class BatchRunnerTest {
+
+    private final Logic logic = new LogicManager(new ModelManager(getTypicalCarparkFinder(), new UserPrefs()));
+    private final StringWriter output = new StringWriter();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void run_script_oneResultPerCommand() throws Exception {
+        String script = ListCommand.COMMAND_WORD + "\n"
+                + "\n"
+                + BatchRunner.COMMENT_PREFIX + " a comment\n"
+                + FindCommand.COMMAND_WORD + " " + KEYWORD_MATCHING_SENGKANG + "\n"
+                + "uicfhmowqewca\n";
+        BatchSummary summary = run(script, true);
+
+        assertEquals(3, summary.getCommandCount());
+        assertEquals(1, summary.getFailureCount());
+        List<JsonObject> results = getResults();
+        assertEquals(3, results.size());
+
+        JsonObject list = results.get(0);
+        assertEquals(1, list.get("line").getAsInt());
+        assertTrue(list.get("success").getAsBoolean());
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS, getTypicalCarparks().size()),
+                list.get("result").getAsString());
+        assertEquals(getTypicalCarparks().size(), list.get("shownCount").getAsInt());
+
+        JsonObject find = results.get(1);
+        assertEquals(4, find.get("line").getAsInt());
+        JsonArray carparks = find.getAsJsonArray("carparks");
+        assertEquals(2, carparks.size());
+        assertEquals(BRAVO.getCarparkNumber().toString(),
+                carparks.get(0).getAsJsonObject().get("carparkNumber").getAsString());
+        assertEquals(DELTA.getCarparkNumber().toString(),
+                carparks.get(1).getAsJsonObject().get("carparkNumber").getAsString());
+
+        JsonObject unknown = results.get(2);
+        assertFalse(unknown.get("success").getAsBoolean());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, unknown.get("result").getAsString());
+    }
+
+    @Test
+    public void run_notShowingCarparks_carparksLeftOut() throws Exception {
+        run(ListCommand.COMMAND_WORD, false);
+
+        JsonObject list = getResults().get(0);
+        assertFalse(list.has("carparks"));
+        assertEquals(getTypicalCarparks().size(), list.get("shownCount").getAsInt());
+    }
+
+    @Test
+    public void run_exit_stopsScript() throws Exception {
+        BatchSummary summary = run(ListCommand.COMMAND_WORD + "\n" + ExitCommand.COMMAND_WORD + "\n"
+                + ListCommand.COMMAND_WORD, false);
+
+        assertEquals(2, summary.getCommandCount());
+        assertEquals(2, getResults().size());
+    }
+
+    @Test
+    public void close_stopsListeningForMessages() throws Exception {
+        run(ListCommand.COMMAND_WORD, false);
+
+        Map<String, HandlerStats> handlerStats = EventsCenter.getInstance().getHandlerStats();
+        assertFalse(handlerStats.containsKey("Consumer#" + NewResultAvailableEvent.class.getSimpleName()));
+        assertFalse(handlerStats.containsKey("Consumer#" + ExitAppRequestEvent.class.getSimpleName()));
+    }
+
+    private BatchSummary run(String script, boolean isShowingCarparks) throws Exception {
+        try (BatchRunner runner = new BatchRunner(logic, isShowingCarparks)) {
+            return runner.run(new BufferedReader(new StringReader(script)), output);
+        }
+    }
+
+    private List<JsonObject> getResults() {
+        List<JsonObject> results = new ArrayList<>();
+        for (String line : output.toString().split(System.lineSeparator())) {
+            results.add(new JsonParser().parse(line).getAsJsonObject());
+        }
+        return results;
+    }
+}
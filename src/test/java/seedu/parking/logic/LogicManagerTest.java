@@ -7,6 +7,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.parking.commons.core.MetricsCenter;
 import seedu.parking.logic.commands.CommandResult;
 import seedu.parking.logic.commands.HistoryCommand;
 import seedu.parking.logic.commands.ListCommand;
@@ -39,6 +40,24 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_commands_metricsRecorded() throws Exception {
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        metrics.clear();
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        try {
+            logic.execute("uicfhmowqewca");
+        } catch (ParseException pe) {
+            // counted as an error of an unparsed command
+        }
+
+        assertEquals(2, metrics.getCommandLatency(ListCommand.COMMAND_WORD).getCount());
+        assertEquals(0, metrics.getErrorCount(ListCommand.COMMAND_WORD));
+        assertEquals(1, metrics.getErrorCount(LogicManager.UNPARSED_COMMAND));
+        metrics.clear();
+    }
+
     @Test
     public void getFilteredCarparkList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,116 @@
+package seedu.parking.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.testutil.TypicalCarparks.CHARLIE;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
+import static seedu.parking.testutil.TypicalCarparks.ECHO;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
+
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.parking.logic.CommandHistory;
+import seedu.parking.model.CarparkTariffTable;
+import seedu.parking.model.CarparkTariffTable.Quote;
+import seedu.parking.model.Model;
+import seedu.parking.model.ModelManager;
+import seedu.parking.model.UserPrefs;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CheapestCommand}.
+ */
+public class CheapestCommandTest {
+
+    private static final int SIX_AM = 6 * 60;
+    private static final int NINE_AM = 9 * 60;
+
+    private Model model = new ModelManager(getTypicalCarparkFinder(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalCarparkFinder(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        CheapestCommand cheapestCommand = new CheapestCommand("SUN", SIX_AM, NINE_AM, 3);
+
+        // same object -> returns true
+        assertTrue(cheapestCommand.equals(cheapestCommand));
+
+        // same values -> returns true
+        assertTrue(cheapestCommand.equals(new CheapestCommand("SUN", SIX_AM, NINE_AM, 3)));
+
+        // different types -> returns false
+        assertFalse(cheapestCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(cheapestCommand.equals(null));
+
+        // different day, time or count -> returns false
+        assertFalse(cheapestCommand.equals(new CheapestCommand("MON", SIX_AM, NINE_AM, 3)));
+        assertFalse(cheapestCommand.equals(new CheapestCommand("SUN", SIX_AM + 30, NINE_AM, 3)));
+        assertFalse(cheapestCommand.equals(new CheapestCommand("SUN", SIX_AM, NINE_AM, 4)));
+    }
+
+    @Test
+    public void execute_sundayMorning_cheapestListedFirst() {
+        String expectedMessage = String.format(CheapestCommand.MESSAGE_CHEAPEST_LISTED, 3)
+                + String.format(CheapestCommand.MESSAGE_QUOTE_LINE, 1, "U25", 1.2)
+                + String.format(CheapestCommand.MESSAGE_QUOTE_LINE, 2, "SK23", 1.2)
+                + String.format(CheapestCommand.MESSAGE_QUOTE_LINE, 3, "SK88", 3.6);
+        List<Carpark> cheapest = Arrays.asList(CHARLIE, DELTA, BRAVO);
+        expectedModel.updateFilteredCarparkList(cheapest::contains, Comparator.comparingInt(cheapest::indexOf));
+
+        assertCommandSuccess(new CheapestCommand("SUN", SIX_AM, NINE_AM, 3), model, commandHistory,
+                expectedMessage, expectedModel);
+        assertEquals(cheapest, model.getFilteredCarparkList());
+    }
+
+    @Test
+    public void execute_lotsUpdatedAfterCheapest_carparkStillListed() {
+        new CheapestCommand("SUN", SIX_AM, NINE_AM, 3).execute(model, commandHistory);
+        model.updateCarparkLots(DELTA, new LotsAvailable("1"), new TotalLots("500"));
+
+        Carpark updated = DELTA.withLots(new LotsAvailable("1"), new TotalLots("500"));
+        assertEquals(Arrays.asList(CHARLIE, updated, BRAVO), model.getFilteredCarparkList());
+    }
+
+    @Test
+    public void execute_noShortTermParking_listUnchanged() {
+        model.updateFilteredCarparkList(ECHO::equals);
+        expectedModel.updateFilteredCarparkList(ECHO::equals);
+
+        assertCommandSuccess(new CheapestCommand("MON", SIX_AM, NINE_AM, 3), model, commandHistory,
+                CheapestCommand.MESSAGE_NO_CHEAPEST, expectedModel);
+    }
+
+    @Test
+    public void execute_sundayAcrossFreeParking_sameCostAsCalculate() throws Exception {
+        // free parking at U25 is from 7am to 10.30pm on Sundays, and only the rest of the stay is charged
+        String[][] stays = {{"6.00am", "11.00pm", "1.8"}, {"6.15am", "8.00am", "1.2"}, {"10.00pm", "11.30pm", "1.2"},
+            {"10.45pm", "11.15pm", "0.6"}, {"11.00pm", "11.30pm", "0.6"}, {"5.00am", "6.00am", "1.2"}};
+        SimpleDateFormat dateFormat = new SimpleDateFormat("hh.mmaa");
+        CarparkTariffTable tariffTable = model.getCarparkTariffTable();
+
+        for (String[] stay : stays) {
+            String message = stay[0] + "-" + stay[1];
+            double expectedCost = Double.parseDouble(stay[2]);
+            CalculateCommand calculateCommand = new CalculateCommand(CHARLIE.getCarparkNumber().value, "SUN",
+                    dateFormat.parse(stay[0]), dateFormat.parse(stay[1]));
+            List<Quote> quotes = tariffTable.findCheapest(Collections.singletonList(CHARLIE), true,
+                    CarparkTariffTable.parseMinuteOfDay(stay[0]), CarparkTariffTable.parseMinuteOfDay(stay[1]), 1);
+            assertEquals(message, expectedCost, calculateCommand.calculateCost(CHARLIE), 1e-9);
+            assertEquals(message, expectedCost, quotes.get(0).getCost(), 1e-9);
+        }
+    }
+}
@@ -5,7 +5,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.parking.commons.core.Messages.MESSAGE_CARPARKS_LISTED_OVERVIEW;
 import static seedu.parking.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
 import static seedu.parking.testutil.TypicalCarparks.CHARLIE;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
 import static seedu.parking.testutil.TypicalCarparks.ECHO;
 import static seedu.parking.testutil.TypicalCarparks.FOXTROT;
 import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
@@ -19,7 +21,10 @@ import seedu.parking.logic.CommandHistory;
 import seedu.parking.model.Model;
 import seedu.parking.model.ModelManager;
 import seedu.parking.model.UserPrefs;
+import seedu.parking.model.carpark.Carpark;
 import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -54,6 +59,17 @@ public class FindCommandTest {
 
         // different carpark -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different limit -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, 5, false)));
+
+        // different lots weighting -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate,
+                CarparkContainsKeywordsPredicate.NO_LIMIT, true)));
+
+        // different fuzziness -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate,
+                CarparkContainsKeywordsPredicate.NO_LIMIT, false, true)));
     }
 
     @Test
@@ -76,6 +92,39 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CHARLIE, ECHO, FOXTROT), model.getFilteredCarparkList());
     }
 
+    @Test
+    public void execute_rankedKeywords_bestMatchesFirst() {
+        CarparkContainsKeywordsPredicate predicate = preparePredicate("sengkang sk23");
+        CommandResult result = new FindCommand(predicate).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_CARPARKS_LISTED_OVERVIEW, 2), result.feedbackToUser);
+        assertEquals(Arrays.asList(DELTA, BRAVO), model.getFilteredCarparkList());
+
+        result = new FindCommand(predicate, 1, false).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_CARPARKS_LISTED_OVERVIEW, 1), result.feedbackToUser);
+        assertEquals(Collections.singletonList(DELTA), model.getFilteredCarparkList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywordWithTypo_carparksFound() {
+        CarparkContainsKeywordsPredicate predicate = preparePredicate("sengknag");
+        CommandResult result = new FindCommand(predicate).execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_CARPARKS_LISTED_OVERVIEW, 0), result.feedbackToUser);
+
+        result = new FindCommand(predicate, CarparkContainsKeywordsPredicate.NO_LIMIT, false, true)
+                .execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_CARPARKS_LISTED_OVERVIEW, 2), result.feedbackToUser);
+        assertEquals(Arrays.asList(BRAVO, DELTA), model.getFilteredCarparkList());
+    }
+
+    @Test
+    public void execute_lotsUpdatedAfterFind_carparkStillListed() {
+        new FindCommand(preparePredicate("sengkang sk23")).execute(model, commandHistory);
+        model.updateCarparkLots(DELTA, new LotsAvailable("1"), new TotalLots("500"));
+
+        Carpark updated = DELTA.withLots(new LotsAvailable("1"), new TotalLots("500"));
+        assertEquals(Arrays.asList(updated, BRAVO), model.getFilteredCarparkList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code CarparkContainsKeywordsPredicate}.
      */
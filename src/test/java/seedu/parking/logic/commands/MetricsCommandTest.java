@@ -0,0 +1,49 @@
+package seedu.parking.logic.commands;
+
+import static seedu.parking.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.parking.commons.core.MetricsCenter;
+import seedu.parking.logic.CommandHistory;
+import seedu.parking.model.Model;
+import seedu.parking.model.ModelManager;
+
+/**
+ * Contains integration tests (interaction with the Model) for MetricsCommand.
+ */
+public class MetricsCommandTest {
+
+    private CommandHistory commandHistory = new CommandHistory();
+    private Model model = new ModelManager();
+
+    @After
+    public void tearDown() {
+        MetricsCenter.getInstance().clear();
+    }
+
+    @Test
+    public void execute_noMetrics_showsNoMetricsMessage() {
+        MetricsCenter.getInstance().clear();
+        assertCommandSuccess(new MetricsCommand(), model, commandHistory, MetricsCenter.MESSAGE_NO_METRICS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_metricsRecorded_showsReport() {
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        metrics.clear();
+        metrics.recordCommand(FindCommand.COMMAND_WORD, 2_000_000, 4, false);
+        metrics.recordCommand(FindCommand.COMMAND_WORD, 2_000_000, 0, true);
+        metrics.recordStage("storage.save", 1_000_000, 3_000_000);
+
+        String expectedMessage = String.format(MetricsCommand.MESSAGE_SUCCESS, "Commands:"
+                + "\n  find: 2 runs, average 2.00ms, p50 2.00ms, p90 2.00ms, p99 2.00ms, max 2.00ms, 1 failed,"
+                + " average 4.0 results, max 4 results"
+                + "\nStages:"
+                + "\n  storage.save: 1 runs, average 1.00ms, p50 1.00ms, p90 1.00ms, p99 1.00ms, max 1.00ms,"
+                + " 3.0MB allocated");
+        assertCommandSuccess(new MetricsCommand(), model, commandHistory, expectedMessage, new ModelManager());
+    }
+}
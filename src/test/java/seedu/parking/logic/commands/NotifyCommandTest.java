@@ -51,7 +51,7 @@ public class NotifyCommandTest {
 
         model.getCarparkFinder().getCarparkList().stream()
                 .filter(carpark -> carpark.getCarparkNumber().equals(selectedNumber))
-                .findFirst().ifPresent(carpark -> carpark.setLots(new LotsAvailable(updateData.get(1)),
+                .findFirst().ifPresent(carpark -> model.updateCarparkLots(carpark, new LotsAvailable(updateData.get(1)),
                 new TotalLots(updateData.get(2))));
         model.commitCarparkFinder();
 
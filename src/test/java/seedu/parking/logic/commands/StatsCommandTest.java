@@ -0,0 +1,39 @@
+package seedu.parking.logic.commands;
+
+import static seedu.parking.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
+
+import org.junit.Test;
+
+import seedu.parking.logic.CommandHistory;
+import seedu.parking.model.Model;
+import seedu.parking.model.ModelManager;
+import seedu.parking.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for StatsCommand.
+ */
+public class StatsCommandTest {
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_noCarparks_showsNoCarparksMessage() {
+        Model model = new ModelManager();
+        assertCommandSuccess(new StatsCommand(), model, commandHistory, StatsCommand.MESSAGE_NO_CARPARKS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_typicalCarparks_showsStatistics() {
+        Model model = new ModelManager(getTypicalCarparkFinder(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalCarparkFinder(), new UserPrefs());
+        String expectedMessage = "Statistics of 7 car parks: 1135/2423 lots available (53.2% occupied)"
+                + "\n  SURFACE CAR PARK: 391/946 lots available (58.7% occupied)"
+                + "\n  MULTI-STOREY CAR PARK: 558/1247 lots available (55.3% occupied)"
+                + "\n  BASEMENT CAR PARK: 186/230 lots available (19.1% occupied)"
+                + "\nBusiest car parks: SE39, PP5, SK88, U25, SK23"
+                + "\nEmptiest car parks: SK23, U25, W676, SK88, PP5";
+        assertCommandSuccess(new StatsCommand(), model, commandHistory, expectedMessage, expectedModel);
+    }
+}
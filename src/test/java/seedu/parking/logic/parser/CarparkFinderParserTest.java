@@ -4,7 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND;
+import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND;
 import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_FIND_OR_FILTER_COMMAND;
 import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_HELP_OR_HISTORY_COMMAND;
 import static seedu.parking.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -23,6 +23,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.parking.logic.commands.CalculateCommand;
+import seedu.parking.logic.commands.CheapestCommand;
 import seedu.parking.logic.commands.ClearCommand;
 import seedu.parking.logic.commands.ExitCommand;
 import seedu.parking.logic.commands.FilterCommand;
@@ -30,10 +31,12 @@ import seedu.parking.logic.commands.FindCommand;
 import seedu.parking.logic.commands.HelpCommand;
 import seedu.parking.logic.commands.HistoryCommand;
 import seedu.parking.logic.commands.ListCommand;
+import seedu.parking.logic.commands.MetricsCommand;
 import seedu.parking.logic.commands.NotifyCommand;
 import seedu.parking.logic.commands.QueryCommand;
 import seedu.parking.logic.commands.RedoCommand;
 import seedu.parking.logic.commands.SelectCommand;
+import seedu.parking.logic.commands.StatsCommand;
 import seedu.parking.logic.commands.UndoCommand;
 import seedu.parking.logic.parser.exceptions.ParseException;
 import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
@@ -47,7 +50,7 @@ public class CarparkFinderParserTest {
     @Test
     public void parseCommand_ambiguous_commands() throws Exception {
         thrown.expect(ParseException.class);
-        thrown.expectMessage(MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND);
+        thrown.expectMessage(MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND);
         parser.parseCommand("c");
         thrown.expectMessage(MESSAGE_UNCERTAIN_HELP_OR_HISTORY_COMMAND);
         parser.parseCommand("h");
@@ -114,6 +117,28 @@ public class CarparkFinderParserTest {
         parser.parseCommand("lists");
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD.substring(0, 2)) instanceof StatsCommand);
+
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
+        parser.parseCommand("statistics");
+    }
+
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3") instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD.substring(0, 1)) instanceof MetricsCommand);
+
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
+        parser.parseCommand("metric5");
+    }
+
     @Test
     public void parseCommand_redoCommandWord_returnsRedoCommand() throws Exception {
         assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
@@ -240,6 +265,13 @@ public class CarparkFinderParserTest {
         parser.parseCommand("calculates TJ39 SUN 3.30AM 6.30PM");
     }
 
+    @Test
+    public void parseCommand_cheapest() throws Exception {
+        CheapestCommand expectedCommand = new CheapestCommand("SUN", 3 * 60 + 30, 18 * 60 + 30, 2);
+        assertEquals(expectedCommand, parser.parseCommand(CheapestCommand.COMMAND_WORD + " SUN 3.30AM 6.30PM top/ 2"));
+        assertEquals(expectedCommand, parser.parseCommand("ch SUN 3.30AM 6.30PM top/ 2"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -247,6 +279,19 @@ public class CarparkFinderParserTest {
         parser.parseCommand("");
     }
 
+    @Test
+    public void parseCommand_tabAfterCommandWord_splitsAtTab() throws Exception {
+        FindCommand command = (FindCommand) parser.parseCommand(FindCommand.COMMAND_WORD + "\tfoo bar");
+        assertEquals(new FindCommand(new CarparkContainsKeywordsPredicate(Arrays.asList("foo", "bar"))), command);
+    }
+
+    @Test
+    public void parseCommand_argumentsOverSeveralLines_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        parser.parseCommand(FindCommand.COMMAND_WORD + " foo\nbar");
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -0,0 +1,48 @@
+package seedu.parking.logic.parser;
+
+import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.parking.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.parking.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.parking.commons.core.Messages;
+import seedu.parking.logic.commands.CheapestCommand;
+
+public class CheapestCommandParserTest {
+
+    private CheapestCommandParser parser = new CheapestCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsCheapestCommand() {
+        assertParseSuccess(parser, "sun 9.30am 10.30pm",
+                new CheapestCommand("SUN", 9 * 60 + 30, 22 * 60 + 30, CheapestCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, " top/ 3 MON 7am 9.15AM ",
+                new CheapestCommand("MON", 7 * 60, 9 * 60 + 15, 3));
+    }
+
+    @Test
+    public void parse_invalidNumberOfArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheapestCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "sun 9.30am", expectedMessage);
+        assertParseFailure(parser, "sun 9.30am 10.30am 11.30am", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDay_throwsParseException() {
+        assertParseFailure(parser, "asd 9.30am 10.30am", Messages.MESSAGE_DAY_IS_INVALID);
+    }
+
+    @Test
+    public void parse_invalidTime_throwsParseException() {
+        assertParseFailure(parser, "sun 9.ddam 10.30am", Messages.MESSAGE_START_OR_END_TIME_HAS_INCORRECT_FORMAT);
+        assertParseFailure(parser, "sun 10.30am 9.30am", Messages.MESSAGE_END_TIME_NOT_AFTER_START_TIME);
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, "sun 9.30am 10.30am top/ 0", Messages.MESSAGE_TOP_RESULTS_IS_INVALID);
+        assertParseFailure(parser, "sun 9.30am 10.30am top/", Messages.MESSAGE_TOP_RESULTS_IS_INVALID);
+    }
+}
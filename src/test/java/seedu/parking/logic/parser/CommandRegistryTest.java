@@ -0,0 +1,72 @@
+package seedu.parking.logic.parser;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.parking.logic.commands.ClearCommand;
+import seedu.parking.logic.commands.ExitCommand;
+import seedu.parking.logic.commands.HelpCommand;
+import seedu.parking.logic.commands.HistoryCommand;
+import seedu.parking.logic.parser.exceptions.ParseException;
+import seedu.parking.testutil.Assert;
+
+public class CommandRegistryTest {
+
+    private static final String MESSAGE_AMBIGUOUS = "help or history?";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ExitCommand exitCommand = new ExitCommand();
+    private final CommandRegistry registry = new CommandRegistry()
+            .registerAmbiguous("h", MESSAGE_AMBIGUOUS)
+            .register("help", unused -> new HelpCommand())
+            .register("history", unused -> new HistoryCommand())
+            .register("exit", unused -> exitCommand)
+            .register("ex", unused -> new ClearCommand())
+            .register("exhale", unused -> new ClearCommand());
+
+    @Test
+    public void parse_commandWordOrPrefix_parserOfCommand() throws Exception {
+        assertTrue(registry.parse("help", "") instanceof HelpCommand);
+        assertTrue(registry.parse("he", "") instanceof HelpCommand);
+        assertTrue(registry.parse("hist", " 1") instanceof HistoryCommand);
+
+        // the parser is shared by every dispatch
+        assertSame(exitCommand, registry.parse("exi", ""));
+    }
+
+    @Test
+    public void parse_sharedPrefix_firstRegisteredOrExactWord() throws Exception {
+        assertSame(exitCommand, registry.parse("e", ""));
+        assertTrue(registry.parse("ex", "") instanceof ClearCommand);
+        assertTrue(registry.parse("exh", "") instanceof ClearCommand);
+    }
+
+    @Test
+    public void parse_ambiguousPrefix_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_AMBIGUOUS);
+        registry.parse("h", "");
+    }
+
+    @Test
+    public void parse_longerThanCommandWord_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
+        registry.parse("helps", "");
+    }
+
+    @Test
+    public void parse_emptyOrUnknown_throwsParseException() throws Exception {
+        Assert.assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.parse("", ""));
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
+        registry.parse("q", "");
+    }
+}
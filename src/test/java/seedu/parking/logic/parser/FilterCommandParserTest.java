@@ -88,6 +88,23 @@ public class FilterCommandParserTest {
         assertParseSuccess(parser, "s/", command);
     }
 
+    @Test
+    public void parseLotsFlags_validArgs_returnsFilterCommand() { // filter lots/ 50 occ/ 80
+        List<String> flagList = new ArrayList<>();
+        flagList.add("lots/");
+
+        FilterCommand command = new FilterCommand(flagList, null, null, null,
+                new LotsParameter(50, LotsParameter.NONE));
+        assertParseSuccess(parser, "lots/ 50", command);
+
+        flagList = new ArrayList<>();
+        flagList.add("lots/");
+        flagList.add("occ/");
+
+        command = new FilterCommand(flagList, null, null, null, new LotsParameter(50, 80));
+        assertParseSuccess(parser, "occ/ 80 lots/ 50", command);
+    }
+
     @Test
     public void parseMultipleFlags_validArgs_returnsFilterCommand() { // filter n/ f/ sun 8.30am 5.30pm ps/ coupon
         List<String> flagList = new ArrayList<>();
@@ -140,5 +157,14 @@ public class FilterCommandParserTest {
     public void parseInvalidParkingSystemType_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "ps/ asdasd", Messages.MESSAGE_PARKINGSYSTEM_TYPE_IS_INVALID);
     }
+
+    @Test
+    public void parseInvalidLots_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "lots/", Messages.MESSAGE_MIN_LOTS_IS_INVALID);
+        assertParseFailure(parser, "lots/ 0", Messages.MESSAGE_MIN_LOTS_IS_INVALID);
+        assertParseFailure(parser, "lots/ many", Messages.MESSAGE_MIN_LOTS_IS_INVALID);
+        assertParseFailure(parser, "occ/ 101", Messages.MESSAGE_OCCUPANCY_IS_INVALID);
+        assertParseFailure(parser, "occ/ -5", Messages.MESSAGE_OCCUPANCY_IS_INVALID);
+    }
 }
 
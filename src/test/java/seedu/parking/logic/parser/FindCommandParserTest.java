@@ -0,0 +1,53 @@
+package seedu.parking.logic.parser;
+
+import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.parking.commons.core.Messages.MESSAGE_TOP_RESULTS_IS_INVALID;
+import static seedu.parking.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.parking.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.parking.logic.commands.FindCommand;
+import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
+
+public class FindCommandParserTest {
+
+    private FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "top/ 5 a/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindCommand() {
+        CarparkContainsKeywordsPredicate predicate =
+                new CarparkContainsKeywordsPredicate(Arrays.asList("punggol", "sk88"));
+
+        // no leading and trailing whitespaces
+        assertParseSuccess(parser, "Punggol SK88", new FindCommand(predicate));
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Punggol \n \t SK88  \t", new FindCommand(predicate));
+
+        // limit and lots weighting in any position
+        assertParseSuccess(parser, "punggol top/ 10 sk88 a/", new FindCommand(predicate, 10, true));
+        assertParseSuccess(parser, "a/ punggol sk88", new FindCommand(predicate,
+                CarparkContainsKeywordsPredicate.NO_LIMIT, true));
+
+        // fuzzy search
+        assertParseSuccess(parser, "punggol fz/ sk88", new FindCommand(predicate,
+                CarparkContainsKeywordsPredicate.NO_LIMIT, false, true));
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        assertParseFailure(parser, "punggol top/", MESSAGE_TOP_RESULTS_IS_INVALID);
+        assertParseFailure(parser, "punggol top/ 0", MESSAGE_TOP_RESULTS_IS_INVALID);
+        assertParseFailure(parser, "punggol top/ ten", MESSAGE_TOP_RESULTS_IS_INVALID);
+    }
+}
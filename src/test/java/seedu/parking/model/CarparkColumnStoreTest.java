@@ -0,0 +1,122 @@
+package seedu.parking.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static seedu.parking.testutil.TypicalCarparks.ALFA;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.parking.model.CarparkColumnStore.Occupancy;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
+import seedu.parking.testutil.Assert;
+import seedu.parking.testutil.CarparkBuilder;
+
+public class CarparkColumnStoreTest {
+
+    private final CarparkColumnStore store = new CarparkColumnStore(getTypicalCarparks());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new CarparkColumnStore(null));
+    }
+
+    @Test
+    public void constructor_typicalCarparks_columnsMatchCarparks() {
+        assertEquals(7, store.size());
+        int index = store.indexOf("SK88");
+        assertEquals(109, store.getLotsAvailable(index));
+        assertEquals(369, store.getTotalLots(index));
+        assertEquals(32538.8707, store.getXCoord(index), 1e-9);
+        assertEquals("MULTI-STOREY CAR PARK", store.getCarparkType(index));
+        assertEquals("ELECTRONIC PARKING", store.getTypeOfParking(index));
+        assertEquals(-1, store.indexOf("Z99"));
+    }
+
+    @Test
+    public void getTotalOccupancy_typicalCarparks_sumsAllLots() {
+        assertEquals(new Occupancy(1135, 2423), store.getTotalOccupancy());
+        assertEquals(new Occupancy(0, 0), new CarparkColumnStore(Collections.emptyList()).getTotalOccupancy());
+    }
+
+    @Test
+    public void getOccupancyByType_typicalCarparks_groupsByType() {
+        Map<String, Occupancy> byType = store.getOccupancyByType();
+        assertEquals(3, byType.size());
+        assertEquals(new Occupancy(391, 946), byType.get("SURFACE CAR PARK"));
+        assertEquals(new Occupancy(558, 1247), byType.get("MULTI-STOREY CAR PARK"));
+        assertEquals(new Occupancy(186, 230), byType.get("BASEMENT CAR PARK"));
+    }
+
+    @Test
+    public void getOccupancyByArea_typicalCarparks_groupsByNumberPrefix() {
+        Map<String, Occupancy> byArea = store.getOccupancyByArea();
+        assertEquals(new Occupancy(519, 1041), byArea.get("SK"));
+        assertEquals(new Occupancy(0, 0), byArea.get("C"));
+        assertEquals(0, byArea.get("C").getPercentage(), 0);
+    }
+
+    @Test
+    public void getArea() {
+        assertEquals("SK", CarparkColumnStore.getArea("SK88"));
+        assertEquals("W", CarparkColumnStore.getArea("W676"));
+        assertEquals("-", CarparkColumnStore.getArea("123"));
+    }
+
+    @Test
+    public void getEmptiestCarparks() {
+        assertEquals(Arrays.asList("SK23", "U25", "W676"), store.getEmptiestCarparks(3));
+        assertEquals(7, store.getEmptiestCarparks(100).size());
+        assertEquals(Collections.emptyList(), store.getEmptiestCarparks(0));
+    }
+
+    @Test
+    public void updateLots_existingCarpark_adjustsAggregates() {
+        CarparkColumnStore columnStore = new CarparkColumnStore(getTypicalCarparks());
+        assertEquals(Arrays.asList("SK23", "U25"), columnStore.getEmptiestCarparks(2));
+
+        columnStore.updateLots(columnStore.indexOf("W676"), 500, 530);
+        assertEquals(new Occupancy(1449, 2723), columnStore.getTotalOccupancy());
+        assertEquals(new Occupancy(500, 530), columnStore.getOccupancyByType().get("BASEMENT CAR PARK"));
+        assertEquals(new Occupancy(500, 530), columnStore.getOccupancyByArea().get("W"));
+        assertEquals(Arrays.asList("W676", "SK23"), columnStore.getEmptiestCarparks(2));
+    }
+
+    @Test
+    public void getBusiestCarparks() {
+        assertEquals(Arrays.asList("SE39", "PP5", "SK88"), store.getBusiestCarparks(3));
+        assertEquals(Arrays.asList("SE39"), store.getBusiestCarparks(1));
+    }
+
+    @Test
+    public void getColumnStore_carparkFinderChanged_rebuildsStore() {
+        CarparkFinder carparkFinder = getTypicalCarparkFinder();
+        CarparkColumnStore first = carparkFinder.getColumnStore();
+        assertSame(first, carparkFinder.getColumnStore());
+
+        carparkFinder.removeCarpark(ALFA);
+        assertNotSame(first, carparkFinder.getColumnStore());
+        assertEquals(6, carparkFinder.getColumnStore().size());
+    }
+
+    @Test
+    public void updateCarparkLots_columnStoreBuilt_updatesStoreInPlace() {
+        CarparkFinder carparkFinder = new CarparkFinder();
+        getTypicalCarparks().forEach(carpark -> carparkFinder.addCarpark(new CarparkBuilder(carpark).build()));
+        CarparkColumnStore columnStore = carparkFinder.getColumnStore();
+        Carpark carpark = carparkFinder.getCarparkList().get(0);
+
+        carparkFinder.updateCarparkLots(carpark, new LotsAvailable("10"), new TotalLots("20"));
+        assertSame(columnStore, carparkFinder.getColumnStore());
+        assertEquals(10, columnStore.getLotsAvailable(columnStore.indexOf(carpark.getCarparkNumber().toString())));
+        assertEquals(new Occupancy(1145, 2443), columnStore.getTotalOccupancy());
+    }
+}
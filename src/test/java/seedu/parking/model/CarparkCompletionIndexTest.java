@@ -0,0 +1,73 @@
+package seedu.parking.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.testutil.CarparkBuilder;
+
+public class CarparkCompletionIndexTest {
+
+    @Test
+    public void complete_typicalCarparks_mostCommonWordsFirst() {
+        CarparkCompletionIndex index = new CarparkCompletionIndex(getTypicalCarparks());
+
+        // two car parks are on a "WAY" in Sengkang, block numbers are left out
+        assertEquals(Arrays.asList("sengkang", "se39", "serangoon"), index.complete("SE", 10));
+        assertEquals(Arrays.asList("sk23", "sk88"), index.complete("sk", 10));
+        assertEquals(Collections.singletonList("sengkang"), index.complete("se", 1));
+        assertTrue(index.complete("451", 10).isEmpty());
+    }
+
+    @Test
+    public void completeCarparkNumber_typicalCarparks_onlyCarparkNumbers() {
+        CarparkCompletionIndex index = new CarparkCompletionIndex(getTypicalCarparks());
+
+        assertEquals(Collections.singletonList("se39"), index.completeCarparkNumber("SE", 10));
+        assertEquals(Arrays.asList("sk23", "sk88"), index.completeCarparkNumber("sk", 10));
+        assertTrue(index.completeCarparkNumber("sengkang", 10).isEmpty());
+    }
+
+    @Test
+    public void update_carparksChanged_onlyTheirWordsChanged() {
+        List<Carpark> carparks = getTypicalCarparks();
+        CarparkCompletionIndex index = new CarparkCompletionIndex(carparks);
+        int size = index.size();
+        int bravoIndex = carparks.indexOf(BRAVO);
+
+        // reloading the same car parks with other lots changes nothing
+        carparks.set(bravoIndex, new CarparkBuilder(BRAVO).withLotsAvailable("0").build());
+        index.update(carparks);
+        assertEquals(size, index.size());
+        assertEquals(Arrays.asList("sengkang", "se39", "serangoon"), index.complete("se", 10));
+
+        carparks.set(bravoIndex, new CarparkBuilder(BRAVO).withAddress("BLK 1 PUNGGOL WAY").build());
+        carparks.remove(DELTA);
+        index.update(carparks);
+        assertEquals(Arrays.asList("se39", "serangoon"), index.complete("se", 10));
+        assertEquals(Collections.singletonList("sk88"), index.complete("sk", 10));
+        assertEquals(Collections.singletonList("sk88"), index.completeCarparkNumber("sk", 10));
+        assertEquals(Collections.singletonList("punggol"), index.complete("pun", 10));
+    }
+
+    @Test
+    public void modelManager_carparksLoaded_completionsUpdated() {
+        ModelManager modelManager = new ModelManager(getTypicalCarparkFinder(), new UserPrefs());
+        assertEquals(Collections.singletonList("woodlands"), modelManager.getCarparkCompletionIndex()
+                .complete("wood", 10));
+
+        modelManager.loadCarpark(Collections.singletonList(BRAVO));
+        assertTrue(modelManager.getCarparkCompletionIndex().complete("wood", 10).isEmpty());
+        assertEquals(Collections.singletonList("sk88"), modelManager.getCarparkCompletionIndex().complete("s", 1));
+    }
+}
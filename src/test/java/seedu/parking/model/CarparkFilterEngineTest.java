@@ -0,0 +1,80 @@
+package seedu.parking.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
+import static seedu.parking.testutil.TypicalCarparks.KEYWORD_MATCHING_SENGKANG;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparks;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
+import seedu.parking.model.carpark.CarparkFilteringPredicate;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+public class CarparkFilterEngineTest {
+
+    @Test
+    public void filter_smallList_matchesInListOrder() {
+        CarparkContainsKeywordsPredicate predicate =
+                new CarparkContainsKeywordsPredicate(Collections.singletonList(KEYWORD_MATCHING_SENGKANG));
+        assertEquals(Arrays.asList(BRAVO, DELTA), CarparkFilterEngine.filter(getTypicalCarparks(), predicate));
+    }
+
+    @Test
+    public void match_noMatches_emptySet() {
+        BitSet matches = CarparkFilterEngine.match(getTypicalCarparks(), unused -> false);
+        assertTrue(matches.isEmpty());
+        assertTrue(CarparkFilterEngine.select(getTypicalCarparks(), matches).isEmpty());
+    }
+
+    @Test
+    public void match_candidates_onlyCandidatesTested() {
+        List<Carpark> carparks = new SyntheticCarparkGenerator().generate(CarparkFilterEngine.PARALLEL_THRESHOLD * 3);
+        BitSet candidates = new BitSet();
+        for (int i = 0; i < carparks.size(); i += 3) {
+            candidates.set(i);
+        }
+        AtomicInteger testCount = new AtomicInteger();
+
+        BitSet matches = CarparkFilterEngine.match(carparks, carpark -> testCount.incrementAndGet() > 0,
+                candidates);
+        assertEquals(candidates, matches);
+        assertEquals(candidates.cardinality(), testCount.get());
+    }
+
+    @Test
+    public void filter_largeList_sameAsSequentialFilter() {
+        List<Carpark> carparks = new SyntheticCarparkGenerator().generate(CarparkFilterEngine.PARALLEL_THRESHOLD * 3);
+        CarparkFilteringPredicate predicate = new CarparkFilteringPredicate(Arrays.asList("sengkang", "bedok"),
+                Arrays.asList("a/", "n/"), null, null, null);
+
+        assertEquals(carparks.stream().filter(predicate).collect(Collectors.toList()),
+                CarparkFilterEngine.filter(carparks, predicate));
+        assertEquals(carparks.size(), CarparkFilterEngine.match(carparks, unused -> true).cardinality());
+    }
+
+    @Test
+    public void match_largeListNotMultipleOfWordSize_everyPositionTested() {
+        int size = CarparkFilterEngine.PARALLEL_THRESHOLD * 3 + 37;
+        List<Carpark> carparks = new SyntheticCarparkGenerator().generate(size);
+        BitSet expected = new BitSet();
+        for (int i = 0; i < size; i += 7) {
+            expected.set(i);
+        }
+        expected.set(size - 1);
+        List<Carpark> expectedCarparks = CarparkFilterEngine.select(carparks, expected);
+
+        BitSet matches = CarparkFilterEngine.match(carparks, expectedCarparks::contains);
+        assertEquals(expected, matches);
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.parking.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
+import static seedu.parking.testutil.TypicalCarparks.KEYWORD_MATCHING_SENGKANG;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparks;
+
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.parking.logic.parser.FreeParkingParameter;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
+import seedu.parking.model.carpark.CarparkFilteringPredicate;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
+import seedu.parking.testutil.CarparkBuilder;
+import seedu.parking.testutil.CarparkFinderBuilder;
+
+public class CarparkQueryCacheTest {
+
+    private final List<Carpark> carparks = getTypicalCarparks();
+
+    @Test
+    public void get_sameKeywordsInAnotherOrderAndCase_hit() {
+        CarparkQueryCache cache = new CarparkQueryCache();
+        BitSet matches = new BitSet();
+        cache.put(find("sengkang", "bedok"), 1, matches);
+
+        assertSame(matches, cache.get(find("BEDOK", "sengkang"), 1));
+        assertNull(cache.get(find("sengkang"), 1));
+        assertNull(cache.get(find("sengkang", "bedok"), 2));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void put_moreThanMaxEntries_leastRecentlyUsedDropped() {
+        CarparkQueryCache cache = new CarparkQueryCache(2, CarparkQueryCache.DEFAULT_MAX_BYTES);
+        cache.put(find("a"), 1, new BitSet());
+        cache.put(find("b"), 1, new BitSet());
+        cache.get(find("a"), 1);
+        cache.put(find("c"), 1, new BitSet());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(find("a"), 1));
+        assertNull(cache.get(find("b"), 1));
+    }
+
+    @Test
+    public void put_moreThanMaxBytes_entriesDropped() {
+        BitSet large = new BitSet(64 * 1024);
+        large.set(64 * 1024 - 1);
+        CarparkQueryCache cache = new CarparkQueryCache(CarparkQueryCache.DEFAULT_MAX_ENTRIES, 12 * 1024);
+        cache.put(find("a"), 1, large);
+        cache.put(find("b"), 1, large);
+
+        assertEquals(1, cache.size());
+        assertNull(cache.get(find("a"), 1));
+
+        // larger than the whole bound, so never stored
+        cache.put(find("c"), 1, new BitSet(1024 * 1024));
+        assertNull(cache.get(find("c"), 1));
+    }
+
+    @Test
+    public void getNarrowestRefined_findAndFilterCached_narrowestReturned() {
+        CarparkQueryCache cache = new CarparkQueryCache();
+        CarparkFilteringPredicate available = filter("a/");
+        BitSet found = CarparkFilterEngine.match(carparks, find(KEYWORD_MATCHING_SENGKANG));
+        BitSet availableMatches = CarparkFilterEngine.match(carparks, available);
+        availableMatches.clear(availableMatches.nextSetBit(0));
+        cache.put(find(KEYWORD_MATCHING_SENGKANG), 1, found);
+        cache.put(available, 1, availableMatches);
+
+        assertSame(availableMatches, cache.getNarrowestRefined(filter("n/", "a/"), 1));
+        assertSame(found, cache.getNarrowestRefined(filter("n/"), 1));
+        assertNull(cache.getNarrowestRefined(filter("n/"), 2));
+    }
+
+    @Test
+    public void modelManager_filtersNarrowingFind_sameAsFullScan() {
+        ModelManager modelManager = new ModelManager(getTypicalCarparkFinder(), new UserPrefs());
+        modelManager.getMatchingCarparks(find(KEYWORD_MATCHING_SENGKANG));
+        for (CarparkFilteringPredicate filter : Arrays.asList(filter("n/"), filter("n/", "a/"),
+                filter("a/", "n/", "s/"), filter("a/"))) {
+            assertEquals(CarparkFilterEngine.filter(carparks, filter), modelManager.getMatchingCarparks(filter));
+        }
+    }
+
+    @Test
+    public void updateLots_staticEntry_keptAsItIs() {
+        CarparkQueryCache cache = new CarparkQueryCache();
+        BitSet matches = CarparkFilterEngine.match(carparks, find(KEYWORD_MATCHING_SENGKANG));
+        cache.put(find(KEYWORD_MATCHING_SENGKANG), 1, matches);
+        int position = carparks.indexOf(BRAVO);
+
+        cache.updateLots(1, 2, position, BRAVO.withLots(new LotsAvailable("0"), new TotalLots("369")));
+
+        assertSame(matches, cache.get(find(KEYWORD_MATCHING_SENGKANG), 2));
+        assertNull(cache.get(find(KEYWORD_MATCHING_SENGKANG), 1));
+    }
+
+    @Test
+    public void updateLots_availabilityEntry_changedCarparkTestedAgain() {
+        CarparkQueryCache cache = new CarparkQueryCache();
+        CarparkFilteringPredicate available = new CarparkFilteringPredicate(
+                Collections.singletonList(KEYWORD_MATCHING_SENGKANG), Arrays.asList("a/"), null, null, null);
+        BitSet matches = CarparkFilterEngine.match(carparks, available);
+        cache.put(available, 1, matches);
+        cache.put(find("stale"), 0, new BitSet());
+        int position = carparks.indexOf(BRAVO);
+
+        cache.updateLots(1, 2, position, BRAVO.withLots(new LotsAvailable("0"), new TotalLots("369")));
+
+        BitSet updated = cache.get(available, 2);
+        assertFalse(updated.get(position));
+        assertTrue(updated.get(carparks.indexOf(DELTA)));
+        // readers of the old set are not affected
+        assertTrue(matches.get(position));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void modelManager_lotsUpdated_cachedFilterStaysCorrect() {
+        ModelManager modelManager = new ModelManager(getTypicalCarparkFinder(), new UserPrefs());
+        CarparkFilteringPredicate available = new CarparkFilteringPredicate(
+                Collections.singletonList(KEYWORD_MATCHING_SENGKANG), Arrays.asList("a/"), null, null, null);
+        assertEquals(Arrays.asList(BRAVO, DELTA), modelManager.getMatchingCarparks(available));
+
+        modelManager.updateCarparkLots(BRAVO, new LotsAvailable("0"), new TotalLots("369"));
+
+        assertEquals(Collections.singletonList(DELTA), modelManager.getMatchingCarparks(available));
+        assertEquals(1, modelManager.getQueryCache().getHitCount());
+    }
+
+    @Test
+    public void get_entryWithParseFailure_failureNotedByPredicate() {
+        CarparkQueryCache cache = new CarparkQueryCache();
+        CarparkFilteringPredicate available = filter("a/");
+        available.recordParseFailure();
+        cache.put(available, 1, new BitSet());
+        BitSet found = new BitSet();
+        found.set(0);
+        cache.put(find(KEYWORD_MATCHING_SENGKANG), 1, found);
+
+        CarparkFilteringPredicate repeated = filter("a/");
+        assertNotNull(cache.get(repeated, 1));
+        assertTrue(repeated.hasParseFailure());
+
+        CarparkFilteringPredicate refined = filter("n/", "a/");
+        assertNotNull(cache.getNarrowestRefined(refined, 1));
+        assertTrue(refined.hasParseFailure());
+
+        // refines only the find, which had no failure
+        CarparkFilteringPredicate nightParking = filter("n/");
+        assertNotNull(cache.getNarrowestRefined(nightParking, 1));
+        assertFalse(nightParking.hasParseFailure());
+    }
+
+    @Test
+    public void modelManager_repeatedFilterWithUnreadableFreeParking_failureNotedAgain() throws Exception {
+        Carpark unreadable = new CarparkBuilder(BRAVO).withFreeParking("SUN & PH FR SOMETIMES").build();
+        ModelManager modelManager = new ModelManager(new CarparkFinderBuilder().withCarpark(unreadable).build(),
+                new UserPrefs());
+
+        CarparkFilteringPredicate first = freeParkingFilter();
+        modelManager.getMatchingCarparks(first);
+        assertTrue(first.hasParseFailure());
+
+        CarparkFilteringPredicate repeated = freeParkingFilter();
+        modelManager.getMatchingCarparks(repeated);
+        assertEquals(1, modelManager.getQueryCache().getHitCount());
+        assertTrue(repeated.hasParseFailure());
+    }
+
+    private static CarparkFilteringPredicate freeParkingFilter() throws Exception {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("hh.mmaa");
+        FreeParkingParameter freeParking = new FreeParkingParameter("SUN", dateFormat.parse("8.30am"),
+                dateFormat.parse("5.30pm"));
+        return new CarparkFilteringPredicate(Collections.singletonList(KEYWORD_MATCHING_SENGKANG),
+                Collections.singletonList("f/"), freeParking, null, null);
+    }
+
+    private static CarparkFilteringPredicate filter(String... flags) {
+        return new CarparkFilteringPredicate(Collections.singletonList(KEYWORD_MATCHING_SENGKANG),
+                Arrays.asList(flags), null, null, null);
+    }
+
+    private static CarparkContainsKeywordsPredicate find(String... keywords) {
+        return new CarparkContainsKeywordsPredicate(Arrays.asList(keywords));
+    }
+}
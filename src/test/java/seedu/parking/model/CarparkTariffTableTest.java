@@ -0,0 +1,118 @@
+package seedu.parking.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.testutil.TypicalCarparks.CHARLIE;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
+import static seedu.parking.testutil.TypicalCarparks.ECHO;
+import static seedu.parking.testutil.TypicalCarparks.FOXTROT;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparks;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.parking.model.CarparkTariffTable.Quote;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
+import seedu.parking.testutil.Assert;
+import seedu.parking.testutil.SyntheticCarparkGenerator;
+
+public class CarparkTariffTableTest {
+
+    private static final int SIX_AM = 6 * 60;
+    private static final int NINE_AM = 9 * 60;
+    private static final int NINE_THIRTY_AM = 9 * 60 + 30;
+    private static final int FIVE_PM = 17 * 60;
+
+    private final List<Carpark> carparks = getTypicalCarparks();
+    private final CarparkTariffTable table = new CarparkTariffTable(carparks);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new CarparkTariffTable(null));
+    }
+
+    @Test
+    public void parseMinuteOfDay() {
+        assertEquals(7 * 60, CarparkTariffTable.parseMinuteOfDay("7AM"));
+        assertEquals(22 * 60 + 30, CarparkTariffTable.parseMinuteOfDay("10.30PM"));
+        assertEquals(NINE_THIRTY_AM, CarparkTariffTable.parseMinuteOfDay("9.30am"));
+        assertEquals(0, CarparkTariffTable.parseMinuteOfDay("12AM"));
+        assertEquals(12 * 60 + 5, CarparkTariffTable.parseMinuteOfDay("12.05pm"));
+
+        assertEquals(CarparkTariffTable.NONE, CarparkTariffTable.parseMinuteOfDay("13.00PM"));
+        assertEquals(CarparkTariffTable.NONE, CarparkTariffTable.parseMinuteOfDay("9.60am"));
+        assertEquals(CarparkTariffTable.NONE, CarparkTariffTable.parseMinuteOfDay("9.ddam"));
+        assertEquals(CarparkTariffTable.NONE, CarparkTariffTable.parseMinuteOfDay("WHOLE DAY"));
+        assertEquals(CarparkTariffTable.NONE, CarparkTariffTable.parseMinuteOfDay(""));
+    }
+
+    @Test
+    public void getCostInCents_weekday_chargedForEveryHalfHour() {
+        // 7.5 hours, as in calculate SK88 mon 9.30am 5.00pm
+        assertEquals(900, table.getCostInCents(table.indexOf("SK88"), false, NINE_THIRTY_AM, FIVE_PM));
+        assertEquals(60, table.getCostInCents(table.indexOf("SK88"), false, NINE_AM, NINE_AM + 1));
+    }
+
+    @Test
+    public void getCostInCents_sunday_freeParkingHoursNotCharged() {
+        assertEquals(120, table.getCostInCents(table.indexOf("U25"), true, SIX_AM, NINE_AM));
+        assertEquals(0, table.getCostInCents(table.indexOf("U25"), true, NINE_AM, FIVE_PM));
+        // no free parking at SK88
+        assertEquals(360, table.getCostInCents(table.indexOf("SK88"), true, SIX_AM, NINE_AM));
+    }
+
+    @Test
+    public void getCostInCents_outsideShortTermParking_none() {
+        assertEquals(CarparkTariffTable.NONE, table.getCostInCents(table.indexOf("PP5"), false, NINE_AM, FIVE_PM));
+        assertEquals(CarparkTariffTable.NONE, table.getCostInCents(table.indexOf("SE39"), false, SIX_AM, NINE_AM));
+        assertEquals(900, table.getCostInCents(table.indexOf("SE39"), false, NINE_THIRTY_AM, FIVE_PM));
+    }
+
+    @Test
+    public void findCheapest_sundayMorning_cheapestWithLotsFirst() {
+        // C7 has no lots, PP5 has no short-term parking and SE39 only opens at 7am
+        List<Quote> quotes = table.findCheapest(carparks, true, SIX_AM, NINE_AM, 3);
+        assertEquals(Arrays.asList(new Quote(CHARLIE, 120), new Quote(DELTA, 120), new Quote(BRAVO, 360)), quotes);
+
+        assertEquals(4, table.findCheapest(carparks, true, SIX_AM, NINE_AM, 10).size());
+        assertTrue(table.findCheapest(carparks, true, SIX_AM, NINE_AM, 0).isEmpty());
+        assertTrue(table.findCheapest(Arrays.asList(ECHO, FOXTROT), true, SIX_AM, NINE_AM, 3).isEmpty());
+    }
+
+    @Test
+    public void findCheapest_largeList_sameAsCostOfEachCarpark() {
+        List<Carpark> generated = new SyntheticCarparkGenerator().generate(10000);
+        CarparkTariffTable largeTable = new CarparkTariffTable(generated);
+        List<Quote> quotes = largeTable.findCheapest(generated, true, SIX_AM, FIVE_PM, 50);
+
+        for (int i = 0; i < quotes.size(); i++) {
+            Quote quote = quotes.get(i);
+            int index = largeTable.indexOf(quote.getCarpark().getCarparkNumber().toString());
+            assertEquals(largeTable.getCostInCents(index, true, SIX_AM, FIVE_PM), quote.getCostInCents());
+            assertTrue(i == 0 || quotes.get(i - 1).getCostInCents() <= quote.getCostInCents());
+        }
+        int cheapest = quotes.isEmpty() ? Integer.MAX_VALUE : quotes.get(0).getCostInCents();
+        for (int i = 0; i < generated.size(); i++) {
+            int cost = largeTable.getCostInCents(i, true, SIX_AM, FIVE_PM);
+            assertTrue(cost == CarparkTariffTable.NONE || cost >= cheapest
+                    || generated.get(i).getLotsAvailable().toString().equals("0"));
+        }
+    }
+
+    @Test
+    public void getTariffTable_lotsUpdated_tableKept() {
+        CarparkFinder carparkFinder = getTypicalCarparkFinder();
+        CarparkTariffTable first = carparkFinder.getTariffTable();
+        carparkFinder.updateCarparkLots(BRAVO, new LotsAvailable("0"), new TotalLots("369"));
+        assertTrue(first == carparkFinder.getTariffTable());
+
+        carparkFinder.removeCarpark(DELTA);
+        assertTrue(first != carparkFinder.getTariffTable());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.parking.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparks;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class CarparkTokenIndexTest {
+
+    private final CarparkTokenIndex tokenIndex = new CarparkTokenIndex(getTypicalCarparks());
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, CarparkTokenIndex.getMaxDistance("pp"));
+        assertEquals(1, CarparkTokenIndex.getMaxDistance("bedok"));
+        assertEquals(2, CarparkTokenIndex.getMaxDistance("sengkang"));
+    }
+
+    @Test
+    public void findSimilar_typoInAddressWord_returnsWord() {
+        assertEquals(Collections.singletonList("sengkang"), tokenIndex.findSimilar("SENGKNG"));
+        assertEquals(Collections.singletonList("serangoon"), tokenIndex.findSimilar("serangon"));
+    }
+
+    @Test
+    public void findSimilar_typoInCarparkNumber_returnsNumber() {
+        assertTrue(tokenIndex.findSimilar("se38").contains("se39"));
+    }
+
+    @Test
+    public void findSimilar_blockNumbers_notIndexed() {
+        assertTrue(tokenIndex.findSimilar("451").isEmpty());
+    }
+}
@@ -1,21 +1,30 @@
 package seedu.parking.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.parking.model.Model.PREDICATE_SHOW_ALL_CARPARK;
 import static seedu.parking.testutil.TypicalCarparks.ALFA;
 import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
 
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import seedu.parking.model.carpark.Carpark;
 import seedu.parking.model.carpark.CarparkContainsKeywordsPredicate;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.TotalLots;
 import seedu.parking.testutil.CarparkFinderBuilder;
 
 public class ModelManagerTest {
@@ -47,6 +56,87 @@ public class ModelManagerTest {
         modelManager.getFilteredCarparkList().remove(0);
     }
 
+    @Test
+    public void getSnapshot_carparkFinderChanged_newerSnapshotPublished() {
+        CarparkSnapshot first = modelManager.getSnapshot();
+        modelManager.addCarpark(ALFA);
+        CarparkSnapshot second = modelManager.getSnapshot();
+
+        assertTrue(second.getVersion() > first.getVersion());
+        assertTrue(first.getCarparkList().isEmpty());
+        assertEquals(Arrays.asList(ALFA), second.getCarparkList());
+        assertEquals(Arrays.asList(ALFA), modelManager.getFilteredCarparkList());
+    }
+
+    @Test
+    public void updateCarparkLots_carparkInSnapshot_olderSnapshotUnchanged() {
+        modelManager.addCarpark(ALFA);
+        CarparkSnapshot before = modelManager.getSnapshot();
+        Carpark carpark = before.getCarpark(ALFA.getCarparkNumber().value);
+
+        modelManager.updateCarparkLots(carpark, new LotsAvailable("1"), new TotalLots("2"));
+
+        assertEquals(ALFA.getLotsAvailable(), before.getCarpark(ALFA.getCarparkNumber().value).getLotsAvailable());
+        Carpark updated = modelManager.getSnapshot().getCarpark(ALFA.getCarparkNumber().value);
+        assertNotSame(carpark, updated);
+        assertEquals(new LotsAvailable("1"), updated.getLotsAvailable());
+        assertEquals(updated, modelManager.getFilteredCarparkList().get(0));
+    }
+
+    @Test
+    public void updateCarparkLots_olderCopyOfCarpark_currentCarparkUpdated() {
+        modelManager.addCarpark(ALFA);
+        modelManager.updateCarparkLots(ALFA, new LotsAvailable("1"), new TotalLots("2"));
+
+        // ALFA still has its original lots, so it is no longer equal to the car park in the model
+        modelManager.updateCarparkLots(ALFA, new LotsAvailable("3"), new TotalLots("4"));
+        Carpark updated = modelManager.getSnapshot().getCarpark(ALFA.getCarparkNumber().value);
+        assertEquals(new LotsAvailable("3"), updated.getLotsAvailable());
+        assertEquals(1, modelManager.getSnapshot().getCarparkList().size());
+    }
+
+    @Test
+    public void updateCarparkLots_carparkNotInModel_nothingChanged() {
+        modelManager.addCarpark(ALFA);
+        CarparkSnapshot before = modelManager.getSnapshot();
+
+        modelManager.updateCarparkLots(BRAVO, new LotsAvailable("1"), new TotalLots("2"));
+        assertSame(before, modelManager.getSnapshot());
+    }
+
+    @Test
+    public void updateCarparkLots_carparkShown_onlyThatCarparkReplaced() {
+        modelManager = new ModelManager(new CarparkFinderBuilder().withCarpark(ALFA).withCarpark(BRAVO).build(),
+                new UserPrefs());
+        int[] changedCounts = listenForChanges(modelManager);
+
+        modelManager.updateCarparkLots(BRAVO, new LotsAvailable("1"), new TotalLots("2"));
+
+        assertEquals(Arrays.asList(ALFA, BRAVO.withLots(new LotsAvailable("1"), new TotalLots("2"))),
+                modelManager.getFilteredCarparkList());
+        assertEquals(1, changedCounts[0]);
+        assertEquals(1, changedCounts[1]);
+    }
+
+    @Test
+    public void updateCarparkLots_carparkNoLongerPasses_onlyThatCarparkRemoved() {
+        modelManager = new ModelManager(new CarparkFinderBuilder().withCarpark(BRAVO).withCarpark(DELTA).build(),
+                new UserPrefs());
+        modelManager.updateFilteredCarparkList(carpark -> carpark.getLotsAvailable().getCount() > 0);
+        int[] changedCounts = listenForChanges(modelManager);
+
+        modelManager.updateCarparkLots(BRAVO, new LotsAvailable("0"), new TotalLots("2"));
+
+        assertEquals(Collections.singletonList(DELTA), modelManager.getFilteredCarparkList());
+        assertEquals(1, changedCounts[0]);
+        assertEquals(0, changedCounts[1]);
+
+        // a car park that now passes is put in its place by showing the whole list again
+        modelManager.updateCarparkLots(BRAVO, new LotsAvailable("1"), new TotalLots("2"));
+        assertEquals(Arrays.asList(BRAVO.withLots(new LotsAvailable("1"), new TotalLots("2")), DELTA),
+                modelManager.getFilteredCarparkList());
+    }
+
     @Test
     public void equals() {
         CarparkFinder carparkFinder = new CarparkFinderBuilder().withCarpark(ALFA).withCarpark(BRAVO).build();
@@ -85,4 +175,19 @@ public class ModelManagerTest {
         differentUserPrefs.setCarparkFinderFilePath(Paths.get("differentFilePath"));
         assertTrue(modelManager.equals(new ModelManager(carparkFinder, differentUserPrefs)));
     }
+
+    /**
+     * Returns the numbers of car parks removed from and added to the filtered list of {@code model}, counted from
+     * now on.
+     */
+    private static int[] listenForChanges(Model model) {
+        int[] changedCounts = new int[2];
+        model.getFilteredCarparkList().addListener((ListChangeListener<Carpark>) change -> {
+            while (change.next()) {
+                changedCounts[0] += change.getRemovedSize();
+                changedCounts[1] += change.getAddedSize();
+            }
+        });
+        return changedCounts;
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.parking.model.carpark;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -41,6 +42,18 @@ public class CarparkContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void refines() {
+        CarparkContainsKeywordsPredicate sengkang = new CarparkContainsKeywordsPredicate(Arrays.asList("SENGKANG"));
+        CarparkContainsKeywordsPredicate sengkangBedok =
+                new CarparkContainsKeywordsPredicate(Arrays.asList("bedok", "sengkang"));
+
+        // any keyword matches, so fewer keywords pass fewer car parks
+        assertTrue(sengkang.refines(sengkangBedok));
+        assertTrue(sengkang.refines(new CarparkContainsKeywordsPredicate(Arrays.asList("sengkang"))));
+        assertFalse(sengkangBedok.refines(sengkang));
+    }
+
     @Test
     public void test_carparkNumberContainsKeywords_returnsTrue() {
         // One keyword
@@ -80,4 +93,49 @@ public class CarparkContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new CarparkBuilder().withCarparkType("SURFACE CAR PARK")
                 .withFreeParking("SUN & PH FR 7AM-10.30PM").withAddress("BLK 347 ANG MO KIO AVENUE 3").build()));
     }
+
+    @Test
+    public void getRelevance_exactBeforeWordBeforePartial() {
+        CarparkContainsKeywordsPredicate predicate = new CarparkContainsKeywordsPredicate(
+                Collections.singletonList("a1"));
+        long exact = predicate.getRelevance(new CarparkBuilder().withCarparkNumber("A1").build());
+        long word = predicate.getRelevance(new CarparkBuilder().withCarparkNumber("Z9")
+                .withAddress("BLK A1 KENT ROAD").build());
+        long partial = predicate.getRelevance(new CarparkBuilder().withCarparkNumber("A10").build());
+
+        assertTrue(exact > word);
+        assertTrue(word > partial);
+        assertTrue(partial > 0);
+        assertEquals(0, predicate.getRelevance(new CarparkBuilder().withCarparkNumber("Z9").build()));
+    }
+
+    @Test
+    public void rank_mixedMatches_returnsMostRelevantFirst() {
+        Carpark partial = new CarparkBuilder().withCarparkNumber("A10").withAddress("BLK 1 KENT ROAD").build();
+        Carpark word = new CarparkBuilder().withCarparkNumber("Z9").withAddress("BLK A1 KENT ROAD").build();
+        Carpark exact = new CarparkBuilder().withCarparkNumber("A1").withAddress("BLK 2 KENT ROAD").build();
+        Carpark none = new CarparkBuilder().withCarparkNumber("Z8").withAddress("BLK 3 KENT ROAD").build();
+        List<Carpark> carparks = Arrays.asList(partial, none, word, exact);
+        CarparkContainsKeywordsPredicate predicate = new CarparkContainsKeywordsPredicate(
+                Collections.singletonList("a1"));
+
+        assertEquals(Arrays.asList(exact, word, partial),
+                predicate.rank(carparks, CarparkContainsKeywordsPredicate.NO_LIMIT, false));
+        assertEquals(Arrays.asList(exact, word), predicate.rank(carparks, 2, false));
+        assertEquals(Collections.emptyList(), predicate.rank(Collections.emptyList(), 2, false));
+    }
+
+    @Test
+    public void rank_equallyRelevant_keepsListOrderUnlessWeightedByLots() {
+        Carpark fewLots = new CarparkBuilder().withCarparkNumber("A10").withLotsAvailable("5").build();
+        Carpark manyLots = new CarparkBuilder().withCarparkNumber("A11").withLotsAvailable("50").build();
+        List<Carpark> carparks = Arrays.asList(fewLots, manyLots);
+        CarparkContainsKeywordsPredicate predicate = new CarparkContainsKeywordsPredicate(
+                Collections.singletonList("a1"));
+
+        assertEquals(carparks, predicate.rank(carparks, CarparkContainsKeywordsPredicate.NO_LIMIT, false));
+        assertEquals(Arrays.asList(manyLots, fewLots),
+                predicate.rank(carparks, CarparkContainsKeywordsPredicate.NO_LIMIT, true));
+        assertEquals(Collections.singletonList(manyLots), predicate.rank(carparks, 1, true));
+    }
 }
@@ -1,11 +1,14 @@
 package seedu.parking.model.carpark;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -13,6 +16,7 @@ import org.junit.Test;
 
 import seedu.parking.logic.parser.CarparkTypeParameter;
 import seedu.parking.logic.parser.FreeParkingParameter;
+import seedu.parking.logic.parser.LotsParameter;
 import seedu.parking.logic.parser.ParkingSystemTypeParameter;
 import seedu.parking.testutil.CarparkBuilder;
 
@@ -57,6 +61,41 @@ public class CarparkFilteringPredicateTest {
 
         // different car park -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // same values in another order -> returns true, and neither list is reordered
+        List<String> reorderedFlagList = Arrays.asList("ps/", "n/", "ct/");
+        CarparkFilteringPredicate reorderedPredicate = new CarparkFilteringPredicate(firstLocationKeywords,
+                reorderedFlagList, freeParking, carparkType, firstParkingSystem);
+        assertTrue(firstPredicate.equals(reorderedPredicate));
+        assertEquals(Arrays.asList("n/", "ct/", "ps/"), flagList);
+        assertEquals(Arrays.asList("ps/", "n/", "ct/"), reorderedFlagList);
+    }
+
+    @Test
+    public void refines() {
+        List<String> keywords = Collections.singletonList("sengkang");
+        CarparkFilteringPredicate available = new CarparkFilteringPredicate(keywords, Arrays.asList("a/"),
+                null, null, null);
+        CarparkFilteringPredicate availableCovered = new CarparkFilteringPredicate(keywords,
+                Arrays.asList("ct/", "a/"), null, new CarparkTypeParameter("COVERED"), null);
+        CarparkFilteringPredicate covered = new CarparkFilteringPredicate(keywords, Arrays.asList("ct/"),
+                null, new CarparkTypeParameter("COVERED"), null);
+        CarparkFilteringPredicate basement = new CarparkFilteringPredicate(keywords, Arrays.asList("ct/", "a/"),
+                null, new CarparkTypeParameter("BASEMENT"), null);
+
+        // the find of the same keywords -> returns true
+        assertTrue(available.refines(new CarparkContainsKeywordsPredicate(Arrays.asList("SENGKANG"))));
+        assertFalse(available.refines(new CarparkContainsKeywordsPredicate(Arrays.asList("bedok"))));
+
+        // more flags -> returns true
+        assertTrue(availableCovered.refines(available));
+        assertTrue(availableCovered.refines(covered));
+
+        // fewer flags -> returns false
+        assertFalse(available.refines(availableCovered));
+
+        // same flag with another parameter -> returns false
+        assertFalse(basement.refines(covered));
     }
 
     @Test
@@ -84,6 +123,23 @@ public class CarparkFilteringPredicateTest {
                 .withAddress("BLK 451 SENGKANG WEST WAY").build()));
     }
 
+    @Test
+    public void test_unreadableFreeParking_parseFailureNoted() throws Exception {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("hh.mmaa");
+        FreeParkingParameter freeParking = new FreeParkingParameter("SUN", dateFormat.parse("8.30am"),
+                dateFormat.parse("5.30pm"));
+        CarparkFilteringPredicate predicate = new CarparkFilteringPredicate(Collections.singletonList("sengkang"),
+                Collections.singletonList("f/"), freeParking, null, null);
+
+        assertTrue(predicate.test(new CarparkBuilder().withFreeParking("SUN & PH FR 7AM-10.30PM")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build()));
+        assertFalse(predicate.hasParseFailure());
+
+        predicate.test(new CarparkBuilder().withFreeParking("SUN & PH FR SOMETIMES")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build());
+        assertTrue(predicate.hasParseFailure());
+    }
+
     @Test
     public void test_hasNightParking_returnsTrue() {
         List<String> locationKeywords = new ArrayList<>();
@@ -272,6 +328,66 @@ public class CarparkFilteringPredicateTest {
                 .withAddress("BLK 451 SENGKANG WEST WAY").build()));
     }
 
+    @Test
+    public void test_hasEnoughLots() {
+        List<String> locationKeywords = new ArrayList<>();
+        locationKeywords.add("sengkang");
+
+        List<String> flagList = new ArrayList<>();
+        flagList.add("lots/");
+
+        CarparkFilteringPredicate predicate = new CarparkFilteringPredicate(locationKeywords, flagList,
+                null, null, null, new LotsParameter(50, LotsParameter.NONE));
+
+        assertTrue(predicate.test(new CarparkBuilder().withLotsAvailable("50")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build()));
+        assertFalse(predicate.test(new CarparkBuilder().withLotsAvailable("49")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build()));
+        assertTrue(predicate.test(new CarparkBuilder().withLotsAvailable("124293842033123")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build()));
+    }
+
+    @Test
+    public void test_isBelowOccupancy() {
+        List<String> locationKeywords = new ArrayList<>();
+        locationKeywords.add("sengkang");
+
+        List<String> flagList = new ArrayList<>();
+        flagList.add("occ/");
+
+        CarparkFilteringPredicate predicate = new CarparkFilteringPredicate(locationKeywords, flagList,
+                null, null, null, new LotsParameter(LotsParameter.NONE, 80));
+
+        // 79 of 100 lots taken
+        assertTrue(predicate.test(new CarparkBuilder().withLotsAvailable("21").withTotalLots("100")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build()));
+        // 80 of 100 lots taken
+        assertFalse(predicate.test(new CarparkBuilder().withLotsAvailable("20").withTotalLots("100")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build()));
+        // more lots available than total lots
+        assertTrue(predicate.test(new CarparkBuilder().withLotsAvailable("120").withTotalLots("100")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build()));
+        // no lots
+        assertFalse(predicate.test(new CarparkBuilder().withLotsAvailable("0").withTotalLots("0")
+                .withAddress("BLK 451 SENGKANG WEST WAY").build()));
+    }
+
+    @Test
+    public void getCacheKey_lotsFlags() {
+        List<String> locationKeywords = Collections.singletonList("sengkang");
+        CarparkFilteringPredicate atLeastFifty = new CarparkFilteringPredicate(locationKeywords,
+                new ArrayList<>(Collections.singletonList("lots/")), null, null, null, new LotsParameter(50, 80));
+        CarparkFilteringPredicate atLeastTen = new CarparkFilteringPredicate(locationKeywords,
+                new ArrayList<>(Collections.singletonList("lots/")), null, null, null, new LotsParameter(10, 80));
+        CarparkFilteringPredicate atLeastFiftyBelowNinety = new CarparkFilteringPredicate(locationKeywords,
+                new ArrayList<>(Arrays.asList("lots/", "occ/")), null, null, null, new LotsParameter(50, 90));
+
+        assertFalse(atLeastFifty.getCacheKey().equals(atLeastTen.getCacheKey()));
+        assertTrue(atLeastFifty.dependsOnLots());
+        assertTrue(atLeastFiftyBelowNinety.refines(atLeastFifty));
+        assertFalse(atLeastFiftyBelowNinety.refines(atLeastTen));
+    }
+
     @Test
     public void test_hasNoShortTermParking_returnsFalse() {
         List<String> locationKeywords = new ArrayList<>();
@@ -1,5 +1,6 @@
 package seedu.parking.model.carpark;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.parking.logic.commands.CommandTestUtil.VALID_ADDRESS_KILO;
@@ -109,4 +110,14 @@ public class CarparkTest {
         editedAlfa = new CarparkBuilder(ALFA).withTags(VALID_TAG_HOME).build();
         assertFalse(ALFA.equals(editedAlfa));
     }
+
+    @Test
+    public void getOccupancyRatio() {
+        assertEquals(0.75, new CarparkBuilder().withLotsAvailable("25").withTotalLots("100").build()
+                .getOccupancyRatio(), 0);
+        assertEquals(0, new CarparkBuilder().withLotsAvailable("120").withTotalLots("100").build()
+                .getOccupancyRatio(), 0);
+        assertEquals(0, new CarparkBuilder().withLotsAvailable("0").withTotalLots("0").build()
+                .getOccupancyRatio(), 0);
+    }
 }
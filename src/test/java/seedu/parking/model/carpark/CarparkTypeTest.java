@@ -1,6 +1,7 @@
 package seedu.parking.model.carpark;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -20,6 +21,16 @@ public class CarparkTypeTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new CarparkType(invalidCarparkType));
     }
 
+    @Test
+    public void of_invalidCarparkType_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> CarparkType.of(" "));
+    }
+
+    @Test
+    public void of_sameCarparkType_returnsSameInstance() {
+        assertSame(CarparkType.of("BASEMENT CAR PARK"), CarparkType.of(new String("BASEMENT CAR PARK")));
+    }
+
     @Test
     public void isValidCarType() {
         // null car park type
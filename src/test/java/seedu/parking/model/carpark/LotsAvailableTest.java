@@ -1,5 +1,6 @@
 package seedu.parking.model.carpark;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -38,4 +39,11 @@ public class LotsAvailableTest {
         assertTrue(LotsAvailable.isValidLotsAvailable("93121534"));
         assertTrue(LotsAvailable.isValidLotsAvailable("124293842033123")); // long numbers
     }
+
+    @Test
+    public void getCount() {
+        assertEquals(911, new LotsAvailable("911").getCount());
+        assertEquals(0, new LotsAvailable("000").getCount());
+        assertEquals(Integer.MAX_VALUE, new LotsAvailable("124293842033123").getCount()); // saturates
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.parking.model.tag;
 
+import static org.junit.Assert.assertSame;
+
 import org.junit.Test;
 
 import seedu.parking.testutil.Assert;
@@ -17,6 +19,11 @@ public class TagTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
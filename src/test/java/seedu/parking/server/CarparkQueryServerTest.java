@@ -0,0 +1,126 @@
+package seedu.parking.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.parking.testutil.TypicalCarparks.ALFA;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.testutil.TypicalCarparks.DELTA;
+import static seedu.parking.testutil.TypicalCarparks.KEYWORD_MATCHING_SENGKANG;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import javafx.collections.FXCollections;
+import seedu.parking.commons.core.EventsCenter;
+import seedu.parking.commons.core.Messages;
+import seedu.parking.commons.events.model.CarparkFinderChangedEvent;
+
+public class CarparkQueryServerTest {
+
+    private CarparkQueryServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new CarparkQueryServer(getTypicalCarparkFinder(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, 2);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void find_keywords_matchingCarparks() throws Exception {
+        JsonObject response = get("/find?keywords=" + KEYWORD_MATCHING_SENGKANG, 200);
+
+        assertEquals(2, response.get("count").getAsInt());
+        JsonArray carparks = response.getAsJsonArray("carparks");
+        assertEquals(BRAVO.getCarparkNumber().value,
+                carparks.get(0).getAsJsonObject().get("carparkNumber").getAsString());
+        assertEquals(DELTA.getCarparkNumber().value,
+                carparks.get(1).getAsJsonObject().get("carparkNumber").getAsString());
+    }
+
+    @Test
+    public void find_missingKeywords_badRequest() throws Exception {
+        JsonObject response = get("/find", 400);
+        assertEquals(String.format(CarparkQueryServer.MESSAGE_MISSING_PARAMETER, "keywords"),
+                response.get("error").getAsString());
+    }
+
+    @Test
+    public void filter_keywordsAndFlags_matchingCarparks() throws Exception {
+        JsonObject response = get("/filter?keywords=" + KEYWORD_MATCHING_SENGKANG + "&flags=ct/+multistorey", 200);
+        assertEquals(2, response.get("count").getAsInt());
+
+        get("/filter?keywords=" + KEYWORD_MATCHING_SENGKANG + "&flags=ct/+zzz", 400);
+    }
+
+    @Test
+    public void getCarpark_existingNumber_carparkReturned() throws Exception {
+        JsonObject response = get("/carpark/" + ALFA.getCarparkNumber().value.toLowerCase(), 200);
+        assertEquals(ALFA.getAddress().toString(), response.get("address").getAsString());
+
+        get("/carpark/ZZZ999", 404);
+    }
+
+    @Test
+    public void calculate_validParameters_costReturned() throws Exception {
+        JsonObject response = get("/calculate?carpark=" + ALFA.getCarparkNumber().value
+                + "&day=mon&start=8.00am&end=9.30am", 200);
+        assertEquals(1.80, response.get("cost").getAsDouble(), 0);
+        assertEquals(String.format(Messages.MESSAGE_COST_OF_PARKING, 1.80), response.get("result").getAsString());
+    }
+
+    @Test
+    public void find_afterCarparksChange_newCarparksServed() throws Exception {
+        EventsCenter.getInstance().post(new CarparkFinderChangedEvent(() ->
+                FXCollections.observableList(Collections.singletonList(ALFA))));
+
+        get("/carpark/" + BRAVO.getCarparkNumber().value, 404);
+        get("/carpark/" + ALFA.getCarparkNumber().value, 200);
+    }
+
+    @Test
+    public void close_stopsFollowingCarparkChanges() {
+        server.close();
+        assertFalse(EventsCenter.getInstance().getHandlerStats().containsKey(
+                "Consumer#" + CarparkFinderChangedEvent.class.getSimpleName()));
+    }
+
+    @Test
+    public void unknownEndpoint_notFound() throws Exception {
+        get("/nothing", 404);
+    }
+
+    /**
+     * Sends a GET for {@code path}, checks that it is answered with {@code expectedStatus} and returns the body.
+     */
+    private JsonObject get(String path, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://"
+                + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort() + path).openConnection();
+        assertEquals(expectedStatus, connection.getResponseCode());
+        try (InputStream body = expectedStatus < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return new JsonParser().parse(new InputStreamReader(body, StandardCharsets.UTF_8)).getAsJsonObject();
+        }
+    }
+}
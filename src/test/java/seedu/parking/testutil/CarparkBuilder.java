@@ -52,14 +52,14 @@ public class CarparkBuilder {
 
     public CarparkBuilder() {
         carparkNumber = new CarparkNumber(DEFAULT_CARPARK_NUMBER);
-        carparkType = new CarparkType(DEFAULT_CARPARK_TYPE);
+        carparkType = CarparkType.of(DEFAULT_CARPARK_TYPE);
         coordinate = new Coordinate(DEFAULT_COORDINATE);
-        freeParking = new FreeParking(DEFAULT_FREE_PARKING);
+        freeParking = FreeParking.of(DEFAULT_FREE_PARKING);
         lotsAvailable = new LotsAvailable(DEFAULT_LOTS_AVAILABLE);
-        nightParking = new NightParking(DEFAULT_NIGHT_PARKING);
-        shortTerm = new ShortTerm(DEFAULT_SHORT_TERM);
+        nightParking = NightParking.of(DEFAULT_NIGHT_PARKING);
+        shortTerm = ShortTerm.of(DEFAULT_SHORT_TERM);
         totalLots = new TotalLots(DEFAULT_TOTAL_LOTS);
-        typeOfParking = new TypeOfParking(DEFAULT_TYPE_OF_PARKING);
+        typeOfParking = TypeOfParking.of(DEFAULT_TYPE_OF_PARKING);
         address = new Address(DEFAULT_ADDRESS);
         postalCode = new PostalCode(DEFAULT_POSTALCODE);
         tags = new HashSet<>();
@@ -95,7 +95,7 @@ public class CarparkBuilder {
      * Sets the {@code CarparkType} of the {@code Carpark} that we are building.
      */
     public CarparkBuilder withCarparkType(String carparkType) {
-        this.carparkType = new CarparkType(carparkType);
+        this.carparkType = CarparkType.of(carparkType);
         return this;
     }
 
@@ -111,7 +111,7 @@ public class CarparkBuilder {
      * Sets the {@code FreeParking} of the {@code Carpark} that we are building.
      */
     public CarparkBuilder withFreeParking(String freeParking) {
-        this.freeParking = new FreeParking(freeParking);
+        this.freeParking = FreeParking.of(freeParking);
         return this;
     }
 
@@ -127,7 +127,7 @@ public class CarparkBuilder {
      * Sets the {@code NightParking} of the {@code Carpark} that we are building.
      */
     public CarparkBuilder withNightParking(String nightParking) {
-        this.nightParking = new NightParking(nightParking);
+        this.nightParking = NightParking.of(nightParking);
         return this;
     }
 
@@ -135,7 +135,7 @@ public class CarparkBuilder {
      * Sets the {@code ShortTerm} of the {@code Carpark} that we are building.
      */
     public CarparkBuilder withShortTerm(String shortTerm) {
-        this.shortTerm = new ShortTerm(shortTerm);
+        this.shortTerm = ShortTerm.of(shortTerm);
         return this;
     }
 
@@ -151,7 +151,7 @@ public class CarparkBuilder {
      * Sets the {@code TypeOfParking} of the {@code Carpark} that we are building.
      */
     public CarparkBuilder withTypeOfParking(String typeOfParking) {
-        this.typeOfParking = new TypeOfParking(typeOfParking);
+        this.typeOfParking = TypeOfParking.of(typeOfParking);
         return this;
     }
 
@@ -160,7 +160,7 @@ public class CarparkBuilder {
      */
     public CarparkBuilder withTags(String ... tags) {
         this.tags = Arrays.stream(tags)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
         return this;
     }
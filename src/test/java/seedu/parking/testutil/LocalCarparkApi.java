@@ -0,0 +1,137 @@
+package seedu.parking.testutil;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.parking.commons.util.GsonUtil;
+import seedu.parking.model.carpark.Carpark;
+
+/**
+ * Serves responses of the two data.gov.sg car park APIs from this machine, so that {@code query} can be run
+ * without network access and always reads the same car parks.
+ * Responses are either rendered from car parks or recorded from data.gov.sg into files.
+ */
+public class LocalCarparkApi implements AutoCloseable {
+
+    public static final String INFORMATION_PAGE_FILE_FORMAT = "carpark-information-%d.json";
+    public static final String AVAILABILITY_FILE = "carpark-availability.json";
+
+    private static final Pattern OFFSET_PATTERN = Pattern.compile("offset=(\\d+)");
+
+    private final Map<Integer, byte[]> informationPages;
+    private final byte[] availability;
+    private final HttpServer server;
+
+    /**
+     * Starts serving {@code informationPages}, the pages of car park information by their offset, and
+     * {@code availability}, on a free port of the loopback address.
+     */
+    public LocalCarparkApi(Map<Integer, String> informationPages, String availability) throws IOException {
+        requireNonNull(informationPages);
+        requireNonNull(availability);
+        this.informationPages = new TreeMap<>();
+        informationPages.forEach((offset, page) -> this.informationPages.put(offset,
+                page.getBytes(StandardCharsets.UTF_8)));
+        this.availability = availability.getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/carpark-information", this::handleInformation);
+        server.createContext("/carpark-availability", exchange -> respond(exchange, this.availability));
+        server.start();
+    }
+
+    /**
+     * Starts serving the responses that data.gov.sg would give for {@code carparks}.
+     */
+    public static LocalCarparkApi of(List<Carpark> carparks) throws IOException {
+        Map<Integer, String> pages = new TreeMap<>();
+        int offset = 0;
+        do {
+            pages.put(offset, SyntheticCarparkGenerator.toCarparkInformationPayload(carparks, offset));
+            offset += SyntheticCarparkGenerator.RECORDS_PER_PAGE;
+        } while (offset <= carparks.size());
+        return new LocalCarparkApi(pages, SyntheticCarparkGenerator.toAvailabilityPayload(carparks));
+    }
+
+    /**
+     * Starts serving responses recorded in {@code directory}: one {@link #INFORMATION_PAGE_FILE_FORMAT} file for each
+     * page of car park information, by its offset, and an {@link #AVAILABILITY_FILE}.
+     */
+    public static LocalCarparkApi fromDirectory(Path directory) throws IOException {
+        Map<Integer, String> pages = new TreeMap<>();
+        int offset = 0;
+        Path page = directory.resolve(String.format(INFORMATION_PAGE_FILE_FORMAT, offset));
+        while (Files.exists(page)) {
+            pages.put(offset, new String(Files.readAllBytes(page), StandardCharsets.UTF_8));
+            offset += SyntheticCarparkGenerator.RECORDS_PER_PAGE;
+            page = directory.resolve(String.format(INFORMATION_PAGE_FILE_FORMAT, offset));
+        }
+        String availability = new String(Files.readAllBytes(directory.resolve(AVAILABILITY_FILE)),
+                StandardCharsets.UTF_8);
+        return new LocalCarparkApi(pages, availability);
+    }
+
+    private void handleInformation(HttpExchange exchange) throws IOException {
+        Matcher matcher = OFFSET_PATTERN.matcher(String.valueOf(exchange.getRequestURI().getQuery()));
+        byte[] page = matcher.find() ? informationPages.get(Integer.parseInt(matcher.group(1))) : null;
+        if (page == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        respond(exchange, page);
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    public String getCarparkInformationUrl() {
+        return "http://" + getAuthority() + "/carpark-information?limit="
+                + SyntheticCarparkGenerator.RECORDS_PER_PAGE + "&offset=";
+    }
+
+    public String getCarparkAvailabilityUrl() {
+        return "http://" + getAuthority() + "/carpark-availability";
+    }
+
+    private String getAuthority() {
+        return server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Makes {@code GsonUtil} fetch car parks from this server until {@link #close()}.
+     */
+    public LocalCarparkApi install() {
+        GsonUtil.setApiUrls(getCarparkInformationUrl(), getCarparkAvailabilityUrl());
+        return this;
+    }
+
+    /**
+     * Stops the server and makes {@code GsonUtil} fetch car parks from data.gov.sg again.
+     */
+    @Override
+    public void close() {
+        GsonUtil.resetApiUrls();
+        server.stop(0);
+    }
+}
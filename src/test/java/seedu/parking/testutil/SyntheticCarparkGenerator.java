@@ -0,0 +1,223 @@
+package seedu.parking.testutil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import javax.xml.bind.JAXBException;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import javafx.collections.FXCollections;
+import seedu.parking.commons.util.FileUtil;
+import seedu.parking.commons.util.XmlUtil;
+import seedu.parking.model.carpark.Address;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.CarparkNumber;
+import seedu.parking.model.carpark.CarparkType;
+import seedu.parking.model.carpark.Coordinate;
+import seedu.parking.model.carpark.FreeParking;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.NightParking;
+import seedu.parking.model.carpark.PostalCode;
+import seedu.parking.model.carpark.ShortTerm;
+import seedu.parking.model.carpark.TotalLots;
+import seedu.parking.model.carpark.TypeOfParking;
+import seedu.parking.storage.XmlSerializableCarparkFinder;
+
+/**
+ * Generates car parks that look like those from data.gov.sg, in any number, for scale and performance tests.
+ * The same seed always gives the same car parks. Car parks are spread around the HDB towns they are named after,
+ * and can be written as a data file or as the payloads of both data.gov.sg APIs that {@code query} reads.
+ */
+public class SyntheticCarparkGenerator {
+
+    public static final long DEFAULT_SEED = 2103;
+
+    /** The number of records in each page of the car park information API. */
+    public static final int RECORDS_PER_PAGE = 2000;
+
+    /** Name, car park number prefix, first two digits of postal codes, and SVY21 x and y of its centre. */
+    private static final Object[][] TOWNS = {
+        {"ANG MO KIO", "AM", 56, 29800, 38900}, {"BEDOK", "BE", 46, 38900, 33500},
+        {"BISHAN", "BS", 57, 29500, 36600}, {"BUKIT BATOK", "BB", 65, 18900, 37200},
+        {"BUKIT MERAH", "BM", 15, 26000, 29500}, {"BUKIT PANJANG", "BP", 67, 19600, 40400},
+        {"CHOA CHU KANG", "CK", 68, 17700, 41100}, {"CLEMENTI", "C", 12, 20300, 33000},
+        {"GEYLANG", "GL", 38, 33700, 32700}, {"HOUGANG", "HG", 53, 34500, 39000},
+        {"JURONG EAST", "JE", 60, 17700, 35400}, {"JURONG WEST", "JW", 64, 13400, 35900},
+        {"KALLANG", "KB", 33, 31700, 32300}, {"PASIR RIS", "PR", 51, 40700, 39200},
+        {"PUNGGOL", "PL", 82, 35600, 42300}, {"QUEENSTOWN", "Q", 14, 24300, 31300},
+        {"SEMBAWANG", "SB", 75, 26700, 48300}, {"SENGKANG", "SK", 54, 34900, 41100},
+        {"SERANGOON", "SE", 55, 32200, 38300}, {"TAMPINES", "TM", 52, 41200, 36700},
+        {"TOA PAYOH", "TP", 31, 30100, 34700}, {"WOODLANDS", "W", 73, 23300, 46300},
+        {"YISHUN", "Y", 76, 28800, 45400}
+    };
+    private static final String[] STREET_KINDS = {"AVE", "ST", "DR", "RD", "CRES", "CTRL", "NTH", "STH", "CL"};
+
+    private static final String[] CARPARK_TYPES = {"MULTI-STOREY CAR PARK", "SURFACE CAR PARK",
+        "BASEMENT CAR PARK", "COVERED CAR PARK", "MECHANISED AND SURFACE CAR PARK", "SURFACE/MULTI-STOREY CAR PARK"};
+    private static final int[] CARPARK_TYPE_WEIGHTS = {50, 35, 5, 4, 2, 4};
+
+    private static final String[] FREE_PARKING = {"SUN & PH FR 7AM-10.30PM", "NO", "SUN & PH FR 1PM-10.30PM"};
+    private static final int[] FREE_PARKING_WEIGHTS = {70, 25, 5};
+
+    private static final String[] SHORT_TERM = {"WHOLE DAY", "7AM-10.30PM", "7AM-7PM", "NO"};
+    private static final int[] SHORT_TERM_WEIGHTS = {80, 10, 4, 6};
+
+    private static final String[] PARKING_SYSTEMS = {"ELECTRONIC PARKING", "COUPON PARKING"};
+    private static final int[] PARKING_SYSTEM_WEIGHTS = {85, 15};
+
+    private final long seed;
+
+    public SyntheticCarparkGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public SyntheticCarparkGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns {@code count} distinct car parks. The first {@code n} car parks are the same for any {@code count}.
+     */
+    public List<Carpark> generate(int count) {
+        Random random = new Random(seed);
+        int[] numbersUsed = new int[TOWNS.length];
+        List<Carpark> carparks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int town = random.nextInt(TOWNS.length);
+            numbersUsed[town]++;
+            carparks.add(generateCarpark(random, town, numbersUsed[town]));
+        }
+        return carparks;
+    }
+
+    private Carpark generateCarpark(Random random, int town, int sequence) {
+        String townName = (String) TOWNS[town][0];
+        String number = TOWNS[town][1] + String.valueOf(sequence);
+        int block = 1 + random.nextInt(999);
+        String blockSuffix = random.nextInt(8) == 0 ? String.valueOf((char) ('A' + random.nextInt(4))) : "";
+        String address = "BLK " + block + blockSuffix + " " + townName + " "
+                + STREET_KINDS[random.nextInt(STREET_KINDS.length)] + " " + (1 + random.nextInt(12));
+        // SVY21 metres, normally spread about 1.2km around the centre of the town
+        double x = (int) TOWNS[town][3] + random.nextGaussian() * 1200;
+        double y = (int) TOWNS[town][4] + random.nextGaussian() * 1200;
+        String postalCode = String.format("%02d%04d", (int) TOWNS[town][2], random.nextInt(10000));
+
+        // most car parks have a few hundred lots, and a few have over a thousand
+        int totalLots = (int) Math.min(2000, Math.round(Math.exp(5.5 + random.nextGaussian() * 0.7)));
+        int lotsAvailable = (int) Math.round(totalLots * Math.pow(random.nextDouble(), 1.5));
+
+        return new Carpark(new Address(address), new CarparkNumber(number),
+                CarparkType.of(pick(random, CARPARK_TYPES, CARPARK_TYPE_WEIGHTS)),
+                new Coordinate(String.format(Locale.ROOT, "%.4f, %.4f", Math.max(0, x), Math.max(0, y))),
+                FreeParking.of(pick(random, FREE_PARKING, FREE_PARKING_WEIGHTS)),
+                new LotsAvailable(String.valueOf(lotsAvailable)),
+                NightParking.of(random.nextInt(10) < 8 ? "YES" : "NO"),
+                ShortTerm.of(pick(random, SHORT_TERM, SHORT_TERM_WEIGHTS)),
+                new TotalLots(String.valueOf(totalLots)),
+                TypeOfParking.of(pick(random, PARKING_SYSTEMS, PARKING_SYSTEM_WEIGHTS)),
+                new PostalCode(postalCode), Collections.emptySet());
+    }
+
+    private static String pick(Random random, String[] values, int[] weights) {
+        int totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
+        }
+        int chosen = random.nextInt(totalWeight);
+        for (int i = 0; i < values.length; i++) {
+            chosen -= weights[i];
+            if (chosen < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * Writes {@code carparks} to {@code file} as a car park finder data file.
+     * The car parks are not checked for duplicates, so that large data files are written quickly.
+     */
+    public static void writeDataFile(List<Carpark> carparks, Path file) throws IOException, JAXBException {
+        FileUtil.createIfMissing(file);
+        XmlUtil.saveDataToFile(file, new XmlSerializableCarparkFinder(() ->
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(carparks))));
+    }
+
+    /**
+     * Returns the page at {@code offset} of the car park information API for {@code carparks}, with at most
+     * {@link #RECORDS_PER_PAGE} records. A page with fewer records is the last.
+     */
+    public static String toCarparkInformationPayload(List<Carpark> carparks, int offset) {
+        JsonArray records = new JsonArray();
+        int end = Math.min(carparks.size(), offset + RECORDS_PER_PAGE);
+        for (int i = offset; i < end; i++) {
+            Carpark carpark = carparks.get(i);
+            String[] coordinates = carpark.getCoordinate().toString().split(",\\s");
+            JsonObject record = new JsonObject();
+            record.addProperty("_id", i + 1);
+            record.addProperty("car_park_no", carpark.getCarparkNumber().toString());
+            record.addProperty("address", carpark.getAddress().toString());
+            record.addProperty("x_coord", coordinates[0]);
+            record.addProperty("y_coord", coordinates[1]);
+            record.addProperty("car_park_type", carpark.getCarparkType().toString());
+            record.addProperty("type_of_parking_system", carpark.getTypeOfParking().toString());
+            record.addProperty("short_term_parking", carpark.getShortTerm().toString());
+            record.addProperty("free_parking", carpark.getFreeParking().toString());
+            record.addProperty("night_parking", carpark.getNightParking().toString());
+            record.addProperty("car_park_decks", "1");
+            record.addProperty("gantry_height", "2.15");
+            record.addProperty("car_park_basement", "N");
+            records.add(record);
+        }
+
+        JsonObject result = new JsonObject();
+        result.addProperty("resource_id", "139a3035-e624-4f56-b63f-89ae28d4ae4c");
+        result.add("records", records);
+        result.addProperty("offset", offset);
+        result.addProperty("limit", RECORDS_PER_PAGE);
+        result.addProperty("total", carparks.size());
+
+        JsonObject payload = new JsonObject();
+        payload.addProperty("success", true);
+        payload.add("result", result);
+        return payload.toString();
+    }
+
+    /**
+     * Returns the response of the car park availability API for {@code carparks}.
+     */
+    public static String toAvailabilityPayload(List<Carpark> carparks) {
+        JsonArray carparkData = new JsonArray();
+        for (Carpark carpark : carparks) {
+            JsonObject info = new JsonObject();
+            info.addProperty("total_lots", carpark.getTotalLots().toString());
+            info.addProperty("lot_type", "C");
+            info.addProperty("lots_available", carpark.getLotsAvailable().toString());
+            JsonArray infoArray = new JsonArray();
+            infoArray.add(info);
+
+            JsonObject data = new JsonObject();
+            data.add("carpark_info", infoArray);
+            data.addProperty("carpark_number", carpark.getCarparkNumber().toString());
+            data.addProperty("update_datetime", "2018-11-01T12:00:00");
+            carparkData.add(data);
+        }
+
+        JsonObject item = new JsonObject();
+        item.addProperty("timestamp", "2018-11-01T12:00:27+08:00");
+        item.add("carpark_data", carparkData);
+        JsonArray items = new JsonArray();
+        items.add(item);
+
+        JsonObject payload = new JsonObject();
+        payload.add("items", items);
+        return payload.toString();
+    }
+}
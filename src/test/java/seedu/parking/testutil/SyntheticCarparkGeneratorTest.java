@@ -0,0 +1,76 @@
+package seedu.parking.testutil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.parking.model.carpark.Address;
+import seedu.parking.model.carpark.Carpark;
+import seedu.parking.model.carpark.CarparkNumber;
+import seedu.parking.model.carpark.CarparkType;
+import seedu.parking.model.carpark.Coordinate;
+import seedu.parking.model.carpark.FreeParking;
+import seedu.parking.model.carpark.LotsAvailable;
+import seedu.parking.model.carpark.NightParking;
+import seedu.parking.model.carpark.PostalCode;
+import seedu.parking.model.carpark.ShortTerm;
+import seedu.parking.model.carpark.TotalLots;
+import seedu.parking.model.carpark.TypeOfParking;
+
+public class SyntheticCarparkGeneratorTest {
+
+    private static final int COUNT = 5000;
+
+    @Test
+    public void generate_sameSeed_sameCarparks() {
+        assertEquals(new SyntheticCarparkGenerator(7).generate(COUNT),
+                new SyntheticCarparkGenerator(7).generate(COUNT));
+        assertEquals(new SyntheticCarparkGenerator().generate(COUNT),
+                new SyntheticCarparkGenerator(SyntheticCarparkGenerator.DEFAULT_SEED).generate(COUNT));
+
+        // first car parks do not depend on the count
+        assertEquals(new SyntheticCarparkGenerator(7).generate(100),
+                new SyntheticCarparkGenerator(7).generate(COUNT).subList(0, 100));
+
+        assertNotEquals(new SyntheticCarparkGenerator(7).generate(100),
+                new SyntheticCarparkGenerator(8).generate(100));
+    }
+
+    @Test
+    public void generate_fieldsParseAsValidCarparks() {
+        List<Carpark> carparks = new SyntheticCarparkGenerator().generate(COUNT);
+        Set<CarparkNumber> carparkNumbers = new HashSet<>();
+        for (Carpark carpark : carparks) {
+            String address = carpark.getAddress().toString();
+            String carparkNumber = carpark.getCarparkNumber().toString();
+            String coordinate = carpark.getCoordinate().toString();
+            String lotsAvailable = carpark.getLotsAvailable().toString();
+            String totalLots = carpark.getTotalLots().toString();
+            String postalCode = carpark.getPostalCode().toString();
+            assertTrue(address, Address.isValidAddress(address));
+            assertTrue(carparkNumber, CarparkNumber.isValidCarparkNumber(carparkNumber));
+            assertTrue(coordinate, Coordinate.isValidCoordinate(coordinate));
+            assertTrue(lotsAvailable, LotsAvailable.isValidLotsAvailable(lotsAvailable));
+            assertTrue(totalLots, TotalLots.isValidTotalLots(totalLots));
+            assertTrue(postalCode, PostalCode.isValidPostalCode(postalCode));
+            assertTrue(carpark.getLotsAvailable().getCount() <= carpark.getTotalLots().getCount());
+
+            // parsed back from its fields the way query does
+            Carpark parsed = new Carpark(new Address(address), new CarparkNumber(carparkNumber),
+                    CarparkType.of(carpark.getCarparkType().toString()), new Coordinate(coordinate),
+                    FreeParking.of(carpark.getFreeParking().toString()), new LotsAvailable(lotsAvailable),
+                    NightParking.of(carpark.getNightParking().toString()),
+                    ShortTerm.of(carpark.getShortTerm().toString()), new TotalLots(totalLots),
+                    TypeOfParking.of(carpark.getTypeOfParking().toString()), new PostalCode(postalCode), null);
+            assertEquals(carpark, parsed);
+
+            assertTrue(carparkNumber, carparkNumbers.add(carpark.getCarparkNumber()));
+        }
+    }
+}
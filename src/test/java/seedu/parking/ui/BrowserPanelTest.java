@@ -2,23 +2,27 @@ package seedu.parking.ui;
 
 import static guitests.guihandles.WebViewUtil.waitUntilBrowserLoaded;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.parking.testutil.EventsUtil.postNow;
 import static seedu.parking.testutil.TypicalCarparks.ALFA;
+import static seedu.parking.testutil.TypicalCarparks.BRAVO;
+import static seedu.parking.ui.BrowserPanel.CARPARKS_PER_CHUNK;
 import static seedu.parking.ui.BrowserPanel.DEFAULT_PAGE;
-import static seedu.parking.ui.BrowserPanel.SEARCH_PAGE_URL;
+import static seedu.parking.ui.BrowserPanel.MAP_PAGE;
 import static seedu.parking.ui.UiPart.FXML_FILE_FOLDER;
 
 import java.net.URL;
-import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
-import com.google.gson.JsonArray;
-
 import guitests.guihandles.BrowserPanelHandle;
 import seedu.parking.MainApp;
 import seedu.parking.commons.events.ui.CarparkPanelSelectionChangedEvent;
+import seedu.parking.commons.events.ui.FindResultChangedEvent;
+import seedu.parking.model.carpark.Carpark;
 
 public class BrowserPanelTest extends GuiUnitTest {
     private CarparkPanelSelectionChangedEvent selectionChangedEventStub;
@@ -42,14 +46,37 @@ public class BrowserPanelTest extends GuiUnitTest {
         URL expectedDefaultPageUrl = MainApp.class.getResource(FXML_FILE_FOLDER + DEFAULT_PAGE);
         assertEquals(expectedDefaultPageUrl, browserPanelHandle.getLoadedUrl());
 
-        // associated web page of a car park
+        // map page with the selected car park
         postNow(selectionChangedEventStub);
-        JsonArray arr = new JsonArray();
-        arr.add(ALFA.getCarparkNumber().value);
-        URL expectedCarparkUrl = new URL(SEARCH_PAGE_URL + "jsonArr="
-                + URLEncoder.encode(arr.toString(), "UTF-8").replaceAll(" ", "%20"));
+        URL expectedMapPageUrl = MainApp.class.getResource(FXML_FILE_FOLDER + MAP_PAGE);
 
         waitUntilBrowserLoaded(browserPanelHandle);
-        assertEquals(expectedCarparkUrl, browserPanelHandle.getLoadedUrl());
+        assertEquals(expectedMapPageUrl, browserPanelHandle.getLoadedUrl());
+        assertEquals(ALFA.getCarparkNumber().value, browserPanelHandle.getSelectedCarparkNumber());
+
+        // new results are sent to the loaded map page without reloading it
+        browserPanelHandle.rememberUrl();
+        postNow(new FindResultChangedEvent(new Carpark[] {ALFA, BRAVO}));
+        assertEquals(expectedMapPageUrl, browserPanelHandle.getLoadedUrl());
+        assertEquals("[\"" + ALFA.getCarparkNumber().value + "\",\"" + BRAVO.getCarparkNumber().value + "\"]",
+                browserPanelHandle.getDisplayedCarparkNumbers());
+        assertEquals("", browserPanelHandle.getSelectedCarparkNumber());
+        assertTrue(browserPanelHandle.isUrlChanged());
+    }
+
+    @Test
+    public void toMapScripts() {
+        // no car parks -> map is cleared
+        assertEquals(Arrays.asList("carparkMap.begin();", "carparkMap.end();"), BrowserPanel.toMapScripts(
+                new Carpark[] {}));
+
+        // more car parks than fit in a chunk -> sent in several chunks
+        Carpark[] carparks = new Carpark[CARPARKS_PER_CHUNK + 1];
+        Arrays.fill(carparks, ALFA);
+        List<String> scripts = BrowserPanel.toMapScripts(carparks);
+        assertEquals(4, scripts.size());
+        assertTrue(scripts.get(1).startsWith("carparkMap.add([[\"" + ALFA.getCarparkNumber().value + "\","));
+        assertTrue(scripts.get(2).startsWith("carparkMap.add([[\"" + ALFA.getCarparkNumber().value + "\","));
+        assertEquals("carparkMap.end();", scripts.get(3));
     }
 }
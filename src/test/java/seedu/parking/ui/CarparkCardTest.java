@@ -28,6 +28,22 @@ public class CarparkCardTest extends GuiUnitTest {
         assertCardDisplay(carparkCard, carparkWithTags, 2);
     }
 
+    @Test
+    public void setCarpark_reusedCard_displaysLatestCarpark() {
+        CarparkCard carparkCard = new CarparkCard();
+        uiPartRule.setUiPart(carparkCard);
+
+        Carpark carparkWithTags = new CarparkBuilder().withTags("Home", "Office").build();
+        guiRobot.interact(() -> carparkCard.setCarpark(carparkWithTags, 1));
+        assertCardDisplay(carparkCard, carparkWithTags, 1);
+
+        // tags of the previous car park are not carried over
+        Carpark carparkWithNoTags = new CarparkBuilder().withCarparkNumber("B2").withTags(new String[0]).build();
+        guiRobot.interact(() -> carparkCard.setCarpark(carparkWithNoTags, 5));
+        assertCardDisplay(carparkCard, carparkWithNoTags, 5);
+        assertEquals(carparkWithNoTags, carparkCard.getCarpark());
+    }
+
     @Test
     public void equals() {
         Carpark carpark = new CarparkBuilder().build();
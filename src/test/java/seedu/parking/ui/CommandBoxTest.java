@@ -3,11 +3,12 @@ package seedu.parking.ui;
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
 import static seedu.parking.commons.core.Messages.MESSAGE_INVALID_COMMAND_FOR_AUTOCOMPLETE;
-import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND;
+import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND;
 import static seedu.parking.commons.core.Messages.MESSAGE_UNCERTAIN_FIND_OR_FILTER_COMMAND;
 import static seedu.parking.logic.commands.CalculateCommand.FIRST_ARG;
 import static seedu.parking.logic.commands.FilterCommand.CARPARKTYPE_ARG;
 import static seedu.parking.logic.commands.FilterCommand.FREEPARKING_FIRST_ARG;
+import static seedu.parking.testutil.TypicalCarparks.getTypicalCarparkFinder;
 
 import java.util.ArrayList;
 
@@ -31,6 +32,7 @@ import seedu.parking.logic.commands.SelectCommand;
 import seedu.parking.logic.parser.exceptions.ParseException;
 import seedu.parking.model.Model;
 import seedu.parking.model.ModelManager;
+import seedu.parking.model.UserPrefs;
 
 
 
@@ -52,7 +54,7 @@ public class CommandBoxTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        Model model = new ModelManager();
+        Model model = new ModelManager(getTypicalCarparkFinder(), new UserPrefs());
         Logic logic = new LogicManager(model);
 
         ResultDisplay resultDisplay = new ResultDisplay();
@@ -171,11 +173,24 @@ public class CommandBoxTest extends GuiUnitTest {
         assertAutoCompleteCalculate_substitute_first();
     }
 
+    @Test
+    public void autoComplete_carparkWord() throws Exception {
+        // a find keyword can be an address word or a car park number
+        commandBoxHandle.load(FindCommand.COMMAND_WORD + " se");
+        commandBox.autoComplete();
+        assertEquals(FindCommand.COMMAND_WORD + " sengkang", commandBoxHandle.getInput());
+
+        // the car park of calculate can only be a car park number
+        commandBoxHandle.load(CalculateCommand.COMMAND_WORD + " se");
+        commandBox.autoComplete();
+        assertEquals(CalculateCommand.COMMAND_WORD + " se39", commandBoxHandle.getInput());
+    }
+
     @Test
     public void autoComplete_ambiguous_commandC() throws Exception {
         thrown.expect(ParseException.class);
         thrown.expectMessage(String.format("%s\n%s",
-            MESSAGE_INVALID_COMMAND_FOR_AUTOCOMPLETE, MESSAGE_UNCERTAIN_CLEAR_OR_CALCULATE_COMMAND));
+            MESSAGE_INVALID_COMMAND_FOR_AUTOCOMPLETE, MESSAGE_UNCERTAIN_CLEAR_CALCULATE_OR_CHEAPEST_COMMAND));
         commandBoxHandle.load("c");
         commandBox.autoComplete();
     }
@@ -0,0 +1,39 @@
+package seedu.parking.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class FrameTimeMonitorTest extends GuiUnitTest {
+
+    @Test
+    public void record_noFrames_returnsZeroes() {
+        FrameTimeMonitor monitor = new FrameTimeMonitor();
+        assertEquals(0, monitor.getFrameCount());
+        assertEquals(0, monitor.getAverageFrameMillis(), 0);
+        assertEquals(0, monitor.getPercentileFrameMillis(99));
+    }
+
+    @Test
+    public void record_frames_statisticsUpdated() {
+        FrameTimeMonitor monitor = new FrameTimeMonitor();
+        for (int i = 0; i < 98; i++) {
+            monitor.record(TimeUnit.MILLISECONDS.toNanos(16));
+        }
+        monitor.record(TimeUnit.MILLISECONDS.toNanos(50));
+        monitor.record(TimeUnit.SECONDS.toNanos(5));
+
+        assertEquals(100, monitor.getFrameCount());
+        assertEquals(2, monitor.getSlowFrameCount());
+        assertEquals(16, monitor.getPercentileFrameMillis(50));
+        assertEquals(50, monitor.getPercentileFrameMillis(99));
+        assertEquals(1000, monitor.getPercentileFrameMillis(100)); // longest frames share the last bucket
+        assertEquals(5000, monitor.getMaxFrameMillis(), 0);
+
+        monitor.reset();
+        assertEquals(0, monitor.getFrameCount());
+        assertEquals(0, monitor.getMaxFrameMillis(), 0);
+    }
+}
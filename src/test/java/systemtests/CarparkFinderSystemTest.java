@@ -5,17 +5,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.parking.ui.BrowserPanel.DEFAULT_PAGE;
-import static seedu.parking.ui.BrowserPanel.SEARCH_PAGE_URL;
+import static seedu.parking.ui.BrowserPanel.MAP_PAGE;
 import static seedu.parking.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.parking.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 import static seedu.parking.ui.UiPart.FXML_FILE_FOLDER;
 import static seedu.parking.ui.testutil.GuiTestAssert.assertListMatching;
 
-import java.io.UnsupportedEncodingException;
-import java.net.MalformedURLException;
 import java.net.URL;
-
-import java.net.URLEncoder;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -213,81 +209,50 @@ public abstract class CarparkFinderSystemTest {
     }
 
     /**
-     * Asserts that the browser's url is changed to display the details of the car park in the car park list panel at
+     * Asserts that the browser's map page is changed to highlight the car park in the car park list panel at
      * {@code expectedSelectedCardIndex}, and only the card at {@code expectedSelectedCardIndex} is selected.
      * @see BrowserPanelHandle#isUrlChanged()
      * @see CarparkListPanelHandle#isSelectedCarparkCardChanged()
      */
     protected void assertSelectedCardChanged(Index expectedSelectedCardIndex) {
         getCarparkListPanel().navigateToCard(getCarparkListPanel().getSelectedCardIndex());
-        String selectedCardCarparkNumber = null;
-        try {
-            JsonArray arr = new JsonArray();
-            arr.add(getCarparkListPanel().getHandleToSelectedCard().getCarparkNumber());
-            selectedCardCarparkNumber = URLEncoder.encode(arr.toString(), "UTF-8");
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
-        }
-        URL expectedUrl;
-        try {
-            expectedUrl = new URL(SEARCH_PAGE_URL + "jsonArr=" + selectedCardCarparkNumber);
-        } catch (MalformedURLException mue) {
-            throw new AssertionError("URL expected to be valid.", mue);
-        }
-        assertEquals(expectedUrl, getBrowserPanel().getLoadedUrl());
+        String selectedCardCarparkNumber = getCarparkListPanel().getHandleToSelectedCard().getCarparkNumber();
+
+        assertEquals(getMapPageUrl(), getBrowserPanel().getLoadedUrl());
+        assertEquals(selectedCardCarparkNumber, getBrowserPanel().getSelectedCarparkNumber());
 
         assertEquals(expectedSelectedCardIndex.getZeroBased(), getCarparkListPanel().getSelectedCardIndex());
     }
 
     /**
-     * Asserts that the browser's url is changed to display the details of the car park in the car park list panel at
-     * {@code expectedSelectedCardIndex}, and only the card at {@code expectedSelectedCardIndex} is selected.
+     * Asserts that the browser's map page is changed to show exactly {@code carparks}, in order.
      * @see BrowserPanelHandle#isUrlChanged()
-     * @see CarparkListPanelHandle#isSelectedCarparkCardChanged()
      */
-    protected void assertSelectedCardChangedMulti(Carpark[] carprks) {
-        String selectedCardCarparkNumber = null;
-        try {
-            JsonArray arr = new JsonArray();
-            for (Carpark cp : carprks) {
-                arr.add(cp.getCarparkNumber().value);
-            }
-            selectedCardCarparkNumber = URLEncoder.encode(arr.toString(), "UTF-8");
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
+    protected void assertSelectedCardChangedMulti(Carpark[] carparks) {
+        JsonArray expectedNumbers = new JsonArray();
+        for (Carpark carpark : carparks) {
+            expectedNumbers.add(carpark.getCarparkNumber().value);
         }
-        URL expectedUrl;
-        try {
-            expectedUrl = new URL(SEARCH_PAGE_URL + "jsonArr=" + selectedCardCarparkNumber);
-        } catch (MalformedURLException mue) {
-            throw new AssertionError("URL expected to be valid.", mue);
-        }
-        assertEquals(expectedUrl, getBrowserPanel().getLoadedUrl());
+
+        assertEquals(getMapPageUrl(), getBrowserPanel().getLoadedUrl());
+        assertEquals(expectedNumbers.toString(), getBrowserPanel().getDisplayedCarparkNumbers());
     }
 
     /**
-     * Asserts that the browser's url is changed to display the details of the car park in the car park list panel at
-     * {@code expectedSelectedCardIndex}, and only the card at {@code expectedSelectedCardIndex} is selected.
+     * Asserts that the browser's map page is changed to highlight the car park in the car park list panel at
+     * {@code expectedSelectedCardIndex}.
      * @see BrowserPanelHandle#isUrlChanged()
-     * @see CarparkListPanelHandle#isSelectedCarparkCardChanged()
      */
     protected void assertSelectedCardChangedSingle(Index expectedSelectedCardIndex) {
-        getCarparkListPanel().navigateToCard(getCarparkListPanel().getSelectedCardIndex());
-        String selectedCardCarparkNumber = null;
-        try {
-            JsonArray arr = new JsonArray();
-            arr.add(getCarparkListPanel().getHandleToSelectedCard().getCarparkNumber());
-            selectedCardCarparkNumber = URLEncoder.encode(arr.toString(), "UTF-8");
-        } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
-        }
-        URL expectedUrl;
-        try {
-            expectedUrl = new URL(SEARCH_PAGE_URL + "json=" + selectedCardCarparkNumber);
-        } catch (MalformedURLException mue) {
-            throw new AssertionError("URL expected to be valid.", mue);
-        }
-        assertEquals(expectedUrl, getBrowserPanel().getLoadedUrl());
+        getCarparkListPanel().navigateToCard(expectedSelectedCardIndex.getZeroBased());
+        String selectedCardCarparkNumber = getCarparkListPanel().getHandleToSelectedCard().getCarparkNumber();
+
+        assertEquals(getMapPageUrl(), getBrowserPanel().getLoadedUrl());
+        assertEquals(selectedCardCarparkNumber, getBrowserPanel().getSelectedCarparkNumber());
+    }
+
+    private URL getMapPageUrl() {
+        return MainApp.class.getResource(FXML_FILE_FOLDER + MAP_PAGE);
     }
 
     /**
@@ -5,7 +5,6 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.parking.testutil.TypicalIndexes.INDEX_FIRST_CARPARK;
-import static seedu.parking.ui.BrowserPanel.MAIN_PAGE;
 import static seedu.parking.ui.testutil.GuiTestAssert.assertListMatching;
 
 import org.junit.Test;
@@ -15,6 +14,7 @@ import guitests.guihandles.HelpWindowHandle;
 import seedu.parking.logic.commands.ClearCommand;
 import seedu.parking.logic.commands.HelpCommand;
 import seedu.parking.logic.commands.SelectCommand;
+import seedu.parking.model.carpark.Carpark;
 import seedu.parking.ui.StatusBarFooter;
 
 /**
@@ -64,7 +64,8 @@ public class HelpCommandSystemTest extends CarparkFinderSystemTest {
         assertEquals("", getCommandBox().getInput());
         assertCommandBoxShowsDefaultStyle();
         assertNotEquals(HelpCommand.SHOWING_HELP_MESSAGE, getResultDisplay().getText());
-        assertNotEquals(MAIN_PAGE, getBrowserPanel().getLoadedUrl());
+        Carpark selectedCarpark = getModel().getFilteredCarparkList().get(INDEX_FIRST_CARPARK.getZeroBased());
+        assertEquals(selectedCarpark.getCarparkNumber().value, getBrowserPanel().getSelectedCarparkNumber());
         assertListMatching(getCarparkListPanel(), getModel().getFilteredCarparkList());
 
         // assert that the status bar too is updated correctly while the help window is open